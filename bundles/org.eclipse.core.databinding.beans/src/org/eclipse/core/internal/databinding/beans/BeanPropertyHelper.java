@@ -21,11 +21,16 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.util.Policy;
@@ -37,6 +42,26 @@ import org.eclipse.core.runtime.Status;
  *
  */
 public class BeanPropertyHelper {
+	private static final MethodType READ_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * Method handles of the accessor methods used so far, per declaring class.
+	 * Invoking a method handle is much cheaper than {@link Method#invoke},
+	 * which matters when a property is read for thousands of beans, e.g. in a
+	 * table. Methods which cannot be unreflected map to {@link #NO_HANDLE} and
+	 * are invoked reflectively.
+	 */
+	private static final ClassValue<Map<Method, MethodHandle>> accessorHandles = new ClassValue<>() {
+		@Override
+		protected Map<Method, MethodHandle> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final MethodHandle NO_HANDLE = MethodHandles.constant(Object.class, null);
+
 	/**
 	 * Sets the contents of the given property on the given source object to the
 	 * given value.
@@ -50,8 +75,20 @@ public class BeanPropertyHelper {
 	 */
 	public static void writeProperty(Object source,
 			PropertyDescriptor propertyDescriptor, Object value) {
+		Method writeMethod = propertyDescriptor.getWriteMethod();
+		if (writeMethod != null && writeMethod.getDeclaringClass().isInstance(source)
+				&& isAssignable(writeMethod.getParameterTypes()[0], value)) {
+			MethodHandle handle = getAccessorHandle(writeMethod, WRITE_TYPE);
+			if (handle != NO_HANDLE) {
+				try {
+					handle.invokeExact(source, value);
+				} catch (Throwable e) {
+					throw new RuntimeException(e);
+				}
+				return;
+			}
+		}
 		try {
-			Method writeMethod = propertyDescriptor.getWriteMethod();
 			if (null == writeMethod) {
 				throw new IllegalArgumentException(
 						"Missing public setter method for " //$NON-NLS-1$
@@ -86,8 +123,18 @@ public class BeanPropertyHelper {
 	 */
 	public static Object readProperty(Object source,
 			PropertyDescriptor propertyDescriptor) {
+		Method readMethod = propertyDescriptor.getReadMethod();
+		if (readMethod != null && readMethod.getDeclaringClass().isInstance(source)) {
+			MethodHandle handle = getAccessorHandle(readMethod, READ_TYPE);
+			if (handle != NO_HANDLE) {
+				try {
+					return handle.invokeExact(source);
+				} catch (Throwable e) {
+					throw new RuntimeException(e);
+				}
+			}
+		}
 		try {
-			Method readMethod = propertyDescriptor.getReadMethod();
 			if (readMethod == null) {
 				throw new IllegalArgumentException(propertyDescriptor.getName()
 						+ " property does not have a read method."); //$NON-NLS-1$
@@ -111,6 +158,35 @@ public class BeanPropertyHelper {
 		}
 	}
 
+	/**
+	 * Returns the cached method handle of the given accessor method, adapted to
+	 * the given generic type, or {@link #NO_HANDLE} if the method cannot be
+	 * accessed through a method handle.
+	 */
+	private static MethodHandle getAccessorHandle(Method method, MethodType type) {
+		return accessorHandles.get(method.getDeclaringClass()).computeIfAbsent(method, m -> {
+			try {
+				setAccessible(m);
+				return MethodHandles.lookup().unreflect(m).asType(type);
+			} catch (RuntimeException | IllegalAccessException e) {
+				// use the reflective path, which reports the problem
+				return NO_HANDLE;
+			}
+		});
+	}
+
+	/**
+	 * Returns whether the given value can be passed to a parameter of the given
+	 * type without conversion. Other values are passed through reflection,
+	 * which also takes care of widening and reporting mismatches.
+	 */
+	private static boolean isAssignable(Class<?> parameterType, Object value) {
+		if (!parameterType.isPrimitive()) {
+			return value == null || parameterType.isInstance(value);
+		}
+		return value != null && MethodType.methodType(parameterType).wrap().returnType() == value.getClass();
+	}
+
 	/**
 	 * Wrapper around deprecated {@link Method#isAccessible}. Using that method is
 	 * still the right thing to do, even in presence of the new methods
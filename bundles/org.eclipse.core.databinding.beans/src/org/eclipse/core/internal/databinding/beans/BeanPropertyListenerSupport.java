@@ -17,6 +17,8 @@ package org.eclipse.core.internal.databinding.beans;
 import java.beans.PropertyChangeListener;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.runtime.Assert;
@@ -32,6 +34,17 @@ import org.eclipse.core.runtime.Status;
 public class BeanPropertyListenerSupport {
 	private static final boolean DEBUG = true;
 
+	/**
+	 * The public add or remove listener methods of a bean class, looked up once
+	 * per class instead of for every bean.
+	 */
+	private static final ClassValue<Map<String, ListenerMethods>> LISTENER_METHODS = new ClassValue<>() {
+		@Override
+		protected Map<String, ListenerMethods> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	/**
 	 * Start listen to target (if it supports the JavaBean property change
 	 * listener pattern)
@@ -89,19 +102,20 @@ public class BeanPropertyListenerSupport {
 		Object[] parameters = null;
 
 		try {
-			try {
-				method = bean.getClass().getMethod(methodName, String.class, PropertyChangeListener.class);
-
+			Class<?> beanClass = bean.getClass();
+			ListenerMethods methods = LISTENER_METHODS.get(beanClass).computeIfAbsent(methodName,
+					name -> ListenerMethods.lookup(beanClass, name));
+			if (methods.named != null) {
+				method = methods.named;
 				parameters = new Object[] { propertyName, listener };
-			} catch (NoSuchMethodException e) {
-				method = bean.getClass().getMethod(methodName, PropertyChangeListener.class);
-
+			} else if (methods.unnamed != null) {
+				method = methods.unnamed;
 				parameters = new Object[] { listener };
+			} else {
+				log(IStatus.WARNING, message + bean, methods.failure);
 			}
 		} catch (SecurityException e) {
 			// ignore
-		} catch (NoSuchMethodException e) {
-			log(IStatus.WARNING, message + bean, e);
 		}
 
 		if (method != null) {
@@ -116,6 +130,35 @@ public class BeanPropertyListenerSupport {
 		return false;
 	}
 
+	private static final class ListenerMethods {
+		/** the method taking a property name and a listener, or null */
+		final Method named;
+		/** the method taking only a listener, or null */
+		final Method unnamed;
+		/** the lookup failure if there is no method */
+		final NoSuchMethodException failure;
+
+		private ListenerMethods(Method named, Method unnamed, NoSuchMethodException failure) {
+			this.named = named;
+			this.unnamed = unnamed;
+			this.failure = failure;
+		}
+
+		static ListenerMethods lookup(Class<?> beanClass, String methodName) {
+			try {
+				return new ListenerMethods(
+						beanClass.getMethod(methodName, String.class, PropertyChangeListener.class), null, null);
+			} catch (NoSuchMethodException e) {
+				try {
+					return new ListenerMethods(null, beanClass.getMethod(methodName, PropertyChangeListener.class),
+							null);
+				} catch (NoSuchMethodException e2) {
+					return new ListenerMethods(null, null, e2);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Logs a message to the Data Binding logger.
 	 */
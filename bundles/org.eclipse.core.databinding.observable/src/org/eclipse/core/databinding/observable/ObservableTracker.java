@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.core.databinding.observable;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import org.eclipse.core.databinding.util.Policy;
@@ -64,20 +65,95 @@ import org.eclipse.core.runtime.Status;
 public class ObservableTracker {
 
 	/**
-	 * Threadlocal storage pointing to the current Set of IObservables, or null
-	 * if none. Note that this is actually the top of a stack. Whenever a method
-	 * changes the current value, it remembers the old value as a local variable
-	 * and restores the old value when the method exits.
+	 * The tracking state of the current thread. Nested calls of
+	 * {@link #runAndMonitor} and {@link #runAndCollect} save the fields they
+	 * change in local variables and restore them when they exit, so that the
+	 * state is the top of a stack without allocating a frame per call.
 	 */
-	private static ThreadLocal<IChangeListener> currentChangeListener = new ThreadLocal<>();
+	private static final ThreadLocal<TrackerState> currentState = ThreadLocal.withInitial(TrackerState::new);
 
-	private static ThreadLocal<IStaleListener> currentStaleListener = new ThreadLocal<>();
+	private static final class TrackerState {
+		/** The observables read from, or null if nobody is monitoring */
+		ObservableCollector getterCalled;
 
-	private static ThreadLocal<Set<IObservable>> currentGetterCalledSet = new ThreadLocal<>();
+		IChangeListener changeListener;
 
-	private static ThreadLocal<Set<IObservable>> currentObservableCreatedSet = new ThreadLocal<>();
+		IStaleListener staleListener;
 
-	private static ThreadLocal<Integer> currentIgnoreCount = new ThreadLocal<>();
+		/** The observables created, or null if nobody is collecting */
+		ObservableCollector observableCreated;
+
+		int ignoreCount;
+
+		/** Collectors of finished runs, reused by the next runs */
+		private ObservableCollector[] freeCollectors = new ObservableCollector[4];
+
+		private int freeCount;
+
+		ObservableCollector obtainCollector() {
+			return freeCount > 0 ? freeCollectors[--freeCount] : new ObservableCollector();
+		}
+
+		void releaseCollector(ObservableCollector collector) {
+			collector.clear();
+			if (freeCount < freeCollectors.length) {
+				freeCollectors[freeCount++] = collector;
+			}
+		}
+	}
+
+	/**
+	 * Collects unique observables by identity. Few observables are kept in an
+	 * array which is searched linearly, and a set is only created once there
+	 * are more of them.
+	 */
+	private static final class ObservableCollector {
+		private static final int MAX_LINEAR_SIZE = 16;
+
+		private IObservable[] observables = new IObservable[MAX_LINEAR_SIZE];
+
+		private int size;
+
+		private Set<IObservable> set;
+
+		boolean add(IObservable observable) {
+			if (set != null) {
+				if (!set.add(observable)) {
+					return false;
+				}
+			} else {
+				for (int i = 0; i < size; i++) {
+					if (observables[i] == observable) {
+						return false;
+					}
+				}
+				if (size == MAX_LINEAR_SIZE) {
+					set = new IdentitySet<>();
+					set.addAll(Arrays.asList(observables).subList(0, size));
+					set.add(observable);
+				}
+			}
+			if (size == observables.length) {
+				observables = Arrays.copyOf(observables, size * 2);
+			}
+			observables[size++] = observable;
+			return true;
+		}
+
+		IObservable[] toArray() {
+			return Arrays.copyOf(observables, size);
+		}
+
+		void clear() {
+			if (observables.length > MAX_LINEAR_SIZE) {
+				observables = new IObservable[MAX_LINEAR_SIZE];
+			} else {
+				Arrays.fill(observables, 0, size, null);
+			}
+			size = 0;
+			set = null;
+		}
+	}
 
 	/**
 	 * Invokes the given runnable, and returns the set of IObservables that were
@@ -97,31 +173,34 @@ public class ObservableTracker {
 	 */
 	public static IObservable[] runAndMonitor(Runnable runnable,
 			IChangeListener changeListener, IStaleListener staleListener) {
+		TrackerState state = currentState.get();
 		// Remember the previous value in the listener stack
-		Set<IObservable> lastObservableSet = currentGetterCalledSet.get();
-		IChangeListener lastChangeListener = currentChangeListener.get();
-		IStaleListener lastStaleListener = currentStaleListener.get();
-		Integer lastIgnore = currentIgnoreCount.get();
+		ObservableCollector lastCollector = state.getterCalled;
+		IChangeListener lastChangeListener = state.changeListener;
+		IStaleListener lastStaleListener = state.staleListener;
+		int lastIgnore = state.ignoreCount;
 
-		Set<IObservable> observableSet = new IdentitySet<>();
+		ObservableCollector collector = state.obtainCollector();
 		// Push the new listeners to the top of the stack
-		currentGetterCalledSet.set(observableSet);
-		currentChangeListener.set(changeListener);
-		currentStaleListener.set(staleListener);
-		currentIgnoreCount.set(null);
+		state.getterCalled = collector;
+		state.changeListener = changeListener;
+		state.staleListener = staleListener;
+		state.ignoreCount = 0;
 		try {
 			runnable.run();
 		} finally {
 			// Pop the new listener off the top of the stack (by restoring the
 			// previous listener)
-			currentGetterCalledSet.set(lastObservableSet);
-			currentChangeListener.set(lastChangeListener);
-			currentStaleListener.set(lastStaleListener);
-			checkUnmatchedIgnore(runnable);
-			currentIgnoreCount.set(lastIgnore);
+			state.getterCalled = lastCollector;
+			state.changeListener = lastChangeListener;
+			state.staleListener = lastStaleListener;
+			checkUnmatchedIgnore(state, runnable);
+			state.ignoreCount = lastIgnore;
 		}
 
-		return observableSet.toArray(new IObservable[observableSet.size()]);
+		IObservable[] result = collector.toArray();
+		state.releaseCollector(collector);
+		return result;
 	}
 
 	/**
@@ -141,34 +220,37 @@ public class ObservableTracker {
 	 * @since 1.2
 	 */
 	public static IObservable[] runAndCollect(Runnable runnable) {
-		Set<IObservable> lastObservableCreatedSet = currentObservableCreatedSet.get();
-		Integer lastIgnore = currentIgnoreCount.get();
+		TrackerState state = currentState.get();
+		ObservableCollector lastCollector = state.observableCreated;
+		int lastIgnore = state.ignoreCount;
 
-		Set<IObservable> observableSet = new IdentitySet<>();
+		ObservableCollector collector = state.obtainCollector();
 		// Push the new listeners to the top of the stack
-		currentObservableCreatedSet.set(observableSet);
-		currentIgnoreCount.set(null);
+		state.observableCreated = collector;
+		state.ignoreCount = 0;
 		try {
 			runnable.run();
 		} finally {
 			// Pop the new listener off the top of the stack (by restoring the
 			// previous listener)
-			currentObservableCreatedSet.set(lastObservableCreatedSet);
-			checkUnmatchedIgnore(runnable);
-			currentIgnoreCount.set(lastIgnore);
+			state.observableCreated = lastCollector;
+			checkUnmatchedIgnore(state, runnable);
+			state.ignoreCount = lastIgnore;
 		}
 
-		return observableSet.toArray(new IObservable[observableSet.size()]);
+		IObservable[] result = collector.toArray();
+		state.releaseCollector(collector);
+		return result;
 	}
 
-	private static void checkUnmatchedIgnore(Runnable runnable) {
-		if (isIgnore()) {
+	private static void checkUnmatchedIgnore(TrackerState state, Runnable runnable) {
+		if (state.ignoreCount > 0) {
 			Policy.getLog()
 					.log(new Status(
 							IStatus.ERROR,
 							Policy.JFACE_DATABINDING,
 							"There were " //$NON-NLS-1$
-									+ currentIgnoreCount.get()
+									+ state.ignoreCount
 									+ " unmatched setIgnore(true) invocations in runnable " //$NON-NLS-1$
 									+ runnable));
 		}
@@ -193,15 +275,13 @@ public class ObservableTracker {
 	 * @since 1.3
 	 */
 	public static void setIgnore(boolean ignore) {
-		Integer lastCount = currentIgnoreCount.get();
-
-		int newCount = (lastCount == null ? 0 : lastCount.intValue())
-				+ (ignore ? 1 : -1);
+		TrackerState state = currentState.get();
+		int newCount = state.ignoreCount + (ignore ? 1 : -1);
 
 		if (newCount < 0)
 			throw new IllegalStateException("Ignore count is already zero"); //$NON-NLS-1$
 
-		currentIgnoreCount.set(newCount == 0 ? null : Integer.valueOf(newCount));
+		state.ignoreCount = newCount;
 	}
 
 	/**
@@ -231,10 +311,6 @@ public class ObservableTracker {
 				+ Integer.toHexString(System.identityHashCode(observable));
 	}
 
-	private static boolean isIgnore() {
-		return currentIgnoreCount.get() != null;
-	}
-
 	/**
 	 * Notifies the ObservableTracker that an observable was read from. The
 	 * JavaDoc for methods that invoke this method should include the following
@@ -254,16 +330,17 @@ public class ObservableTracker {
 			Assert.isTrue(false, "Getter called outside realm of observable " //$NON-NLS-1$
 					+ toString(observable));
 
-		if (isIgnore())
+		TrackerState state = currentState.get();
+		if (state.ignoreCount > 0)
 			return;
 
-		Set<IObservable> getterCalledSet = currentGetterCalledSet.get();
-		if (getterCalledSet != null && getterCalledSet.add(observable)) {
+		ObservableCollector getterCalled = state.getterCalled;
+		if (getterCalled != null && getterCalled.add(observable)) {
 			// If anyone is listening for observable usage...
-			IChangeListener changeListener = currentChangeListener.get();
+			IChangeListener changeListener = state.changeListener;
 			if (changeListener != null)
 				observable.addChangeListener(changeListener);
-			IStaleListener staleListener = currentStaleListener.get();
+			IStaleListener staleListener = state.staleListener;
 			if (staleListener != null)
 				observable.addStaleListener(staleListener);
 		}
@@ -277,11 +354,12 @@ public class ObservableTracker {
 	 * @since 1.2
 	 */
 	public static void observableCreated(IObservable observable) {
-		if (isIgnore())
+		TrackerState state = currentState.get();
+		if (state.ignoreCount > 0)
 			return;
-		Set<IObservable> observableCreatedSet = currentObservableCreatedSet.get();
-		if (observableCreatedSet != null) {
-			observableCreatedSet.add(observable);
+		ObservableCollector observableCreated = state.observableCreated;
+		if (observableCreated != null) {
+			observableCreated.add(observable);
 		}
 	}
 }
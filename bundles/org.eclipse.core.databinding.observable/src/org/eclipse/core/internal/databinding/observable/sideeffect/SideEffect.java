@@ -14,7 +14,9 @@
 package org.eclipse.core.internal.databinding.observable.sideeffect;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -24,6 +26,7 @@ import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.sideeffect.ISideEffect;
+import org.eclipse.core.internal.databinding.identity.IdentitySet;
 import org.eclipse.core.runtime.Assert;
 
 /**
@@ -84,10 +87,15 @@ public final class SideEffect implements ISideEffect {
 	 */
 	private boolean dirty;
 	/**
-	 * True if PrivateInterface is currently enqueued in a call to
-	 * realm.asyncExec
+	 * True if this side-effect is currently pending in the
+	 * {@link SideEffectScheduler} of its realm
 	 */
 	private boolean asyncScheduled;
+	/**
+	 * True while the runnable is executed by {@link #update()}. Changes of the
+	 * dependencies are ignored during that time.
+	 */
+	private boolean updating;
 	private int pauseDepth;
 	private Runnable runnable;
 	/**
@@ -184,19 +192,27 @@ public final class SideEffect implements ISideEffect {
 	private void update() {
 		if (dirty && pauseDepth <= 0) {
 			dirty = false;
-			// Hold a reference to the old dependencies to prevent them from
-			// being garbage collected until we've computed the new set. In the
-			// event that a dependency is lazily created, this prevents it from
-			// being destroyed and immediately recreated.
-
-			// Stop listening for dependency changes.
-			stopListening();
-
-			// This line will do the following:
-			// - Run the calculate method
-			// - While doing so, add any observable that is touched to the
-			// dependencies list
-			IObservable[] newDependencies = ObservableTracker.runAndMonitor(runnable, null, null);
+			// Keep listening to the old dependencies while running, but ignore
+			// their changes, so that only the listeners of dependencies which
+			// were added or dropped need to be updated afterwards. This also
+			// keeps lazily created dependencies from being destroyed and
+			// immediately recreated.
+			IObservable[] oldDependencies = dependencies;
+			updating = true;
+			IObservable[] newDependencies;
+			try {
+				// This line will do the following:
+				// - Run the calculate method
+				// - While doing so, add any observable that is touched to the
+				// dependencies list
+				newDependencies = ObservableTracker.runAndMonitor(runnable, null, null);
+			} catch (RuntimeException | Error e) {
+				stopListening();
+				dependencies = null;
+				throw e;
+			} finally {
+				updating = false;
+			}
 
 			// If the side-effect disposed itself, exit without attaching any
 			// listeners.
@@ -204,8 +220,20 @@ public final class SideEffect implements ISideEffect {
 				return;
 			}
 
-			for (IObservable next : newDependencies) {
-				next.addChangeListener(privateInterface);
+			if (oldDependencies == null || oldDependencies.length == 0) {
+				for (IObservable next : newDependencies) {
+					next.addChangeListener(privateInterface);
+				}
+			} else {
+				Set<IObservable> oldSet = new IdentitySet<>(Arrays.asList(oldDependencies));
+				for (IObservable next : newDependencies) {
+					if (!oldSet.remove(next)) {
+						next.addChangeListener(privateInterface);
+					}
+				}
+				for (IObservable dropped : oldSet) {
+					dropped.removeChangeListener(privateInterface);
+				}
 			}
 
 			dependencies = newDependencies;
@@ -302,7 +330,18 @@ public final class SideEffect implements ISideEffect {
 		}
 
 		this.asyncScheduled = true;
-		realm.asyncExec(privateInterface);
+		SideEffectScheduler.getScheduler(realm).schedule(realm, this);
+	}
+
+	/**
+	 * Called by the {@link SideEffectScheduler} to update this side-effect.
+	 */
+	void runScheduled() {
+		if (isDisposed()) {
+			return;
+		}
+		asyncScheduled = false;
+		update();
 	}
 
 	private void checkRealm() {
@@ -334,19 +373,12 @@ public final class SideEffect implements ISideEffect {
 		};
 	}
 
-	private class PrivateInterface implements IChangeListener, Runnable {
+	private class PrivateInterface implements IChangeListener {
 		@Override
 		public void handleChange(ChangeEvent event) {
-			markDirtyInternal();
-		}
-
-		@Override
-		public void run() {
-			if (isDisposed()) {
-				return;
+			if (!updating) {
+				markDirtyInternal();
 			}
-			asyncScheduled = false;
-			update();
 		}
 	}
 }
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.core.internal.databinding.observable.sideeffect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * Collects the side-effects of a realm which became dirty and runs them
+ * together in a single runnable posted with {@link Realm#asyncExec(Runnable)},
+ * instead of posting one runnable per side-effect. A model change touching
+ * many bound fields thus costs one asyncExec, and all side-effects see the
+ * model only after the whole change is done.
+ * <p>
+ * Side-effects run in the order in which they became dirty. A side-effect
+ * dirtied again by another side-effect of the same flush is run once more in
+ * a later round of the same flush, so the flush ends in a consistent state.
+ * Side-effects which keep dirtying each other are deferred to a new flush
+ * after a few rounds, so that they cannot block the realm.
+ * Computed values need no scheduling, as they only recompute lazily when read
+ * by a side-effect.
+ * </p>
+ * <p>
+ * All methods except {@link #getScheduler(Realm)} must be called from within
+ * the realm.
+ * </p>
+ */
+public final class SideEffectScheduler {
+
+	private static final int MAX_ROUNDS_PER_FLUSH = 8;
+
+	private static final Map<Realm, SideEffectScheduler> schedulers = new WeakHashMap<>();
+
+	private List<SideEffect> pending = new ArrayList<>();
+
+	private boolean flushScheduled;
+
+	private long flushCount;
+
+	private int lastFlushSize;
+
+	private long lastFlushNanos;
+
+	private long totalFlushNanos;
+
+	private SideEffectScheduler() {
+	}
+
+	/**
+	 * Returns the scheduler of the given realm, creating it if needed.
+	 *
+	 * @param realm the realm
+	 * @return the scheduler of the realm
+	 */
+	public static SideEffectScheduler getScheduler(Realm realm) {
+		synchronized (schedulers) {
+			return schedulers.computeIfAbsent(realm, r -> new SideEffectScheduler());
+		}
+	}
+
+	/**
+	 * Schedules the given side-effect to be updated with the next flush. The
+	 * caller makes sure not to schedule a side-effect that is still pending.
+	 *
+	 * @param realm      the realm of the side-effect, not kept by the scheduler
+	 *                   so that the realm can be collected
+	 * @param sideEffect the dirty side-effect
+	 */
+	void schedule(Realm realm, SideEffect sideEffect) {
+		pending.add(sideEffect);
+		if (!flushScheduled) {
+			flushScheduled = true;
+			realm.asyncExec(() -> flush(realm));
+		}
+	}
+
+	private void flush(Realm realm) {
+		long start = System.nanoTime();
+		int size = 0;
+		int rounds = 0;
+		List<SideEffect> round = null;
+		int next = 0;
+		try {
+			while (!pending.isEmpty() && rounds++ < MAX_ROUNDS_PER_FLUSH) {
+				round = pending;
+				pending = new ArrayList<>();
+				for (next = 0; next < round.size();) {
+					SideEffect sideEffect = round.get(next++);
+					size++;
+					try {
+						sideEffect.runScheduled();
+					} catch (Exception | LinkageError | AssertionError e) {
+						// Keep updating the other side-effects, like separate
+						// asyncExec runnables would
+						Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE_DATABINDING, IStatus.OK,
+								"Unhandled exception: " + e.getMessage(), e)); //$NON-NLS-1$
+					}
+				}
+			}
+		} finally {
+			if (round != null && next < round.size()) {
+				// An error escaped the round, the side-effects not run yet are
+				// still marked as scheduled and must run with the next flush
+				List<SideEffect> remaining = new ArrayList<>(round.subList(next, round.size()));
+				remaining.addAll(pending);
+				pending = remaining;
+			}
+			flushScheduled = false;
+			if (!pending.isEmpty()) {
+				flushScheduled = true;
+				realm.asyncExec(() -> flush(realm));
+			}
+			flushCount++;
+			lastFlushSize = size;
+			lastFlushNanos = System.nanoTime() - start;
+			totalFlushNanos += lastFlushNanos;
+		}
+	}
+
+	/**
+	 * @return the number of flushes run so far
+	 */
+	public long getFlushCount() {
+		return flushCount;
+	}
+
+	/**
+	 * @return the number of side-effect updates run by the last flush
+	 */
+	public int getLastFlushSize() {
+		return lastFlushSize;
+	}
+
+	/**
+	 * @return the duration of the last flush in nanoseconds
+	 */
+	public long getLastFlushNanos() {
+		return lastFlushNanos;
+	}
+
+	/**
+	 * @return the total duration of all flushes in nanoseconds
+	 */
+	public long getTotalFlushNanos() {
+		return totalFlushNanos;
+	}
+}
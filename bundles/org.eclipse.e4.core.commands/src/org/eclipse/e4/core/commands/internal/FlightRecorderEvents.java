@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.core.commands.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.eclipse.core.commands.ParameterizedCommand;
+
+/**
+ * Java Flight Recorder event for handler execution. Does nothing if the
+ * optionally imported <code>jdk.jfr</code> package is not available.
+ */
+final class FlightRecorderEvents {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	@Name("org.eclipse.e4.core.commands.ExecuteHandler")
+	@Label("Execute Handler")
+	@Category({ "Eclipse", "Commands" })
+	static final class ExecuteHandlerEvent extends Event {
+		@Label("Command Id")
+		String commandId;
+	}
+
+	/**
+	 * The event types, only loaded if <code>jdk.jfr</code> is available. No
+	 * event is created while no recording enables its type.
+	 */
+	private static final class Types {
+		static final EventType EXECUTE_HANDLER = EventType.getEventType(ExecuteHandlerEvent.class);
+	}
+
+	private FlightRecorderEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	static Object beginExecuteHandler() {
+		if (!AVAILABLE || !Types.EXECUTE_HANDLER.isEnabled()) {
+			return null;
+		}
+		ExecuteHandlerEvent event = new ExecuteHandlerEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitExecuteHandler(Object started, ParameterizedCommand command) {
+		if (started == null) {
+			return;
+		}
+		ExecuteHandlerEvent event = (ExecuteHandlerEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.commandId = command.getId();
+			event.commit();
+		}
+	}
+}
@@ -209,12 +209,14 @@ public class HandlerServiceImpl implements EHandlerService {
 		final IEclipseContext executionContext = getExecutionContext();
 		addParms(command, staticContext);
 		push(executionContext, staticContext);
+		Object event = FlightRecorderEvents.beginExecuteHandler();
 		try {
 			return command.executeWithChecks(staticContext.get(SWT_TRIGGER), new ExpressionContext(
 					peek().context));
 		} catch (ExecutionException | NotDefinedException | NotEnabledException | NotHandledException e) {
 			staticContext.set(HANDLER_EXCEPTION, e);
 		} finally {
+			FlightRecorderEvents.commitExecuteHandler(event, command);
 			pop();
 		}
 		return null;
@@ -381,6 +381,16 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 			return;
 		}
 
+		Object event = FlightRecorderEvents.beginApplyStyles();
+		try {
+			applyStylesToElement(element, elt, applyStylesToChildNodes, computeDefaultStyle);
+		} finally {
+			FlightRecorderEvents.commitApplyStyles(event, elt);
+		}
+	}
+
+	private void applyStylesToElement(Object element, Element elt, boolean applyStylesToChildNodes,
+			boolean computeDefaultStyle) {
 		/*
 		 * Compute new Style to apply.
 		 */
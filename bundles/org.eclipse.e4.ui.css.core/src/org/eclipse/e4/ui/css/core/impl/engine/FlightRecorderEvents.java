@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.w3c.dom.Element;
+
+/**
+ * Java Flight Recorder events of the CSS engine.
+ * <p>
+ * The <code>jdk.jfr</code> package is imported optionally. If it is missing,
+ * the methods of this class do nothing and the event classes are never
+ * loaded. Otherwise an event costs next to nothing as long as no recording
+ * is running.
+ * </p>
+ */
+final class FlightRecorderEvents {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	@Name("org.eclipse.e4.ui.css.ApplyStyles")
+	@Label("Apply CSS Styles")
+	@Category({ "Eclipse", "CSS" })
+	@StackTrace(false)
+	static final class ApplyStylesEvent extends Event {
+		@Label("Element")
+		String element;
+
+		@Label("CSS Id")
+		String cssId;
+
+		@Label("CSS Class")
+		String cssClass;
+	}
+
+	/**
+	 * The event types, only loaded if <code>jdk.jfr</code> is available. No
+	 * event is created while no recording enables its type.
+	 */
+	private static final class Types {
+		static final EventType APPLY_STYLES = EventType.getEventType(ApplyStylesEvent.class);
+	}
+
+	private FlightRecorderEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Starts the timing of styling an element.
+	 *
+	 * @return the started event, to be passed to
+	 *         {@link #commitApplyStyles(Object, Element)}, or <code>null</code>
+	 */
+	static Object beginApplyStyles() {
+		if (!AVAILABLE || !Types.APPLY_STYLES.isEnabled()) {
+			return null;
+		}
+		ApplyStylesEvent event = new ApplyStylesEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitApplyStyles(Object started, Element element) {
+		if (started == null) {
+			return;
+		}
+		ApplyStylesEvent event = (ApplyStylesEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.element = element.getLocalName();
+			if (element instanceof CSSStylableElement) {
+				CSSStylableElement stylable = (CSSStylableElement) element;
+				event.cssId = stylable.getCSSId();
+				event.cssClass = stylable.getCSSClass();
+			}
+			event.commit();
+		}
+	}
+}
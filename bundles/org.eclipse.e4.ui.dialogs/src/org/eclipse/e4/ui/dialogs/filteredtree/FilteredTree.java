@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2020 vogella GmbH and others.
+ * Copyright (c) 2014, 2026 vogella GmbH and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -251,7 +251,7 @@ public class FilteredTree extends Composite {
 	 */
 	private TreeItem getFirstMatchingItem(TreeItem[] items) {
 		for (TreeItem item : items) {
-			if (patternFilter.isLeafMatch(treeViewer, item.getData())
+			if (patternFilter.isLeafMatchCached(treeViewer, item.getData())
 					&& patternFilter.isElementSelectable(item.getData())) {
 				return item;
 			}
@@ -706,7 +706,8 @@ public class FilteredTree extends Composite {
 					filter.setPattern(filterText);
 				}
 			}
-			if (filter.isElementVisible(tree.getViewer(), element) && filter.isLeafMatch(tree.getViewer(), element)) {
+			if (filter.isElementVisible(tree.getViewer(), element)
+					&& filter.isLeafMatchCached(tree.getViewer(), element)) {
 				return JFaceResources.getFontRegistry().getBold(JFaceResources.DIALOG_FONT);
 			}
 		}
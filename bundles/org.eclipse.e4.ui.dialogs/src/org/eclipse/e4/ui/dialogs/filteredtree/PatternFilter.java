@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,11 @@ public class PatternFilter extends ViewerFilter {
 	 */
 	private Map<Object, Boolean> foundAnyCache = new HashMap<>();
 
+	/*
+	 * Maps elements to TRUE or FALSE, depending on whether their label matches
+	 */
+	private Map<Object, Boolean> leafMatchCache = new HashMap<>();
+
 	private boolean useCache = false;
 
 	/**
@@ -214,6 +219,7 @@ public class PatternFilter extends ViewerFilter {
 	/* package */void clearCaches() {
 		cache.clear();
 		foundAnyCache.clear();
+		leafMatchCache.clear();
 	}
 
 	/**
@@ -261,7 +267,7 @@ public class PatternFilter extends ViewerFilter {
 	 * @return true if the element matches the filter pattern
 	 */
 	public boolean isElementVisible(Viewer viewer, Object element) {
-		return isParentMatch(viewer, element) || isLeafMatch(viewer, element);
+		return isParentMatch(viewer, element) || isLeafMatchCached(viewer, element);
 	}
 
 	/**
@@ -316,6 +322,31 @@ public class PatternFilter extends ViewerFilter {
 		return wordMatches(labelText);
 	}
 
+	/**
+	 * Answers whether the label of the given element matches, like
+	 * {@link #isLeafMatch(Viewer, Object)}. If caching is enabled, the
+	 * answer is remembered until the pattern or the tree changes, so that
+	 * label providers highlighting matches do not compute the label of every
+	 * shown element again.
+	 *
+	 * @param viewer
+	 *            the viewer that contains the element
+	 * @param element
+	 *            the tree element to check
+	 * @return true if the given element's label matches the filter text
+	 */
+	/* package */boolean isLeafMatchCached(Viewer viewer, Object element) {
+		if (!useCache) {
+			return isLeafMatch(viewer, element);
+		}
+		Boolean leafMatch = leafMatchCache.get(element);
+		if (leafMatch == null) {
+			leafMatch = Boolean.valueOf(isLeafMatch(viewer, element));
+			leafMatchCache.put(element, leafMatch);
+		}
+		return leafMatch.booleanValue();
+	}
+
 	private String getTextFromLabelProvider(IBaseLabelProvider baseLabelProvider, Object element) {
 		if (baseLabelProvider == null) {
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,10 @@
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
@@ -28,6 +31,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.custom.CTabFolderRenderer;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
@@ -101,6 +105,12 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 	static final String E4_TOOLBAR_ACTIVE_IMAGE = "org.eclipse.e4.renderer.toolbar_background_active_image"; //$NON-NLS-1$
 	static final String E4_TOOLBAR_INACTIVE_IMAGE = "org.eclipse.e4.renderer.toolbar_background_inactive_image"; //$NON-NLS-1$
 
+	/**
+	 * Points of the circle parts used for round corners, relative to the center
+	 * of the circle, by radius and circle part
+	 */
+	private static final Map<Integer, int[]> CIRCLE_POINTS = new ConcurrentHashMap<>();
+
 	Rectangle rectShape;
 	int[] shape;
 
@@ -130,13 +140,29 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 
 	private boolean drawCustomTabContentBackground;
 
+	// Geometry and patterns of the last paint, reused as long as their inputs
+	// do not change
+	private int shapeCircX, shapeCircY, shapeWidth, shapeHeight, shapeRadius;
+
+	private Pattern selectedTabFillPattern;
+	private int selectedTabFillPatternHeight;
+	private boolean selectedTabFillPatternOnBottom;
+
+	private Pattern inactiveOutlinePattern;
+	private int inactiveOutlinePatternHeight;
+	private RGB inactiveOutlinePatternShadow;
+
 	public CTabRendering(CTabFolder parent) {
 		super(parent);
 		parentWrapper = new CTabFolderWrapper(parent);
 
 		IEclipsePreferences preferences = getSwtRendererPreferences();
 		preferences.addPreferenceChangeListener(this);
-		parent.addDisposeListener(e -> preferences.removePreferenceChangeListener(this));
+		parent.addDisposeListener(e -> {
+			preferences.removePreferenceChangeListener(this);
+			disposeSelectedTabFillPattern();
+			disposeInactiveOutlinePattern();
+		});
 
 		cornerRadiusPreferenceChanged();
 	}
@@ -353,13 +379,21 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 			gc.fillRectangle(rect);
 			rectShape = rect;
 		} else {
-			int[] points = new int[1024];
-			int index = 0;
 			int radius = cornerSize / 2;
 
 			int circX = bounds.x + delta / 2 + radius;
 			int circY = bounds.y + radius;
 
+			if (shape != null && circX == shapeCircX && circY == shapeCircY && width == shapeWidth
+					&& height == shapeHeight && radius == shapeRadius) {
+				// same bounds as the last time
+				gc.fillPolygon(shape);
+				return;
+			}
+
+			int[] points = new int[1024];
+			int index = 0;
+
 			// Body
 			int[] ltt = drawCircle(circX, circY, radius, CirclePart.LEFT_TOP);
 			System.arraycopy(ltt, 0, points, index, ltt.length);
@@ -386,6 +420,11 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 
 			// Remember for use in header drawing
 			shape = tempPoints;
+			shapeCircX = circX;
+			shapeCircY = circY;
+			shapeWidth = width;
+			shapeHeight = height;
+			shapeRadius = radius;
 		}
 
 	}
@@ -502,7 +541,6 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 				parentSize.x + INNER_KEYLINE_WIDTH + OUTER_KEYLINE_WIDTH,
 				bounds.y + bounds.height);// bounds.height
 
-		Pattern backgroundPattern = null;
 		if (selectedTabFillColors == null) {
 			setSelectedTabFill(gc.getDevice().getSystemColor(SWT.COLOR_WHITE));
 		}
@@ -511,15 +549,7 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 			gc.setForeground(selectedTabFillColors[0]);
 		} else if (selectedTabFillColors.length == 2) {
 			// for now we support the 2-colors gradient for selected tab
-			if (!onBottom) {
-				backgroundPattern = new Pattern(gc.getDevice(), 0, 0, 0, bounds.height + 1, selectedTabFillColors[0],
-						selectedTabFillColors[1]);
-			} else {
-				backgroundPattern = new Pattern(gc.getDevice(), 0, 0, 0, bounds.height + 1, selectedTabFillColors[1],
-						selectedTabFillColors[0]);
-			}
-
-			gc.setBackgroundPattern(backgroundPattern);
+			gc.setBackgroundPattern(getSelectedTabFillPattern(gc.getDevice(), bounds.height, onBottom));
 			gc.setForeground(selectedTabFillColors[1]);
 		}
 
@@ -553,15 +583,8 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 			tabOutlineColor = gc.getDevice().getSystemColor(SWT.COLOR_BLACK);
 		gc.setForeground(tabOutlineColor);
 
-		Color gradientLineTop = null;
-		Pattern foregroundPattern = null;
 		if (!active && !onBottom) {
-			RGB blendColor = gc.getDevice().getSystemColor(SWT.COLOR_WIDGET_LIGHT_SHADOW).getRGB();
-			RGB topGradient = blend(blendColor, tabOutlineColor.getRGB(), 40);
-			gradientLineTop = new Color(gc.getDevice(), topGradient);
-			foregroundPattern = new Pattern(gc.getDevice(), 0, 0, 0, bounds.height + 1, gradientLineTop,
-					gc.getDevice().getSystemColor(SWT.COLOR_WHITE));
-			gc.setForegroundPattern(foregroundPattern);
+			gc.setForegroundPattern(getInactiveOutlinePattern(gc.getDevice(), bounds.height));
 		}
 
 		gc.setClipping((Rectangle) null);
@@ -591,13 +614,6 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 			gc.fillRectangle(bounds.x + horizontalOffset, bounds.y + verticalOffset, bounds.width - widthAdjustment, 3);
 		}
 
-		if (backgroundPattern != null) {
-			backgroundPattern.dispose();
-		}
-		if (foregroundPattern != null) {
-			foregroundPattern.dispose();
-		}
-
 		gc.setForeground(tabOutlineColor);
 		if (TAB_OUTLINE_WIDTH > 0) {
 			gc.drawPolyline(tabOutlinePoints);
@@ -716,6 +732,48 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 		}
 	}
 
+	private Pattern getSelectedTabFillPattern(Device device, int height, boolean onBottom) {
+		if (selectedTabFillPattern == null || selectedTabFillPattern.isDisposed()
+				|| selectedTabFillPatternHeight != height || selectedTabFillPatternOnBottom != onBottom) {
+			disposeSelectedTabFillPattern();
+			Color top = onBottom ? selectedTabFillColors[1] : selectedTabFillColors[0];
+			Color bottom = onBottom ? selectedTabFillColors[0] : selectedTabFillColors[1];
+			selectedTabFillPattern = new Pattern(device, 0, 0, 0, height + 1, top, bottom);
+			selectedTabFillPatternHeight = height;
+			selectedTabFillPatternOnBottom = onBottom;
+		}
+		return selectedTabFillPattern;
+	}
+
+	private void disposeSelectedTabFillPattern() {
+		if (selectedTabFillPattern != null) {
+			selectedTabFillPattern.dispose();
+			selectedTabFillPattern = null;
+		}
+	}
+
+	private Pattern getInactiveOutlinePattern(Device device, int height) {
+		// the system colors change with the theme of the operating system
+		RGB blendColor = device.getSystemColor(SWT.COLOR_WIDGET_LIGHT_SHADOW).getRGB();
+		if (inactiveOutlinePattern == null || inactiveOutlinePattern.isDisposed()
+				|| inactiveOutlinePatternHeight != height || !blendColor.equals(inactiveOutlinePatternShadow)) {
+			disposeInactiveOutlinePattern();
+			Color gradientLineTop = new Color(device, blend(blendColor, tabOutlineColor.getRGB(), 40));
+			inactiveOutlinePattern = new Pattern(device, 0, 0, 0, height + 1, gradientLineTop,
+					device.getSystemColor(SWT.COLOR_WHITE));
+			inactiveOutlinePatternHeight = height;
+			inactiveOutlinePatternShadow = blendColor;
+		}
+		return inactiveOutlinePattern;
+	}
+
+	private void disposeInactiveOutlinePattern() {
+		if (inactiveOutlinePattern != null) {
+			inactiveOutlinePattern.dispose();
+			inactiveOutlinePattern = null;
+		}
+	}
+
 	private static void mirrorCirclePoints(int[] circle) {
 		for (int i = 0; i < circle.length / 2; i += 2) {
 			int tmp = circle[i];
@@ -728,6 +786,18 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 	}
 
 	static int[] drawCircle(int xC, int yC, int r, CirclePart circlePart) {
+		int[] offsets = CIRCLE_POINTS.computeIfAbsent(Integer.valueOf((r << 2) | circlePart.ordinal()),
+				key -> computeCircle(r, circlePart));
+		int[] points = new int[offsets.length];
+		for (int i = 0; i < points.length; i += 2) {
+			points[i] = xC + offsets[i];
+			points[i + 1] = yC + offsets[i + 1];
+		}
+		return points;
+	}
+
+	private static int[] computeCircle(int r, CirclePart circlePart) {
+		int xC = 0, yC = 0;
 		int x = 0, y = r, u = 1, v = 2 * r - 1, e = 0;
 		int[] points = new int[1024];
 		int[] pointsMirror = new int[1024];
@@ -921,6 +991,10 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 	}
 
 	public void setPadding(int paddingLeft, int paddingRight, int paddingTop, int paddingBottom) {
+		if (this.paddingLeft == paddingLeft && this.paddingRight == paddingRight && this.paddingTop == paddingTop
+				&& this.paddingBottom == paddingBottom) {
+			return;
+		}
 		this.paddingLeft = paddingLeft;
 		this.paddingRight = paddingRight;
 		this.paddingTop = paddingTop;
@@ -930,22 +1004,36 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 
 	@Override
 	public void setCornerRadius(int radius) {
-		cornerSize = (radius < 6) ? 0 : radius;
+		int newCornerSize = (radius < 6) ? 0 : radius;
+		if (cornerSize == newCornerSize) {
+			return;
+		}
+		cornerSize = newCornerSize;
 		parent.redraw();
 	}
 
 	@Override
 	public void setOuterKeyline(Color color) {
-		this.outerKeylineColor = color;
+		boolean wasActive = active;
 		// TODO: HACK! Should be set based on pseudo-state.
 		if (color != null) {
 			setActive(!(color.getRed() == 255 && color.getGreen() == 255 && color.getBlue() == 255));
 		}
+		// CSS sets the same values again on each styling pass, which must not
+		// cause a repaint. The color may also be the default filled in by
+		// painting, so the active state is updated regardless.
+		if (wasActive == active && Objects.equals(this.outerKeylineColor, color)) {
+			return;
+		}
+		this.outerKeylineColor = color;
 		parent.redraw();
 	}
 
 	@Override
 	public void setSelectedTabHighlight(Color color) {
+		if (Objects.equals(this.selectedTabHighlightColor, color)) {
+			return;
+		}
 		this.selectedTabHighlightColor = color;
 		parent.redraw();
 	}
@@ -957,6 +1045,10 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 
 	@Override
 	public void setSelectedTabFill(Color[] colors, int[] percents) {
+		if (Arrays.equals(selectedTabFillColors, colors) && Arrays.equals(selectedTabFillPercents, percents)) {
+			return;
+		}
+		disposeSelectedTabFillPattern();
 		selectedTabFillColors = colors;
 		selectedTabFillPercents = percents;
 		parent.redraw();
@@ -969,6 +1061,9 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 
 	@Override
 	public void setUnselectedTabsColor(Color[] colors, int[] percents) {
+		if (Arrays.equals(unselectedTabsColors, colors) && Arrays.equals(unselectedTabsPercents, percents)) {
+			return;
+		}
 		unselectedTabsColors = colors;
 		unselectedTabsPercents = percents;
 		parent.redraw();
@@ -976,12 +1071,19 @@ public class CTabRendering extends CTabFolderRenderer implements ICTabRendering,
 
 	@Override
 	public void setTabOutline(Color color) {
+		if (Objects.equals(this.tabOutlineColor, color)) {
+			return;
+		}
+		disposeInactiveOutlinePattern();
 		this.tabOutlineColor = color;
 		parent.redraw();
 	}
 
 	@Override
 	public void setInnerKeyline(Color color) {
+		if (Objects.equals(this.innerKeylineColor, color)) {
+			return;
+		}
 		this.innerKeylineColor = color;
 		parent.redraw();
 	}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.workbench.renderers.swt;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Queue of part creations which were postponed while a window was being
+ * rendered. The queued creations are run one at a time, each in its own turn
+ * of the event loop, so that the window can be painted and react to input
+ * between two of them.
+ * <p>
+ * The queue only holds runnables, each runnable has to check itself whether
+ * the part still needs to be created when it runs.
+ * </p>
+ */
+final class DeferredPartCreator {
+
+	private static final String DATA_KEY = DeferredPartCreator.class.getName();
+
+	private final Display display;
+
+	private final Deque<Runnable> queue = new ArrayDeque<>();
+
+	private boolean scheduled;
+
+	private DeferredPartCreator(Display display) {
+		this.display = display;
+	}
+
+	/**
+	 * Queues the given part creation on the given display.
+	 *
+	 * @param display
+	 *            the display to run the creation on
+	 * @param creation
+	 *            the creation to run
+	 */
+	static void defer(Display display, Runnable creation) {
+		DeferredPartCreator creator = (DeferredPartCreator) display.getData(DATA_KEY);
+		if (creator == null) {
+			creator = new DeferredPartCreator(display);
+			display.setData(DATA_KEY, creator);
+		}
+		creator.queue.add(creation);
+		creator.schedule();
+	}
+
+	private void schedule() {
+		if (!scheduled && !display.isDisposed()) {
+			scheduled = true;
+			display.asyncExec(this::runNext);
+		}
+	}
+
+	private void runNext() {
+		scheduled = false;
+		Runnable creation = queue.poll();
+		if (!queue.isEmpty()) {
+			// schedule the next creation first, so that a failing creation
+			// does not stall the queue
+			schedule();
+		}
+		if (creation != null) {
+			SafeRunner.run(creation::run);
+		}
+	}
+}
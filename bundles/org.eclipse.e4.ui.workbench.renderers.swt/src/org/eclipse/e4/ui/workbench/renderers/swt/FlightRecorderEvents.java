@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.workbench.renderers.swt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
+import org.eclipse.jface.action.MenuManager;
+
+/**
+ * Java Flight Recorder event for populating menus before they are shown. The
+ * event is only created if the optional <code>jdk.jfr</code> import is
+ * wired.
+ */
+final class FlightRecorderEvents {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	@Name("org.eclipse.e4.ui.workbench.MenuAboutToShow")
+	@Label("Menu About To Show")
+	@Category({ "Eclipse", "Workbench" })
+	static final class MenuAboutToShowEvent extends Event {
+		@Label("Menu Id")
+		String menuId;
+
+		@Label("Item Count")
+		int itemCount;
+	}
+
+	/**
+	 * The event types, only loaded if <code>jdk.jfr</code> is available. No
+	 * event is created while no recording enables its type.
+	 */
+	private static final class Types {
+		static final EventType MENU_ABOUT_TO_SHOW = EventType.getEventType(MenuAboutToShowEvent.class);
+	}
+
+	private FlightRecorderEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	static Object beginMenuAboutToShow() {
+		if (!AVAILABLE || !Types.MENU_ABOUT_TO_SHOW.isEnabled()) {
+			return null;
+		}
+		MenuAboutToShowEvent event = new MenuAboutToShowEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitMenuAboutToShow(Object started, MMenu menuModel, MenuManager menuManager) {
+		if (started == null) {
+			return;
+		}
+		MenuAboutToShowEvent event = (MenuAboutToShowEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.menuId = menuModel != null ? menuModel.getElementId() : menuManager.getId();
+			event.itemCount = menuManager.getSize();
+			event.commit();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -56,6 +56,15 @@ import org.osgi.service.event.EventHandler;
  *
  */
 public abstract class LazyStackRenderer extends SWTPartRenderer {
+	/**
+	 * System property which, when set to <code>true</code>, makes the selected
+	 * parts of inactive stacks rendered while their window is not yet showing
+	 * be created after the window was opened, one per turn of the event loop,
+	 * instead of while rendering the window. The property is read whenever a
+	 * stack is rendered.
+	 */
+	private static final String DEFER_PART_CREATION = "org.eclipse.e4.ui.workbench.deferPartCreation"; //$NON-NLS-1$
+
 	private EventHandler lazyLoader = event -> {
 		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
 
@@ -113,7 +122,12 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 		MGenericStack<MUIElement> stack = (MGenericStack<MUIElement>) element;
 		MUIElement selPart = stack.getSelectedElement();
 		if (selPart != null) {
-			showTab(selPart);
+			if (isCreationDeferrable(stack, selPart)) {
+				Control widget = (Control) stack.getWidget();
+				DeferredPartCreator.defer(widget.getDisplay(), () -> showDeferredTab(stack, selPart));
+			} else {
+				showTab(selPart);
+			}
 		} else if (stack.getChildren().size() > 0) {
 			// Set the selection to the first renderable element
 			for (MUIElement kid : stack.getChildren()) {
@@ -125,6 +139,39 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 		}
 	}
 
+	/**
+	 * Checks whether the part selected in the given stack can be created later.
+	 * Parts are only deferred while their window is not yet visible, as they are
+	 * not seen before anyway, and never for the active stack, whose part is
+	 * needed to open the window.
+	 */
+	private boolean isCreationDeferrable(MGenericStack<MUIElement> stack, MUIElement selPart) {
+		if (!Boolean.getBoolean(DEFER_PART_CREATION) || !(stack instanceof MPartStack)
+				|| stack.getTags().contains(IPresentationEngine.ACTIVE)) {
+			return false;
+		}
+		MUIElement part = selPart instanceof MPlaceholder ? ((MPlaceholder) selPart).getRef() : selPart;
+		if (!(part instanceof MPart) || part.getWidget() != null
+				|| part.getTags().contains(IPresentationEngine.ACTIVE)) {
+			return false;
+		}
+		Object widget = stack.getWidget();
+		return widget instanceof Control && !((Control) widget).getShell().isVisible();
+	}
+
+	private void showDeferredTab(MGenericStack<MUIElement> stack, MUIElement selPart) {
+		Object widget = stack.getWidget();
+		// the part may have been closed, replaced or already shown meanwhile
+		if (!(widget instanceof Control) || ((Control) widget).isDisposed()
+				|| stack.getSelectedElement() != selPart || !selPart.isToBeRendered()) {
+			return;
+		}
+		MUIElement part = selPart instanceof MPlaceholder ? ((MPlaceholder) selPart).getRef() : selPart;
+		if (part != null && part.getWidget() == null) {
+			showTab(selPart);
+		}
+	}
+
 	@Override
 	public void childRendered(MElementContainer<MUIElement> parentElement, MUIElement element) {
 		super.childRendered(parentElement, element);
@@ -80,6 +80,15 @@ public class MenuManagerShowProcessor implements IMenuListener2 {
 		}
 		MenuManager menuManager = (MenuManager) manager;
 		final MMenu menuModel = renderer.getMenuModel(menuManager);
+		Object event = FlightRecorderEvents.beginMenuAboutToShow();
+		try {
+			menuAboutToShow(menuManager, menuModel);
+		} finally {
+			FlightRecorderEvents.commitMenuAboutToShow(event, menuModel, menuManager);
+		}
+	}
+
+	private void menuAboutToShow(MenuManager menuManager, MMenu menuModel) {
 		final Menu menu = menuManager.getMenu();
 
 		if (menuModel != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2020 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,7 +86,9 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.ToolBar;
+import org.eclipse.swt.widgets.ToolItem;
 import org.eclipse.swt.widgets.Widget;
 import org.osgi.service.event.Event;
 
@@ -117,6 +119,15 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 
 	private ToolItemUpdater enablementUpdater = new ToolItemUpdater();
 
+	/**
+	 * Tool bars which were unrendered while staying in the model, e.g. when
+	 * hidden on a perspective or context switch, kept for their next rendering.
+	 * Disabled unless a pool size is given.
+	 */
+	private final WidgetRecyclingPool toolBarPool = new WidgetRecyclingPool(
+			Integer.getInteger("org.eclipse.e4.ui.workbench.toolBarPoolSize", 0).intValue(), //$NON-NLS-1$
+			element -> disposeManager((MToolBar) element));
+
 	@Inject
 	private Logger logger;
 
@@ -252,6 +263,11 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 	@Inject
 	@Optional
 	private void subscribeTopicUpdateChildren(@UIEventTopic(ElementContainer.TOPIC_CHILDREN) Event event) {
+		if (UIEvents.isREMOVE(event) && toolBarPool.size() > 0) {
+			// parked tool bars have no widget for the engine to remove
+			toolBarPool.discardRemoved();
+		}
+
 		// Ensure that this event is for a MToolBar
 		if (!(event.getProperty(UIEvents.EventTags.ELEMENT) instanceof MToolBar)) {
 			return;
@@ -385,7 +401,10 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 		if (Policy.DEBUG_RENDERER) {
 			logger.debug("\nTBMR:dispose: modelToManager size = {0}, managerToModel size = {1}", //$NON-NLS-1$
 					modelToManager.size(), managerToModel.size());
+			logger.debug("\nTBMR:dispose: pooled tool bars parked = {0}, reused = {1}, discarded = {2}", //$NON-NLS-1$
+					toolBarPool.getParkCount(), toolBarPool.getReuseCount(), toolBarPool.getDiscardCount());
 		}
+		toolBarPool.clear();
 	}
 
 	@Override
@@ -411,33 +430,120 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 		}
 
 		final MToolBar toolbarModel = (MToolBar) element;
+		Control recycled = reuseToolbar(toolbarModel, toolbarComposite);
+		if (recycled != null) {
+			return setUpTrimToolbar(toolbarModel, getManager(toolbarModel).getControl(), recycled);
+		}
 		ToolBar newTB = createToolbar(toolbarModel, toolbarComposite);
 		bindWidget(element, newTB);
 		processContribution(toolbarModel, toolbarModel.getElementId());
 
-		Control renderedCtrl = newTB;
+		return setUpTrimToolbar(toolbarModel, newTB, newTB);
+	}
+
+	/**
+	 * Sets up a tool bar rendered in a trim bar, where it is draggable and
+	 * framed if the theme provides a frame. A reused tool bar is set up again
+	 * and keeps the frame it was parked with.
+	 *
+	 * @param element
+	 *            the tool bar model
+	 * @param toolbar
+	 *            the tool bar
+	 * @param renderedCtrl
+	 *            the tool bar or the frame it was parked with
+	 * @return the control to bind to the model
+	 */
+	private Control setUpTrimToolbar(MToolBar element, ToolBar toolbar, Control renderedCtrl) {
 		MUIElement parentElement = element.getParent();
-		if (parentElement instanceof MTrimBar) {
-			if (!element.getTags().contains(IPresentationEngine.NO_MOVE)) {
-				element.getTags().add(IPresentationEngine.DRAGGABLE);
+		if (!(parentElement instanceof MTrimBar)) {
+			if (renderedCtrl != toolbar) {
+				// not in a trim bar anymore, drop the frame
+				toolbar.setParent(renderedCtrl.getParent());
+				renderedCtrl.dispose();
 			}
+			return toolbar;
+		}
+		if (!element.getTags().contains(IPresentationEngine.NO_MOVE)) {
+			element.getTags().add(IPresentationEngine.DRAGGABLE);
+		}
 
-			setCSSInfo(element, newTB);
+		setCSSInfo(element, toolbar);
 
+		if (renderedCtrl != toolbar) {
+			return renderedCtrl;
+		}
+		MTrimBar bar = (MTrimBar) parentElement;
+		boolean vertical = bar.getSide() == SideValue.LEFT || bar.getSide() == SideValue.RIGHT;
+		IEclipseContext parentContext = getContextForParent(element);
 
-			MTrimBar bar = (MTrimBar) parentElement;
-			boolean vertical = bar.getSide() == SideValue.LEFT || bar.getSide() == SideValue.RIGHT;
-			IEclipseContext parentContext = getContextForParent(element);
+		CSSRenderingUtils cssUtils = parentContext.get(CSSRenderingUtils.class);
+		if (cssUtils != null) {
+			MUIElement modelElement = (MUIElement) toolbar.getData(AbstractPartRenderer.OWNING_ME);
+			boolean draggable = ((modelElement != null) && (modelElement.getTags().contains(IPresentationEngine.DRAGGABLE)));
+			renderedCtrl = cssUtils.frameMeIfPossible(toolbar, null, vertical, draggable);
+		}
+		return renderedCtrl;
+	}
 
-			CSSRenderingUtils cssUtils = parentContext.get(CSSRenderingUtils.class);
-			if (cssUtils != null) {
-				MUIElement modelElement = (MUIElement) newTB.getData(AbstractPartRenderer.OWNING_ME);
-				boolean draggable = ((modelElement != null) && (modelElement.getTags().contains(IPresentationEngine.DRAGGABLE)));
-				renderedCtrl = cssUtils.frameMeIfPossible(newTB, null, vertical, draggable);
-			}
+	/**
+	 * Returns the control parked for the given tool bar, if it can be reused
+	 * as is. Its manager and contribution records were kept alive with the
+	 * control, so neither has to be processed again.
+	 */
+	private Control reuseToolbar(MToolBar toolbarModel, Composite parent) {
+		ToolBarManager manager = getManager(toolbarModel);
+		ToolBar toolBar = manager == null ? null : manager.getControl();
+		if (toolBar == null || toolBar.isDisposed() || (toolBar.getStyle() & getOrientation(toolbarModel)) == 0) {
+			// not parked, or moved to another side in the meantime
+			toolBarPool.discard(toolbarModel);
+			return null;
 		}
+		return toolBarPool.reuse(toolbarModel, parent);
+	}
 
-		return renderedCtrl;
+	/**
+	 * Releases the manager of a parked tool bar which was removed from the
+	 * model, after its control was disposed.
+	 */
+	private void disposeManager(MToolBar toolbarModel) {
+		ToolBarManager manager = getManager(toolbarModel);
+		if (manager != null) {
+			clearModelToManager(toolbarModel, manager);
+			manager.dispose();
+		}
+	}
+
+	/**
+	 * Returns the control rendered for the given tool bar in its container,
+	 * which is the frame wrapping the tool bar if there is one.
+	 */
+	private Control getRenderedControl(MToolBar toolbarModel, Control widget) {
+		ToolBarManager manager = getManager(toolbarModel);
+		ToolBar toolBar = manager == null ? null : manager.getControl();
+		MElementContainer<MUIElement> parentElement = toolbarModel.getParent();
+		Object container = parentElement == null ? null : parentElement.getWidget();
+		if (toolBar == null || toolBar.isDisposed() || container == null) {
+			return widget;
+		}
+		Control rendered = toolBar;
+		while (rendered.getParent() != null && rendered.getParent() != container) {
+			rendered = rendered.getParent();
+		}
+		return rendered.getParent() == container ? rendered : widget;
+	}
+
+	@Override
+	public void disposeWidget(MUIElement element) {
+		Object widget = element.getWidget();
+		if (element instanceof MToolBar && widget instanceof Control) {
+			Control rendered = getRenderedControl((MToolBar) element, (Control) widget);
+			if (toolBarPool.park(element, rendered, (Shell) context.get("limbo"))) { //$NON-NLS-1$
+				unbindWidget(element);
+				return;
+			}
+		}
+		super.disposeWidget(element);
 	}
 
 	/**
@@ -639,9 +745,19 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 	}
 
 	private void updateWidget(ToolBarManager manager) {
-		manager.update(true);
+		manager.markDirty();
 		ToolBar toolbar = manager.getControl();
-		if (toolbar != null && !toolbar.isDisposed()) {
+		if (toolbar == null || toolbar.isDisposed()) {
+			return;
+		}
+		// A non-forced update only creates and disposes the tool items of
+		// added, removed or hidden contributions. Unlike a forced update it
+		// does not update the other items again, which update themselves on
+		// label, enablement and selection changes.
+		ToolItem[] oldItems = toolbar.getItems();
+		manager.update(false);
+		if (!toolbar.isDisposed() && !Arrays.equals(oldItems, toolbar.getItems())) {
+			// the trim only has to be laid out again if the items changed
 			toolbar.requestLayout();
 		}
 	}
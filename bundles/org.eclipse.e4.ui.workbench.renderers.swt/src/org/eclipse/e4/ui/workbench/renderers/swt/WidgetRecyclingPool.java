@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.workbench.renderers.swt;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Bounded pool of controls whose model element was unrendered but is still
+ * part of the application model. Instead of being disposed, the control is
+ * moved to the 'limbo' shell and handed out again when the same element is
+ * rendered the next time, so that its widget hierarchy does not have to be
+ * rebuilt.
+ * <p>
+ * When the pool is full, the control parked the longest time ago is
+ * disposed. Controls of elements which were removed from the model in the
+ * meantime are disposed by {@link #discardRemoved()}, which the owner calls
+ * on model removals, and the next time the pool is changed.
+ * </p>
+ */
+final class WidgetRecyclingPool {
+
+	private final int capacity;
+
+	private final Consumer<MUIElement> removedHandler;
+
+	private final Map<MUIElement, Control> parked = new LinkedHashMap<>();
+
+	private int parkCount;
+
+	private int reuseCount;
+
+	private int discardCount;
+
+	/**
+	 * @param capacity
+	 *            the maximum number of parked controls, 0 disables the pool
+	 * @param removedHandler
+	 *            called with each element whose control was disposed because
+	 *            the element was removed from the application model, to
+	 *            release what the owner keeps for the element
+	 */
+	WidgetRecyclingPool(int capacity, Consumer<MUIElement> removedHandler) {
+		this.capacity = capacity;
+		this.removedHandler = removedHandler;
+	}
+
+	/**
+	 * Moves the given control to the limbo shell for later reuse by the given
+	 * element.
+	 *
+	 * @param element
+	 *            the element the control was rendered for
+	 * @param control
+	 *            the control
+	 * @param limbo
+	 *            the limbo shell, may be <code>null</code>
+	 * @return <code>true</code> if the control was parked, <code>false</code>
+	 *         if the caller has to dispose it
+	 */
+	boolean park(MUIElement element, Control control, Shell limbo) {
+		if (capacity <= 0 || limbo == null || limbo.isDisposed() || control.isDisposed()
+				|| !isInApplication(element) || !control.setParent(limbo)) {
+			return false;
+		}
+		Control previous = parked.put(element, control);
+		if (previous != null && previous != control) {
+			discard(previous);
+		}
+		parkCount++;
+		prune();
+		return true;
+	}
+
+	/**
+	 * Returns the control parked for the given element, moved to the given
+	 * parent.
+	 *
+	 * @param element
+	 *            the element to render
+	 * @param parent
+	 *            the new parent of the control
+	 * @return the control or <code>null</code> if there is no reusable control
+	 */
+	Control reuse(MUIElement element, Composite parent) {
+		Control control = parked.remove(element);
+		if (control == null) {
+			return null;
+		}
+		if (control.isDisposed() || parent.getDisplay() != control.getDisplay() || !control.setParent(parent)) {
+			discard(control);
+			return null;
+		}
+		reuseCount++;
+		return control;
+	}
+
+	/**
+	 * Disposes the control parked for the given element, if any.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	void discard(MUIElement element) {
+		Control control = parked.remove(element);
+		if (control != null) {
+			discard(control);
+		}
+	}
+
+	/**
+	 * Disposes all parked controls.
+	 */
+	void clear() {
+		List<Control> controls = new ArrayList<>(parked.values());
+		parked.clear();
+		controls.forEach(this::discard);
+	}
+
+	/**
+	 * Disposes the controls of elements which were removed from the
+	 * application model and notifies the removed handler about them.
+	 */
+	void discardRemoved() {
+		List<MUIElement> removed = new ArrayList<>();
+		for (Iterator<Entry<MUIElement, Control>> it = parked.entrySet().iterator(); it.hasNext();) {
+			Entry<MUIElement, Control> entry = it.next();
+			if (entry.getValue().isDisposed()) {
+				it.remove();
+			} else if (!isInApplication(entry.getKey())) {
+				removed.add(entry.getKey());
+			}
+		}
+		for (MUIElement element : removed) {
+			discard(element);
+			removedHandler.accept(element);
+		}
+	}
+
+	private void prune() {
+		discardRemoved();
+		List<Control> toDiscard = new ArrayList<>();
+		// the map keeps the parking order, the oldest entries come first
+		for (Iterator<Control> it = parked.values().iterator(); parked.size() > capacity;) {
+			toDiscard.add(it.next());
+			it.remove();
+		}
+		toDiscard.forEach(this::discard);
+	}
+
+	private void discard(Control control) {
+		if (!control.isDisposed()) {
+			discardCount++;
+			control.dispose();
+		}
+	}
+
+	private static boolean isInApplication(MUIElement element) {
+		EObject current = (EObject) element;
+		while (current.eContainer() != null) {
+			current = current.eContainer();
+		}
+		return current instanceof MApplication;
+	}
+
+	/**
+	 * @return the number of currently parked controls
+	 */
+	int size() {
+		return parked.size();
+	}
+
+	/**
+	 * @return the number of controls parked so far
+	 */
+	int getParkCount() {
+		return parkCount;
+	}
+
+	/**
+	 * @return the number of parked controls reused so far
+	 */
+	int getReuseCount() {
+		return reuseCount;
+	}
+
+	/**
+	 * @return the number of parked controls disposed so far without reuse
+	 */
+	int getDiscardCount() {
+		return discardCount;
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench.swt;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+
+/**
+ * Java Flight Recorder events for rendering and unrendering model elements.
+ * <p>
+ * <code>jdk.jfr</code> is an optional import, so the event classes are only
+ * touched after checking that the package can be loaded.
+ * </p>
+ */
+final class FlightRecorderEvents {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	@Name("org.eclipse.e4.ui.workbench.CreateGui")
+	@Label("Create Model Element Widget")
+	@Category({ "Eclipse", "Workbench" })
+	static final class CreateGuiEvent extends Event {
+		@Label("Element Id")
+		String elementId;
+
+		@Label("Element Type")
+		String elementType;
+	}
+
+	@Name("org.eclipse.e4.ui.workbench.RemoveGui")
+	@Label("Remove Model Element Widget")
+	@Category({ "Eclipse", "Workbench" })
+	static final class RemoveGuiEvent extends Event {
+		@Label("Element Id")
+		String elementId;
+
+		@Label("Element Type")
+		String elementType;
+	}
+
+	/**
+	 * The event types, only loaded if <code>jdk.jfr</code> is available. No
+	 * event is created while no recording enables its type.
+	 */
+	private static final class Types {
+		static final EventType CREATE_GUI = EventType.getEventType(CreateGuiEvent.class);
+
+		static final EventType REMOVE_GUI = EventType.getEventType(RemoveGuiEvent.class);
+	}
+
+	private FlightRecorderEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	static Object beginCreateGui() {
+		if (!AVAILABLE || !Types.CREATE_GUI.isEnabled()) {
+			return null;
+		}
+		CreateGuiEvent event = new CreateGuiEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitCreateGui(Object started, MUIElement element) {
+		if (started == null) {
+			return;
+		}
+		CreateGuiEvent event = (CreateGuiEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.elementId = element.getElementId();
+			event.elementType = getType(element);
+			event.commit();
+		}
+	}
+
+	static Object beginRemoveGui() {
+		if (!AVAILABLE || !Types.REMOVE_GUI.isEnabled()) {
+			return null;
+		}
+		RemoveGuiEvent event = new RemoveGuiEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitRemoveGui(Object started, MUIElement element) {
+		if (started == null) {
+			return;
+		}
+		RemoveGuiEvent event = (RemoveGuiEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.elementId = element.getElementId();
+			event.elementType = getType(element);
+			event.commit();
+		}
+	}
+
+	private static String getType(MUIElement element) {
+		// the model implementation classes are named after their interface
+		String name = element.getClass().getSimpleName();
+		return name.endsWith("Impl") ? name.substring(0, name.length() - 4) : name; //$NON-NLS-1$
+	}
+}
@@ -541,7 +541,12 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 			@Override
 			public void run() throws Exception {
-				gui[0] = safeCreateGui(element, parentWidget, parentContext);
+				Object event = FlightRecorderEvents.beginCreateGui();
+				try {
+					gui[0] = safeCreateGui(element, parentWidget, parentContext);
+				} finally {
+					FlightRecorderEvents.commitCreateGui(event, element);
+				}
 			}
 		});
 		return gui[0];
@@ -725,7 +730,12 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 			@Override
 			public void run() throws Exception {
-				gui[0] = safeCreateGui(element);
+				Object event = FlightRecorderEvents.beginCreateGui();
+				try {
+					gui[0] = safeCreateGui(element);
+				} finally {
+					FlightRecorderEvents.commitCreateGui(event, element);
+				}
 			}
 		});
 		return gui[0];
@@ -858,7 +868,12 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 			@Override
 			public void run() throws Exception {
-				safeRemoveGui(element);
+				Object event = FlightRecorderEvents.beginRemoveGui();
+				try {
+					safeRemoveGui(element);
+				} finally {
+					FlightRecorderEvents.commitRemoveGui(event, element);
+				}
 			}
 		});
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2019 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@ package org.eclipse.e4.ui.internal.workbench;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -40,6 +42,7 @@ import org.eclipse.e4.core.internal.contexts.ContextObjectSupplier;
 import org.eclipse.e4.core.internal.di.InjectorImpl;
 import org.eclipse.e4.core.services.contributions.IContributionFactory;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.commands.MCommand;
 import org.eclipse.e4.ui.model.application.ui.MCoreExpression;
 import org.eclipse.e4.ui.model.application.ui.MElementContainer;
@@ -67,6 +70,8 @@ public final class ContributionsAnalyzer {
 
 	private static final Object missingEvaluate = new Object();
 
+	private static final String VISIBLE_WHEN_MEMO = "ContributionsAnalyzer.visibleWhenMemo"; //$NON-NLS-1$
+
 	public static void trace(String msg, Throwable error) {
 		if (DEBUG) {
 			Activator.trace(Policy.DEBUG_MENUS_FLAG, msg, error);
@@ -85,7 +90,8 @@ public final class ContributionsAnalyzer {
 		if (elementId == null || elementId.isEmpty()) {
 			return;
 		}
-		for (MTrimContribution contribution : trimContributions) {
+		for (MTrimContribution contribution : ContributionsIndex.getCandidates(trimContributions,
+				MTrimContribution::getParentId, Collections.singleton(elementId))) {
 			String parentId = contribution.getParentId();
 			if (!elementId.equals(parentId) || !contribution.isToBeRendered()) {
 				continue;
@@ -101,7 +107,8 @@ public final class ContributionsAnalyzer {
 		if (id == null || id.isEmpty()) {
 			return;
 		}
-		for (MToolBarContribution toolBarContribution : toolbarContributionList) {
+		for (MToolBarContribution toolBarContribution : ContributionsIndex.getCandidates(toolbarContributionList,
+				MToolBarContribution::getParentId, Collections.singleton(id))) {
 			String parentID = toolBarContribution.getParentId();
 			if (!id.equals(parentID) || !toolBarContribution.isToBeRendered()) {
 				continue;
@@ -116,7 +123,8 @@ public final class ContributionsAnalyzer {
 		if (id == null || id.isEmpty()) {
 			return;
 		}
-		for (MToolBarContribution toolBarContribution : toolbarContributionList) {
+		for (MToolBarContribution toolBarContribution : ContributionsIndex.getCandidates(toolbarContributionList,
+				MToolBarContribution::getParentId, Collections.singleton(id))) {
 			String parentID = toolBarContribution.getParentId();
 			if (!id.equals(parentID) || !toolBarContribution.isToBeRendered()) {
 				continue;
@@ -144,8 +152,14 @@ public final class ContributionsAnalyzer {
 				}
 			}
 		}
+		ArrayList<String> candidateIds = new ArrayList<>(popupIds);
+		candidateIds.add(id);
+		if (includePopups && menuModel instanceof MPopupMenu) {
+			candidateIds.add(POPUP_PARENT_ID);
+		}
 		ArrayList<MMenuContribution> includedPopups = new ArrayList<>();
-		for (MMenuContribution menuContribution : menuContributionList) {
+		for (MMenuContribution menuContribution : ContributionsIndex.getCandidates(menuContributionList,
+				MMenuContribution::getParentId, candidateIds)) {
 			String parentID = menuContribution.getParentId();
 			if (parentID == null) {
 				// it doesn't make sense for this to be null, temporary workaround for bug 320790
@@ -177,7 +191,11 @@ public final class ContributionsAnalyzer {
 			return;
 		}
 		boolean menuBar = (((MUIElement) ((EObject) menuModel).eContainer()) instanceof MWindow);
-		for (MMenuContribution menuContribution : menuContributionList) {
+		List<String> candidateIds = (menuModel instanceof MPopupMenu && includePopups)
+				? Arrays.asList(id, POPUP_PARENT_ID)
+				: Collections.singletonList(id);
+		for (MMenuContribution menuContribution : ContributionsIndex.getCandidates(menuContributionList,
+				MMenuContribution::getParentId, candidateIds)) {
 			String parentID = menuContribution.getParentId();
 			if (parentID == null) {
 				// it doesn't make sense for this to be null, temporary workaround for bug 320790
@@ -232,21 +250,76 @@ public final class ContributionsAnalyzer {
 		if (menuContribution.getVisibleWhen() == null) {
 			return true;
 		}
-		return isVisible(menuContribution.getVisibleWhen(), eContext);
+		return isVisible(menuContribution, menuContribution.getVisibleWhen(), eContext);
 	}
 
 	public static boolean isVisible(MToolBarContribution contribution, ExpressionContext eContext) {
 		if (contribution.getVisibleWhen() == null) {
 			return true;
 		}
-		return isVisible(contribution.getVisibleWhen(), eContext);
+		return isVisible(contribution, contribution.getVisibleWhen(), eContext);
 	}
 
 	public static boolean isVisible(MTrimContribution contribution, ExpressionContext eContext) {
 		if (contribution.getVisibleWhen() == null) {
 			return true;
 		}
-		return isVisible(contribution.getVisibleWhen(), eContext);
+		return isVisible(contribution, contribution.getVisibleWhen(), eContext);
+	}
+
+	/**
+	 * Evaluates the visibleWhen expression of a contribution, or answers the
+	 * result of the last evaluation if the context variables the expression reads
+	 * still have the same values. Expressions which test properties or system
+	 * properties, or do not report what they read, are always evaluated.
+	 */
+	private static boolean isVisible(MApplicationElement contribution, MExpression exp,
+			ExpressionContext eContext) {
+		if (!(exp instanceof MCoreExpression)) {
+			return isVisible(exp, eContext);
+		}
+		MCoreExpression coreExpression = (MCoreExpression) exp;
+		Expression ref = getCoreExpression(coreExpression);
+		ExpressionInfo info = ref.computeExpressionInfo();
+		if (info.getAccessedPropertyNames().length > 0 || info.hasSystemPropertyAccess()
+				|| info.getMisbehavingExpressionTypes() != null) {
+			return isCoreExpressionVisible(coreExpression, eContext);
+		}
+		String[] names = info.getAccessedVariableNames();
+		Object[] values = new Object[names.length + 1];
+		for (int i = 0; i < names.length; i++) {
+			values[i] = eContext.getVariable(names[i]);
+		}
+		if (info.hasDefaultVariableAccess()) {
+			values[names.length] = eContext.getDefaultVariable();
+		}
+		Object memo = contribution.getTransientData().get(VISIBLE_WHEN_MEMO);
+		if (memo instanceof VisibleWhenMemo && ((VisibleWhenMemo) memo).matches(ref, values)) {
+			return ((VisibleWhenMemo) memo).visible;
+		}
+		boolean visible = isCoreExpressionVisible(coreExpression, eContext);
+		contribution.getTransientData().put(VISIBLE_WHEN_MEMO, new VisibleWhenMemo(ref, values, visible));
+		return visible;
+	}
+
+	/**
+	 * The result of evaluating a visibleWhen expression with the values of the
+	 * variables it read.
+	 */
+	private static final class VisibleWhenMemo {
+		final Expression expression;
+		final Object[] values;
+		final boolean visible;
+
+		VisibleWhenMemo(Expression expression, Object[] values, boolean visible) {
+			this.expression = expression;
+			this.values = values;
+			this.visible = visible;
+		}
+
+		boolean matches(Expression otherExpression, Object[] otherValues) {
+			return expression == otherExpression && Arrays.equals(values, otherValues);
+		}
 	}
 
 	public static boolean isVisible(MExpression exp, final ExpressionContext eContext) {
@@ -260,14 +333,17 @@ public final class ContributionsAnalyzer {
 		return true;
 	}
 
-	private static boolean isCoreExpressionVisible(MCoreExpression coreExpression, final ExpressionContext eContext) {
-		final Expression ref;
+	private static Expression getCoreExpression(MCoreExpression coreExpression) {
 		if (coreExpression.getCoreExpression() instanceof Expression) {
-			ref = (Expression) coreExpression.getCoreExpression();
-		} else {
-			ref = new ReferenceExpression(coreExpression.getCoreExpressionId());
-			coreExpression.setCoreExpression(ref);
+			return (Expression) coreExpression.getCoreExpression();
 		}
+		Expression ref = new ReferenceExpression(coreExpression.getCoreExpressionId());
+		coreExpression.setCoreExpression(ref);
+		return ref;
+	}
+
+	private static boolean isCoreExpressionVisible(MCoreExpression coreExpression, final ExpressionContext eContext) {
+		final Expression ref = getCoreExpression(coreExpression);
 		// Creates dependency on a predefined value that can be "poked" by
 		// the evaluation
 		// service
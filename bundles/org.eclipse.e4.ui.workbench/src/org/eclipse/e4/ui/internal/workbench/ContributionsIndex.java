@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreEList;
+
+/**
+ * Index of the menu, toolbar or trim contributions of the application by their
+ * parent id, so that a menu or toolbar being shown only looks at the
+ * contributions targeting it instead of the whole contribution list.
+ * <p>
+ * The index is attached as an adapter to the application and to each indexed
+ * contribution, so it is stateless with regard to its target. It is discarded
+ * whenever the contribution list changes or the parent id of a contribution
+ * changes and rebuilt on the next lookup. Removed contributions are released.
+ * </p>
+ *
+ * @param <T> the contribution type
+ */
+final class ContributionsIndex<T> extends AdapterImpl {
+
+	private static final String PARENT_ID = "parentId"; //$NON-NLS-1$
+
+	private final EStructuralFeature listFeature;
+
+	private final Function<T, String> parentIdFunction;
+
+	private Map<String, List<T>> byParentId;
+
+	private Map<T, Integer> positions;
+
+	private ContributionsIndex(EStructuralFeature listFeature, Function<T, String> parentIdFunction) {
+		this.listFeature = listFeature;
+		this.parentIdFunction = parentIdFunction;
+	}
+
+	/**
+	 * Returns the contributions of the given list which may target one of the
+	 * given parent ids, in list order. The caller still has to check each
+	 * returned contribution, as lists which are not owned by a model element are
+	 * returned unchanged.
+	 *
+	 * @param contributions    the contribution list of the application
+	 * @param parentIdFunction returns the parent id of a contribution
+	 * @param parentIds        the requested parent ids
+	 * @return the candidate contributions
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Collection<T> getCandidates(List<T> contributions, Function<T, String> parentIdFunction,
+			Collection<String> parentIds) {
+		if (!(contributions instanceof EcoreEList<?>)) {
+			return contributions;
+		}
+		EcoreEList<?> eList = (EcoreEList<?>) contributions;
+		EObject owner = eList.getEObject();
+		EStructuralFeature feature = eList.getEStructuralFeature();
+		ContributionsIndex<T> index = null;
+		for (Adapter adapter : owner.eAdapters()) {
+			if (adapter instanceof ContributionsIndex<?> && ((ContributionsIndex<?>) adapter).listFeature == feature) {
+				index = (ContributionsIndex<T>) adapter;
+				break;
+			}
+		}
+		if (index == null) {
+			index = new ContributionsIndex<>(feature, parentIdFunction);
+			owner.eAdapters().add(index);
+		}
+		return index.lookup(contributions, parentIds);
+	}
+
+	private Collection<T> lookup(List<T> contributions, Collection<String> parentIds) {
+		if (byParentId == null) {
+			build(contributions);
+		}
+		if (parentIds.size() == 1) {
+			List<T> bucket = byParentId.get(parentIds.iterator().next());
+			return bucket == null ? Collections.emptyList() : bucket;
+		}
+		List<T> result = new ArrayList<>();
+		for (String parentId : new HashSet<>(parentIds)) {
+			List<T> bucket = byParentId.get(parentId);
+			if (bucket != null) {
+				result.addAll(bucket);
+			}
+		}
+		// restore the list order across the buckets
+		result.sort((a, b) -> Integer.compare(positions.get(a), positions.get(b)));
+		return result;
+	}
+
+	private void build(List<T> contributions) {
+		byParentId = new HashMap<>();
+		positions = new IdentityHashMap<>();
+		int position = 0;
+		for (T contribution : contributions) {
+			positions.put(contribution, Integer.valueOf(position++));
+			List<Adapter> adapters = ((EObject) contribution).eAdapters();
+			if (!adapters.contains(this)) {
+				adapters.add(this);
+			}
+			String parentId = parentIdFunction.apply(contribution);
+			if (parentId != null) {
+				byParentId.computeIfAbsent(parentId, id -> new ArrayList<>()).add(contribution);
+			}
+		}
+	}
+
+	@Override
+	public void notifyChanged(Notification msg) {
+		if (msg.isTouch()) {
+			return;
+		}
+		Object feature = msg.getFeature();
+		if (feature == listFeature) {
+			switch (msg.getEventType()) {
+			case Notification.REMOVE:
+			case Notification.SET:
+				release(msg.getOldValue());
+				break;
+			case Notification.REMOVE_MANY:
+				if (msg.getOldValue() instanceof Collection<?>) {
+					for (Object contribution : (Collection<?>) msg.getOldValue()) {
+						release(contribution);
+					}
+				}
+				break;
+			default:
+				break;
+			}
+			byParentId = null;
+			positions = null;
+		} else if (feature instanceof EStructuralFeature
+				&& PARENT_ID.equals(((EStructuralFeature) feature).getName())) {
+			byParentId = null;
+			positions = null;
+		}
+	}
+
+	private void release(Object contribution) {
+		if (contribution instanceof EObject) {
+			((EObject) contribution).eAdapters().remove(this);
+		}
+	}
+
+	@Override
+	public void setTarget(Notifier newTarget) {
+		// attached to many notifiers
+	}
+
+	@Override
+	public void unsetTarget(Notifier oldTarget) {
+		// attached to many notifiers
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ContributionsIndex.class;
+	}
+}
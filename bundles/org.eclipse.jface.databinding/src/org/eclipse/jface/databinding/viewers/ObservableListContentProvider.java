@@ -39,6 +39,11 @@ import org.eclipse.jface.viewers.Viewer;
  * elements of an {@link IObservableList} when set as the viewer's input.
  * Objects of this class listen for changes to the observable list, and will
  * insert and remove viewer elements to reflect observed changes.
+ * <p>
+ * For {@link org.eclipse.swt.SWT#VIRTUAL virtual} tables showing large lists
+ * consider {@link ObservableListLazyContentProvider}, which does not create
+ * rows for elements that are not visible.
+ * </p>
  *
  * @param <E> type of the values that are provided by this object TODO: Probably
  *            remove this!
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.databinding.viewers;
+
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.viewers.AbstractTableViewer;
+import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Table;
+
+/**
+ * A {@link ILazyContentProvider lazy content provider} for
+ * {@link AbstractTableViewer}s created with the {@link SWT#VIRTUAL} style that
+ * provides the elements of an {@link IObservableList} when set as the viewer's
+ * input.
+ * <p>
+ * Unlike {@link ObservableListContentProvider}, this content provider never
+ * hands the whole list to the viewer. Rows are only created when the table
+ * asks for them, i.e. when they become visible. Changes of the list are not
+ * applied element by element: all changes until the realm runs its next
+ * runnable are combined into one update, which adjusts the item count and
+ * clears the range of rows affected by the changes, so that visible rows are
+ * requested again. This makes it possible to show very large lists.
+ * </p>
+ * <p>
+ * Since the elements are not tracked, this content provider offers no set of
+ * known elements. Label providers which need such a set, like
+ * {@link ObservableMapLabelProvider}, cannot be used with it.
+ * </p>
+ *
+ * @param <E> type of the elements of the list
+ *
+ * @noextend This class is not intended to be subclassed by clients.
+ * @since 1.15
+ */
+public class ObservableListLazyContentProvider<E> implements ILazyContentProvider {
+
+	private AbstractTableViewer viewer;
+
+	private IObservableList<E> list;
+
+	/** First row affected by the pending changes, or -1 if there are none */
+	private int dirtyStart = -1;
+
+	/** Last row affected by the pending changes, inclusive */
+	private int dirtyEnd = -1;
+
+	private boolean updateScheduled;
+
+	private final IListChangeListener<E> listChangeListener = this::handleListChange;
+
+	private final Runnable updateRunnable = this::applyPendingChanges;
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		Assert.isTrue(viewer instanceof AbstractTableViewer,
+				"This content provider only works with AbstractTableViewer"); //$NON-NLS-1$
+		Assert.isTrue(newInput == null || newInput instanceof IObservableList,
+				"This content provider only works with input of type IObservableList"); //$NON-NLS-1$
+
+		if (list != null) {
+			list.removeListChangeListener(listChangeListener);
+		}
+		this.viewer = (AbstractTableViewer) viewer;
+		this.list = (IObservableList<E>) newInput;
+		dirtyStart = -1;
+		dirtyEnd = -1;
+		if (list != null) {
+			list.addListChangeListener(listChangeListener);
+			this.viewer.setItemCount(list.size());
+		}
+	}
+
+	@Override
+	public void updateElement(int index) {
+		if (list == null || isViewerDisposed()) {
+			return;
+		}
+		if (index < list.size()) {
+			viewer.replace(list.get(index), index);
+		}
+	}
+
+	private void handleListChange(ListChangeEvent<? extends E> event) {
+		if (isViewerDisposed()) {
+			return;
+		}
+		event.diff.accept(new ListDiffVisitor<E>() {
+			@Override
+			public void handleAdd(int index, E element) {
+				// all following rows are shifted
+				markDirty(index, Integer.MAX_VALUE);
+			}
+
+			@Override
+			public void handleRemove(int index, E element) {
+				markDirty(index, Integer.MAX_VALUE);
+			}
+
+			@Override
+			public void handleMove(int oldIndex, int newIndex, E element) {
+				markDirty(Math.min(oldIndex, newIndex), Math.max(oldIndex, newIndex));
+			}
+
+			@Override
+			public void handleReplace(int index, E oldElement, E newElement) {
+				markDirty(index, index);
+			}
+		});
+		if (!updateScheduled && dirtyStart != -1) {
+			updateScheduled = true;
+			list.getRealm().asyncExec(updateRunnable);
+		}
+	}
+
+	private void markDirty(int start, int end) {
+		if (dirtyStart == -1) {
+			dirtyStart = start;
+			dirtyEnd = end;
+		} else {
+			dirtyStart = Math.min(dirtyStart, start);
+			dirtyEnd = Math.max(dirtyEnd, end);
+		}
+	}
+
+	private void applyPendingChanges() {
+		updateScheduled = false;
+		if (list == null || dirtyStart == -1 || isViewerDisposed()) {
+			return;
+		}
+		int start = dirtyStart;
+		int size = list.size();
+		int end = Math.min(dirtyEnd, size - 1);
+		dirtyStart = -1;
+		dirtyEnd = -1;
+
+		viewer.setItemCount(size);
+		if (start > end) {
+			return;
+		}
+		if (viewer.getControl() instanceof Table) {
+			// Clearing only drops the cached contents of existing rows, the
+			// table requests them again once they are visible
+			((Table) viewer.getControl()).clear(start, end);
+		} else {
+			viewer.refresh();
+		}
+	}
+
+	private boolean isViewerDisposed() {
+		return viewer == null || viewer.getControl() == null || viewer.getControl().isDisposed();
+	}
+
+	/**
+	 * Disposes of this content provider. This is called by the viewer when a
+	 * content provider is replaced, or when the viewer itself is disposed.
+	 */
+	@Override
+	public void dispose() {
+		if (list != null) {
+			list.removeListChangeListener(listChangeListener);
+		}
+		list = null;
+		viewer = null;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,15 +15,26 @@
 package org.eclipse.jface.fieldassist;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.jface.dialogs.PopupDialog;
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.events.FocusAdapter;
 import org.eclipse.swt.events.FocusEvent;
 import org.eclipse.swt.events.SelectionEvent;
@@ -36,6 +47,7 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.ScrollBar;
@@ -743,6 +755,31 @@ public class ContentProposalAdapter {
 			}
 		}
 
+		/*
+		 * Shows proposals computed in the background. The first proposals of a
+		 * computation replace the proposals shown so far, later ones are
+		 * appended to the virtual table without clearing it.
+		 */
+		private void addProposals(IContentProposal[] newProposals, boolean replace) {
+			IContentProposal[] filtered = filterProposals(newProposals, filterText);
+			if (replace) {
+				setProposals(filtered);
+				return;
+			}
+			if (filtered.length == 0) {
+				return;
+			}
+			IContentProposal[] all = Arrays.copyOf(proposals, proposals.length + filtered.length);
+			System.arraycopy(filtered, 0, all, proposals.length, filtered.length);
+			proposals = all;
+			if (isValid()) {
+				proposalTable.setItemCount(all.length);
+				if (proposalTable.getSelectionIndex() < 0) {
+					selectProposal(0);
+				}
+			}
+		}
+
 		/*
 		 * Get the string for the specified proposal. Always return a String of
 		 * some kind.
@@ -864,6 +901,7 @@ public class ContentProposalAdapter {
 		 */
 		@Override
 		public boolean close() {
+			cancelProposalRequest();
 			popupCloser.removeListeners();
 			if (infoPopup != null) {
 				infoPopup.close();
@@ -946,6 +984,11 @@ public class ContentProposalAdapter {
 		 * caches. Repopulate the popup if it is open.
 		 */
 		private void recomputeProposals(String filterText) {
+			if (computeProposalsAsync) {
+				// the proposals are filtered once they arrive
+				computeProposalsInBackground(true, true);
+				return;
+			}
 			IContentProposal[] allProposals = getProposals();
 			if (allProposals == null)
 				 allProposals = getEmptyProposalArray();
@@ -1088,6 +1131,23 @@ public class ContentProposalAdapter {
 	 */
 	private static final String EMPTY = ""; //$NON-NLS-1$
 
+	/*
+	 * The threads computing proposals for adapters which compute proposals in
+	 * the background. There is more than one, so that a provider which ignores
+	 * the cancellation of a stale computation does not hold up the next one.
+	 */
+	private static final ThreadPoolExecutor PROPOSAL_EXECUTOR;
+
+	static {
+		AtomicInteger threadCount = new AtomicInteger();
+		PROPOSAL_EXECUTOR = new ThreadPoolExecutor(2, 2, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread = new Thread(r, "Content proposal computer " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		PROPOSAL_EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
 	/*
 	 * The object that provides content proposals.
 	 */
@@ -1207,6 +1267,129 @@ public class ContentProposalAdapter {
 	 */
 	private boolean autoActivateOnAllModifications = false;
 
+	/*
+	 * A flag that indicates that proposals are computed in the background.
+	 */
+	private boolean computeProposalsAsync = false;
+
+	/*
+	 * The computation of proposals in the background whose proposals are to be
+	 * shown, or null if there is none.
+	 */
+	private ProposalRequest proposalRequest;
+
+	/*
+	 * A computation of proposals in the background. The proposals found by the
+	 * provider are passed to the UI thread in batches, each batch collecting the
+	 * proposals found while the UI thread was busy with the previous one.
+	 */
+	private final class ProposalRequest implements Runnable {
+		private final Display display;
+		private final IContentProposalProvider provider;
+		private final String contents;
+		private final int position;
+		private final boolean refresh;
+		private final boolean autoActivated;
+		private final NullProgressMonitor monitor = new NullProgressMonitor();
+
+		// guarded by pending
+		private final List<IContentProposal> pending = new ArrayList<>();
+		private boolean updateScheduled;
+		private boolean done;
+
+		// accessed in the UI thread only
+		private int received;
+		private boolean shown;
+
+		ProposalRequest(String contents, int position, boolean refresh, boolean autoActivated) {
+			this.display = control.getDisplay();
+			this.provider = proposalProvider;
+			this.contents = contents;
+			this.position = position;
+			this.refresh = refresh;
+			this.autoActivated = autoActivated;
+		}
+
+		@Override
+		public void run() {
+			try {
+				if (!monitor.isCanceled()) {
+					provider.computeProposals(contents, position, this::add, monitor);
+				}
+			} catch (RuntimeException e) {
+				Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE,
+						"The content proposals could not be computed", e)); //$NON-NLS-1$
+			} finally {
+				synchronized (pending) {
+					done = true;
+				}
+				scheduleUpdate();
+			}
+		}
+
+		private void add(IContentProposal[] proposals) {
+			if (proposals == null || proposals.length == 0 || monitor.isCanceled()) {
+				return;
+			}
+			synchronized (pending) {
+				pending.addAll(Arrays.asList(proposals));
+			}
+			scheduleUpdate();
+		}
+
+		private void scheduleUpdate() {
+			synchronized (pending) {
+				if (updateScheduled || monitor.isCanceled()) {
+					return;
+				}
+				updateScheduled = true;
+			}
+			try {
+				display.asyncExec(this::update);
+			} catch (SWTException e) {
+				// the display was disposed in the meantime
+			}
+		}
+
+		private void update() {
+			IContentProposal[] proposals;
+			boolean finished;
+			synchronized (pending) {
+				proposals = pending.toArray(new IContentProposal[pending.size()]);
+				pending.clear();
+				updateScheduled = false;
+				finished = done;
+			}
+			if (proposalRequest != this || !isValid()) {
+				return;
+			}
+			if (finished) {
+				proposalRequest = null;
+			}
+			received += proposals.length;
+			if (popup == null) {
+				if (shown) {
+					// the popup was closed in the meantime
+					cancelProposalRequest();
+				} else if (proposals.length > 0) {
+					shown = true;
+					showProposalPopup(proposals);
+				} else if (finished && received == 0 && !autoActivated) {
+					getControl().getDisplay().beep();
+				}
+			} else if (shown || proposals.length > 0 || finished) {
+				popup.addProposals(proposals, !shown);
+				shown = true;
+				// If the non-filtered proposal list is empty, we should
+				// close the popup, like when computing proposals in the UI
+				// thread.
+				if (finished && received == 0 && refresh) {
+					popup.close();
+				}
+			}
+		}
+	}
+
 	/**
 	 * Construct a content proposal adapter that can assist the user with
 	 * choosing content for the field.
@@ -1420,6 +1603,47 @@ public class ContentProposalAdapter {
 
 	}
 
+	/**
+	 * Returns whether proposals are computed in the background.
+	 *
+	 * @return <code>true</code> if the proposals are computed in the
+	 *         background, <code>false</code> if they are computed in the UI
+	 *         thread
+	 * @since 3.30
+	 * @see #setComputeProposalsAsync(boolean)
+	 */
+	public boolean isComputeProposalsAsync() {
+		return computeProposalsAsync;
+	}
+
+	/**
+	 * Sets whether proposals are computed in the background. If so, the
+	 * proposal provider is asked for proposals through
+	 * {@link IContentProposalProvider#computeProposals(String, int, java.util.function.Consumer, org.eclipse.core.runtime.IProgressMonitor)}
+	 * in a background thread, so that typing in the control is not blocked by
+	 * providers which take long to compute their proposals. The popup opens
+	 * with the first proposals found and shows the remaining proposals as they
+	 * are found. A computation is canceled once its proposals are no longer
+	 * needed, that is when the proposals are computed again or the popup is
+	 * closed.
+	 * <p>
+	 * The default is <code>false</code>, proposals are computed in the UI
+	 * thread.
+	 * </p>
+	 *
+	 * @param async
+	 *            <code>true</code> if the proposals are to be computed in the
+	 *            background, <code>false</code> if they are to be computed in
+	 *            the UI thread
+	 * @since 3.30
+	 */
+	public void setComputeProposalsAsync(boolean async) {
+		if (!async) {
+			cancelProposalRequest();
+		}
+		computeProposalsAsync = async;
+	}
+
 	/**
 	 * Get the integer style that indicates how an accepted proposal affects the
 	 * control's content.
@@ -1877,19 +2101,16 @@ public class ContentProposalAdapter {
 			if (popup == null) {
 				// Check whether there are any proposals to be shown.
 				recordCursorPosition(); // must be done before getting proposals
+				if (computeProposalsAsync) {
+					// the popup opens with the first proposals found
+					computeProposalsInBackground(false, autoActivated);
+					return;
+				}
 				IContentProposal[] proposals = getProposals();
 				if (proposals == null)
 					return;
 				if (proposals.length > 0) {
-					if (DEBUG) {
-						System.out.println("POPUP OPENED BY PRECEDING EVENT"); //$NON-NLS-1$
-					}
-					recordCursorPosition();
-					popup = new ContentProposalPopup(null, proposals);
-					popup.open();
-					popup.getShell().addDisposeListener(event -> popup = null);
-					internalPopupOpened();
-					notifyPopupOpened();
+					showProposalPopup(proposals);
 				} else if (!autoActivated) {
 					getControl().getDisplay().beep();
 				}
@@ -1897,6 +2118,21 @@ public class ContentProposalAdapter {
 		}
 	}
 
+	/*
+	 * Open the proposal popup with the given proposals.
+	 */
+	private void showProposalPopup(IContentProposal[] proposals) {
+		if (DEBUG) {
+			System.out.println("POPUP OPENED BY PRECEDING EVENT"); //$NON-NLS-1$
+		}
+		recordCursorPosition();
+		popup = new ContentProposalPopup(null, proposals);
+		popup.open();
+		popup.getShell().addDisposeListener(event -> popup = null);
+		internalPopupOpened();
+		notifyPopupOpened();
+	}
+
 	/**
 	 * Open the proposal popup and display the proposals provided by the proposal
 	 * provider. This method returns immediately. That is, it does not wait for a
@@ -2034,6 +2270,35 @@ public class ContentProposalAdapter {
 				position);
 	}
 
+	/*
+	 * Start computing the proposals in the background, canceling the
+	 * computation of proposals which are no longer needed. The popup is
+	 * opened, or refreshed if it is open, once the first proposals are found.
+	 */
+	private void computeProposalsInBackground(boolean refresh, boolean autoActivated) {
+		cancelProposalRequest();
+		if (proposalProvider == null || !isValid()) {
+			return;
+		}
+		int position = insertionPos;
+		if (position == -1) {
+			position = getControlContentAdapter().getCursorPosition(getControl());
+		}
+		String contents = getControlContentAdapter().getControlContents(getControl());
+		proposalRequest = new ProposalRequest(contents, position, refresh, autoActivated);
+		PROPOSAL_EXECUTOR.execute(proposalRequest);
+	}
+
+	/*
+	 * Cancel the computation of proposals in the background, if any.
+	 */
+	private void cancelProposalRequest() {
+		if (proposalRequest != null) {
+			proposalRequest.monitor.setCanceled(true);
+			proposalRequest = null;
+		}
+	}
+
 	/**
 	 * Autoactivation has been triggered. Open the popup using any specified
 	 * delay.
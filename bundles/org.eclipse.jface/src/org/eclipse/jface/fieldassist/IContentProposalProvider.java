@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jface.fieldassist;
 
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
 /**
  * IContentProposalProvider provides an array of IContentProposals that are
  * appropriate for a textual dialog field, given the field's current content and
@@ -37,4 +41,39 @@ public interface IContentProposalProvider {
 	 *         proposals for the field.
 	 */
 	IContentProposal[] getProposals(String contents, int position);
+
+	/**
+	 * Computes the valid proposals for a field and hands them to the given
+	 * consumer, possibly in several parts. This method is called instead of
+	 * {@link #getProposals(String, int)} when the
+	 * {@link ContentProposalAdapter} computes proposals in the background, it
+	 * is then not called in the UI thread.
+	 * <p>
+	 * Providers which search large amounts of data should override this method
+	 * to pass the first proposals to the consumer as soon as they are found,
+	 * so that they are shown while the remaining proposals are computed, and
+	 * should stop once the monitor is canceled because the proposals are no
+	 * longer needed. The default implementation passes the result of
+	 * {@link #getProposals(String, int)} at once.
+	 * </p>
+	 *
+	 * @param contents
+	 *            the contents of the text field when the proposals were
+	 *            requested
+	 * @param position
+	 *            the position of the cursor in the contents
+	 * @param consumer
+	 *            receives the proposals, may be called from any thread
+	 * @param monitor
+	 *            canceled when the proposals are no longer needed
+	 * @since 3.30
+	 * @see ContentProposalAdapter#setComputeProposalsAsync(boolean)
+	 */
+	default void computeProposals(String contents, int position, Consumer<IContentProposal[]> consumer,
+			IProgressMonitor monitor) {
+		IContentProposal[] proposals = getProposals(contents, position);
+		if (proposals != null && !monitor.isCanceled()) {
+			consumer.accept(proposals);
+		}
+	}
 }
@@ -0,0 +1,539 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+/**
+ * A cache of decoded image data which is kept on disk across sessions, so that
+ * the icons of the workbench do not have to be decoded on every start.
+ * <p>
+ * Entries are keyed by the location of the image and the zoom level and are
+ * only valid as long as the image at 100% zoom is unchanged, as told by its
+ * modification time and length. An entry found to be outdated is dropped.
+ * Image variants found to be missing for a zoom level are cached as well,
+ * which saves probing for them on the next start. Only images from files,
+ * jars and bundles are cached.
+ * </p>
+ * <p>
+ * The cache is used when the system property
+ * <code>org.eclipse.jface.imageDataCache</code> is <code>true</code> and an
+ * OSGi configuration area is available. It is read once on first use and
+ * written back in the background a few seconds after new entries were added,
+ * and when the workbench shuts down. Entries not used for
+ * {@value #MAX_IDLE_SESSIONS} sessions are no longer written back, so images
+ * no longer shown do not stay in the cache. When the cache is full, the least
+ * recently used entries are dropped.
+ * </p>
+ */
+public final class ImageDataCache {
+
+	/**
+	 * Marks image variants which do not exist.
+	 */
+	private static final byte[] MISSING = new byte[0];
+
+	private static final int MAGIC = 0x4A464943; // JFIC
+
+	private static final int VERSION = 2;
+
+	private static final long MAX_SIZE = 64L * 1024 * 1024;
+
+	private static final long WRITE_DELAY_SECONDS = 5;
+
+	/**
+	 * The number of sessions after which an unused entry is dropped.
+	 */
+	public static final int MAX_IDLE_SESSIONS = 10;
+
+	private static final ImageDataCache INSTANCE = createInstance();
+
+	private final File file;
+
+	private final long maxSize;
+
+	/**
+	 * The entries in access order, the least recently used first.
+	 */
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long size;
+
+	private boolean loaded;
+
+	private ScheduledFuture<?> scheduledWrite;
+
+	private ScheduledThreadPoolExecutor writer;
+
+	private int hits;
+
+	private int misses;
+
+	private static class Entry {
+		final long stamp;
+		final byte[] data;
+		/**
+		 * The number of sessions before this one in which the entry was not
+		 * used.
+		 */
+		final int idleSessions;
+		/**
+		 * Whether the entry was used in this session.
+		 */
+		boolean live;
+
+		Entry(long stamp, byte[] data, int idleSessions, boolean live) {
+			this.stamp = stamp;
+			this.data = data;
+			this.idleSessions = idleSessions;
+			this.live = live;
+		}
+	}
+
+	/**
+	 * Creates a cache kept in the given file.
+	 *
+	 * @param file    the cache file, created when the cache is written
+	 * @param maxSize the maximum size of the cached image data in bytes
+	 */
+	public ImageDataCache(File file, long maxSize) {
+		this.file = file;
+		this.maxSize = maxSize;
+	}
+
+	private static ImageDataCache createInstance() {
+		if (!Boolean.getBoolean("org.eclipse.jface.imageDataCache")) { //$NON-NLS-1$
+			return null;
+		}
+		String area = System.getProperty("osgi.configuration.area"); //$NON-NLS-1$
+		if (area == null) {
+			return null;
+		}
+		try {
+			File directory = new File(new URL(area).toURI());
+			return new ImageDataCache(new File(new File(directory, Policy.JFACE), "imagedata.cache"), MAX_SIZE); //$NON-NLS-1$
+		} catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the image data of the image at the given location for the given
+	 * zoom level, from the shared cache if it is enabled.
+	 *
+	 * @param location the location of the image at 100% zoom, may be
+	 *                 <code>null</code>
+	 * @param zoom     the zoom level
+	 * @param loader   loads the image data if it is not cached, returns
+	 *                 <code>null</code> if there is no image for the zoom level
+	 * @return the image data or <code>null</code>
+	 */
+	public static ImageData getImageData(URL location, int zoom, Supplier<ImageData> loader) {
+		ImageDataCache cache = INSTANCE;
+		return cache == null ? loader.get() : cache.lookup(location, zoom, loader);
+	}
+
+	/**
+	 * Writes the shared cache right away if entries were added since it was
+	 * last written. Called when the workbench shuts down, as the background
+	 * write would not happen anymore.
+	 */
+	public static void shutdown() {
+		ImageDataCache cache = INSTANCE;
+		if (cache != null) {
+			cache.flush();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the shared cache is used
+	 */
+	public static boolean isEnabled() {
+		return INSTANCE != null;
+	}
+
+	/**
+	 * @return a description of the shared cache usage for tracing
+	 */
+	public static String getStatistics() {
+		ImageDataCache cache = INSTANCE;
+		if (cache == null) {
+			return "image data cache disabled"; //$NON-NLS-1$
+		}
+		synchronized (cache) {
+			return "image data cache hits: " + cache.hits + ", misses: " + cache.misses; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Returns the image data of the image at the given location for the given
+	 * zoom level, from this cache if possible.
+	 *
+	 * @param location the location of the image at 100% zoom, may be
+	 *                 <code>null</code>
+	 * @param zoom     the zoom level
+	 * @param loader   loads the image data if it is not cached, returns
+	 *                 <code>null</code> if there is no image for the zoom level
+	 * @return the image data or <code>null</code>
+	 */
+	public ImageData lookup(URL location, int zoom, Supplier<ImageData> loader) {
+		if (location == null) {
+			return loader.get();
+		}
+		long stamp = getStamp(location);
+		if (stamp == 0) {
+			return loader.get();
+		}
+		String key = location.toExternalForm() + '@' + zoom;
+		byte[] cached = get(key, stamp);
+		if (cached == MISSING) {
+			return null;
+		}
+		if (cached != null) {
+			try {
+				return read(ByteBuffer.wrap(cached));
+			} catch (RuntimeException e) {
+				// corrupt entry, load the image again
+			}
+		}
+		ImageData data = loader.get();
+		put(key, stamp, data == null ? MISSING : write(data));
+		return data;
+	}
+
+	private synchronized byte[] get(String key, long stamp) {
+		if (!loaded) {
+			loaded = true;
+			load();
+		}
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			if (entry.stamp == stamp) {
+				hits++;
+				entry.live = true;
+				return entry.data;
+			}
+			// the image changed, the entry is replaced once it is loaded again
+			entries.remove(key);
+			size -= entry.data.length;
+		}
+		misses++;
+		return null;
+	}
+
+	private synchronized void put(String key, long stamp, byte[] data) {
+		Entry old = entries.remove(key);
+		if (old != null) {
+			size -= old.data.length;
+		}
+		if (data.length > maxSize) {
+			return;
+		}
+		for (Iterator<Entry> it = entries.values().iterator(); size + data.length > maxSize && it.hasNext();) {
+			size -= it.next().data.length;
+			it.remove();
+		}
+		entries.put(key, new Entry(stamp, data, 0, true));
+		size += data.length;
+		if (scheduledWrite == null) {
+			if (writer == null) {
+				writer = new ScheduledThreadPoolExecutor(1, r -> {
+					Thread thread = new Thread(r, "JFace image data cache writer"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+				writer.setKeepAliveTime(WRITE_DELAY_SECONDS, TimeUnit.SECONDS);
+				writer.allowCoreThreadTimeOut(true);
+			}
+			scheduledWrite = writer.schedule(this::save, WRITE_DELAY_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	private void load() {
+		if (!file.isFile()) {
+			return;
+		}
+		// The file is streamed rather than mapped, as a mapped file cannot be
+		// replaced on all platforms before it is unmapped by the garbage
+		// collector
+		try (InputStream stream = Files.newInputStream(file.toPath());
+				DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				byte[] key = readBytes(in);
+				if (key == null) {
+					throw new IOException("Corrupt image data cache"); //$NON-NLS-1$
+				}
+				long stamp = in.readLong();
+				int idleSessions = in.readInt();
+				byte[] data = readBytes(in);
+				if (data == null) {
+					data = MISSING;
+				}
+				if (size + data.length <= maxSize) {
+					entries.put(new String(key, StandardCharsets.UTF_8), new Entry(stamp, data, idleSessions, false));
+					size += data.length;
+				}
+			}
+		} catch (IOException e) {
+			// start over with an empty cache
+			entries.clear();
+			size = 0;
+		}
+	}
+
+	/**
+	 * Writes the cache file right away if entries were added since it was last
+	 * written.
+	 */
+	public void flush() {
+		synchronized (this) {
+			if (scheduledWrite == null) {
+				return;
+			}
+		}
+		save();
+	}
+
+	/**
+	 * Writes the cache file right away. Normally the cache is written in the
+	 * background after entries were added. Entries not used in the last
+	 * {@value #MAX_IDLE_SESSIONS} sessions are left out.
+	 */
+	public void save() {
+		// the entries as written, in access order
+		Map<String, Entry> snapshot = new LinkedHashMap<>();
+		synchronized (this) {
+			if (scheduledWrite != null) {
+				scheduledWrite.cancel(false);
+				scheduledWrite = null;
+			}
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				Entry value = entry.getValue();
+				int idleSessions = value.live ? 0 : value.idleSessions + 1;
+				if (idleSessions < MAX_IDLE_SESSIONS) {
+					snapshot.put(entry.getKey(), new Entry(value.stamp, value.data, idleSessions, false));
+				}
+			}
+		}
+		File tempFile = null;
+		try {
+			File directory = file.getParentFile();
+			if (!directory.isDirectory() && !directory.mkdirs()) {
+				return;
+			}
+			tempFile = File.createTempFile("imagedata", ".tmp", directory); //$NON-NLS-1$ //$NON-NLS-2$
+			try (OutputStream stream = Files.newOutputStream(tempFile.toPath());
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(snapshot.size());
+				for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+					writeBytes(out, entry.getKey().getBytes(StandardCharsets.UTF_8));
+					out.writeLong(entry.getValue().stamp);
+					out.writeInt(entry.getValue().idleSessions);
+					byte[] data = entry.getValue().data;
+					writeBytes(out, data == MISSING ? null : data);
+				}
+			}
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			tempFile = null;
+		} catch (IOException e) {
+			Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE, "Could not write the image data cache", e)); //$NON-NLS-1$
+		} finally {
+			if (tempFile != null) {
+				tempFile.delete();
+			}
+		}
+	}
+
+	/**
+	 * Returns a value which changes whenever the resource at the given location
+	 * changes, or 0 if that cannot be told cheaply.
+	 */
+	private static long getStamp(URL location) {
+		try {
+			URL resolved = location;
+			if (InternalPolicy.OSGI_AVAILABLE) {
+				URL platformURL = FileLocator.find(location);
+				if (platformURL != null) {
+					resolved = platformURL;
+				}
+			}
+			String protocol = resolved.getProtocol();
+			if ("file".equalsIgnoreCase(protocol)) { //$NON-NLS-1$
+				File resource = new File(resolved.toURI());
+				return resource.isFile() ? resource.lastModified() * 31 + resource.length() : 0;
+			}
+			if (!"jar".equalsIgnoreCase(protocol) && !"bundleentry".equalsIgnoreCase(protocol) //$NON-NLS-1$ //$NON-NLS-2$
+					&& !"bundleresource".equalsIgnoreCase(protocol)) { //$NON-NLS-1$
+				// never cache remote resources
+				return 0;
+			}
+			URLConnection connection = resolved.openConnection();
+			long lastModified = connection.getLastModified();
+			long length = connection.getContentLengthLong();
+			if (lastModified <= 0 || length < 0) {
+				return 0;
+			}
+			return lastModified * 31 + length;
+		} catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			return 0;
+		}
+	}
+
+	private static byte[] write(ImageData data) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+				data.data.length + (data.alphaData == null ? 0 : data.alphaData.length) + 128);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(data.width);
+			out.writeInt(data.height);
+			out.writeInt(data.depth);
+			out.writeInt(data.scanlinePad);
+			PaletteData palette = data.palette;
+			out.writeBoolean(palette.isDirect);
+			if (palette.isDirect) {
+				out.writeInt(palette.redMask);
+				out.writeInt(palette.greenMask);
+				out.writeInt(palette.blueMask);
+			} else {
+				RGB[] colors = palette.getRGBs();
+				out.writeInt(colors.length);
+				for (RGB color : colors) {
+					out.writeByte(color.red);
+					out.writeByte(color.green);
+					out.writeByte(color.blue);
+				}
+			}
+			out.writeInt(data.transparentPixel);
+			out.writeInt(data.maskPad);
+			out.writeInt(data.alpha);
+			out.writeInt(data.type);
+			out.writeInt(data.x);
+			out.writeInt(data.y);
+			out.writeInt(data.disposalMethod);
+			out.writeInt(data.delayTime);
+			writeBytes(out, data.data);
+			writeBytes(out, data.maskData);
+			writeBytes(out, data.alphaData);
+		} catch (IOException e) {
+			// cannot happen when writing to memory
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static ImageData read(ByteBuffer in) {
+		int width = in.getInt();
+		int height = in.getInt();
+		int depth = in.getInt();
+		int scanlinePad = in.getInt();
+		PaletteData palette;
+		if (in.get() != 0) {
+			palette = new PaletteData(in.getInt(), in.getInt(), in.getInt());
+		} else {
+			RGB[] colors = new RGB[in.getInt()];
+			for (int i = 0; i < colors.length; i++) {
+				colors[i] = new RGB(in.get() & 0xFF, in.get() & 0xFF, in.get() & 0xFF);
+			}
+			palette = new PaletteData(colors);
+		}
+		int transparentPixel = in.getInt();
+		int maskPad = in.getInt();
+		int alpha = in.getInt();
+		int type = in.getInt();
+		int x = in.getInt();
+		int y = in.getInt();
+		int disposalMethod = in.getInt();
+		int delayTime = in.getInt();
+		ImageData data = new ImageData(width, height, depth, palette, scanlinePad, readBytes(in));
+		data.transparentPixel = transparentPixel;
+		data.maskPad = maskPad;
+		data.maskData = readBytes(in);
+		data.alpha = alpha;
+		data.alphaData = readBytes(in);
+		data.type = type;
+		data.x = x;
+		data.y = y;
+		data.disposalMethod = disposalMethod;
+		data.delayTime = delayTime;
+		return data;
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static byte[] readBytes(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return bytes;
+	}
+
+	private byte[] readBytes(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		if (length > maxSize) {
+			throw new IOException("Corrupt image data cache"); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+}
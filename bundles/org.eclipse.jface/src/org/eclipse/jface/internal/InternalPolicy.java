@@ -63,6 +63,14 @@ public class InternalPolicy {
 	 */
 	public static boolean DEBUG_TRACE_URL_IMAGE_DESCRIPTOR = false;
 
+	/**
+	 * (NON-API) Trace the hit rate of the cache of composed decoration overlay
+	 * images.
+	 *
+	 * @since 3.30
+	 */
+	public static boolean DEBUG_TRACE_OVERLAY_IMAGE_CACHE = false;
+
 	/**
 	 * (NON-API) Log cases where an "@2x" image could not be found.
 	 *
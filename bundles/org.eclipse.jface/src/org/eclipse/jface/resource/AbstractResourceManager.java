@@ -16,6 +16,9 @@ package org.eclipse.jface.resource;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map.Entry;
+import java.util.function.Function;
+
+import org.eclipse.swt.graphics.Device;
 
 /**
  * Abstract implementation of ResourceManager. Maintains reference counts for all previously
@@ -67,8 +70,30 @@ abstract class AbstractResourceManager extends ResourceManager {
 	 */
 	protected abstract void deallocate(Object resource, DeviceResourceDescriptor descriptor);
 
+	/**
+	 * Like {@link #allocate(DeviceResourceDescriptor)}, but allocates the
+	 * resource with the given function if the resource is created on this
+	 * manager.
+	 *
+	 * @param descriptor identifier for the resource to allocate
+	 * @param allocator  creates the resource for the device
+	 * @return the newly allocated resource
+	 * @throws DeviceResourceException Thrown when allocation of an SWT device
+	 *                                 resource fails
+	 */
+	Object allocate(DeviceResourceDescriptor descriptor, Function<Device, Object> allocator)
+			throws DeviceResourceException {
+		return allocate(descriptor);
+	}
+
 	@Override
 	public final Object create(DeviceResourceDescriptor descriptor) throws DeviceResourceException {
+		return create(descriptor, null);
+	}
+
+	@Override
+	final Object create(DeviceResourceDescriptor descriptor, Function<Device, Object> allocator)
+			throws DeviceResourceException {
 
 		// Lazily allocate the map
 		if (map == null) {
@@ -85,7 +110,7 @@ abstract class AbstractResourceManager extends ResourceManager {
 		}
 
 		// Allocate and return a new resource (with ref count = 1)
-		Object resource = allocate(descriptor);
+		Object resource = allocator == null ? allocate(descriptor) : allocate(descriptor, allocator);
 
 		count = new RefCount(resource);
 		map.put(descriptor, count);
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jface.resource;
 
+import java.util.function.Function;
+
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
 
@@ -55,6 +57,12 @@ public final class DeviceResourceManager extends AbstractResourceManager {
 		return descriptor.createResource(device);
 	}
 
+	@Override
+	Object allocate(DeviceResourceDescriptor descriptor, Function<Device, Object> allocator)
+			throws DeviceResourceException {
+		return allocator.apply(device);
+	}
+
 	@Override
 	protected void deallocate(Object resource, DeviceResourceDescriptor descriptor) {
 		descriptor.destroyResource(resource);
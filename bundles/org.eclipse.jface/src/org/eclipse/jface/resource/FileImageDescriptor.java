@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,12 @@
 package org.eclipse.jface.resource;
 
 import java.io.BufferedInputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -30,6 +32,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
@@ -37,6 +40,7 @@ import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageDataProvider;
 import org.eclipse.swt.graphics.ImageFileNameProvider;
 
 /**
@@ -95,6 +99,10 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable, ImageFi
 	 */
 	@Override
 	public ImageData getImageData(int zoom) {
+		return ImageDataCache.getImageData(getBaseURL(), zoom, () -> loadImageData(zoom));
+	}
+
+	private ImageData loadImageData(int zoom) {
 		InputStream in = getStream(zoom);
 		if (in != null) {
 			try (BufferedInputStream stream = new BufferedInputStream(in)) {
@@ -111,6 +119,26 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable, ImageFi
 		return null;
 	}
 
+	/**
+	 * Returns the location of the image at 100% zoom, which identifies the image
+	 * in the {@link ImageDataCache}.
+	 *
+	 * @return the URL or <code>null</code> if the file cannot be found
+	 */
+	private URL getBaseURL() {
+		if (!ImageDataCache.isEnabled()) {
+			return null;
+		}
+		if (location != null) {
+			return location.getResource(name);
+		}
+		try {
+			return new File(name).toURI().toURL();
+		} catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Returns a stream on the image contents. Returns null if a stream could
 	 * not be opened.
@@ -214,6 +242,10 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable, ImageFi
 	public Image createImage(boolean returnMissingImageOnError, Device device) {
 		if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
 			try {
+				if (ImageDataCache.isEnabled()) {
+					// SWT decodes files itself, which would bypass the image data cache
+					return new Image(device, (ImageDataProvider) this::getImageData);
+				}
 				return new Image(device, this);
 			} catch (SWTException | IllegalArgumentException exception) {
 				// If we fail, fall back to the old 1x implementation.
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageDataProvider;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Decodes images for {@link ResourceManager#createImageAsync(ImageDescriptor, Consumer)}
+ * on a small pool of worker threads. The UI thread only creates the image from
+ * the decoded image data.
+ * <p>
+ * Only descriptors which decode their images from files or URLs are decoded in
+ * the background, as their {@link ImageDescriptor#getImageData(int)} can be
+ * called from any thread and describes the image completely. Images of other
+ * descriptors are cheap to create or depend on other images, they are created
+ * with the next asyncExec of the display.
+ * </p>
+ */
+final class ImageDecoder {
+
+	private static final ThreadPoolExecutor EXECUTOR;
+
+	static {
+		int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+		AtomicInteger threadCount = new AtomicInteger();
+		EXECUTOR = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				r -> {
+					Thread thread = new Thread(r, "JFace image decoder " + threadCount.incrementAndGet()); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+		EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * The zoom levels images are decoded for. SWT asks for the 100% image and
+	 * the image for the zoom level of the device, which is learned from the
+	 * first image created.
+	 */
+	private static final Set<Integer> ZOOMS = ConcurrentHashMap.newKeySet();
+
+	static {
+		ZOOMS.add(Integer.valueOf(100));
+	}
+
+	private ImageDecoder() {
+	}
+
+	static void createImage(ResourceManager manager, ImageDescriptor descriptor, Consumer<Image> consumer) {
+		Device device = manager.getDevice();
+		if (!(device instanceof Display) || manager.find(descriptor) != null) {
+			consumer.accept(manager.createImageWithDefault(descriptor));
+			return;
+		}
+		Display display = (Display) device;
+		boolean[] cancelled = new boolean[1];
+		Runnable cancel = () -> cancelled[0] = true;
+		manager.disposeExec(cancel);
+
+		Runnable finish = () -> {
+			if (cancelled[0]) {
+				return;
+			}
+			manager.cancelDisposeExec(cancel);
+			consumer.accept(manager.createImageWithDefault(descriptor));
+		};
+		if (!isDecodable(descriptor)) {
+			display.asyncExec(finish);
+			return;
+		}
+		EXECUTOR.execute(() -> {
+			Map<Integer, ImageData> decoded = decode(descriptor);
+			if (display.isDisposed()) {
+				return;
+			}
+			try {
+				display.asyncExec(() -> {
+					if (cancelled[0]) {
+						return;
+					}
+					manager.cancelDisposeExec(cancel);
+					Image image;
+					try {
+						image = (Image) manager.create(descriptor, d -> createImage(d, descriptor, decoded));
+					} catch (DeviceResourceException | SWTException | IllegalArgumentException e) {
+						Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE,
+								"The image could not be loaded: " + descriptor, e)); //$NON-NLS-1$
+						image = manager.getDefaultImage();
+					}
+					consumer.accept(image);
+				});
+			} catch (SWTException e) {
+				// the display was disposed in the meantime
+			}
+		});
+	}
+
+	private static boolean isDecodable(ImageDescriptor descriptor) {
+		return descriptor instanceof URLImageDescriptor || descriptor instanceof FileImageDescriptor
+				|| descriptor instanceof DeferredImageDescriptor;
+	}
+
+	private static Map<Integer, ImageData> decode(ImageDescriptor descriptor) {
+		Map<Integer, ImageData> decoded = new HashMap<>();
+		for (Integer zoom : ZOOMS) {
+			try {
+				ImageData data = descriptor.getImageData(zoom.intValue());
+				if (data != null) {
+					decoded.put(zoom, data);
+				}
+			} catch (RuntimeException e) {
+				// the UI thread fails again and reports it
+			}
+		}
+		return decoded;
+	}
+
+	/**
+	 * Creates the image from the decoded image data, which is dropped afterwards
+	 * so that the image does not keep it alive. Falls back to the descriptor if the
+	 * image could not be decoded.
+	 */
+	private static Object createImage(Device device, ImageDescriptor descriptor, Map<Integer, ImageData> decoded) {
+		if (!decoded.containsKey(Integer.valueOf(100))) {
+			return descriptor.createResource(device);
+		}
+		Image image = new Image(device, (ImageDataProvider) zoom -> {
+			ImageData data = decoded.get(Integer.valueOf(zoom));
+			if (data == null) {
+				ZOOMS.add(Integer.valueOf(zoom));
+				data = descriptor.getImageData(zoom);
+			}
+			return data;
+		});
+		decoded.clear();
+		return image;
+	}
+}
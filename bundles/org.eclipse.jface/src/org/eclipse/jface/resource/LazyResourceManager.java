@@ -16,6 +16,7 @@ package org.eclipse.jface.resource;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.pde.api.tools.annotations.NoReference;
 import org.eclipse.swt.graphics.Device;
@@ -93,14 +94,19 @@ public class LazyResourceManager extends ResourceManager {
 	}
 	@Override
 	public Object create(DeviceResourceDescriptor descriptor) {
+		return create(descriptor, null);
+	}
+
+	@Override
+	Object create(DeviceResourceDescriptor descriptor, Function<Device, Object> allocator) {
 		if (!shouldBeCached(descriptor)) {
-			return parent.create(descriptor);
+			return createInParent(descriptor, allocator);
 		}
 		int updatedRefs = refCount.compute(descriptor, LazyResourceManager::createOrIncrease).intValue();
 		if (updatedRefs == 1) {
 			ResourceManager cached = unreferenced.remove(descriptor);
 			if (cached == null) {
-				return parent.create(descriptor);
+				return createInParent(descriptor, allocator);
 			}
 			// referenced again
 		} else {
@@ -109,6 +115,10 @@ public class LazyResourceManager extends ResourceManager {
 		return parent.find(descriptor);
 	}
 
+	private Object createInParent(DeviceResourceDescriptor descriptor, Function<Device, Object> allocator) {
+		return allocator == null ? parent.create(descriptor) : parent.create(descriptor, allocator);
+	}
+
 	@Override
 	public void destroy(DeviceResourceDescriptor descriptor) {
 		if (!shouldBeCached(descriptor)) {
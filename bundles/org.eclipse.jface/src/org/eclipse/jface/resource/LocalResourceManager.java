@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jface.resource;
 
+import java.util.function.Function;
+
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Control;
@@ -72,6 +74,12 @@ public final class LocalResourceManager extends AbstractResourceManager {
 		return parentRegistry.create(descriptor);
 	}
 
+	@Override
+	Object allocate(DeviceResourceDescriptor descriptor, Function<Device, Object> allocator)
+			throws DeviceResourceException {
+		return parentRegistry.create(descriptor, allocator);
+	}
+
 	@Override
 	protected void deallocate(Object resource,
 			DeviceResourceDescriptor descriptor) {
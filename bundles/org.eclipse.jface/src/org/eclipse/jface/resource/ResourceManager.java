@@ -15,6 +15,8 @@ package org.eclipse.jface.resource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
@@ -89,6 +91,20 @@ public abstract class ResourceManager {
 	 */
 	public abstract Object create(DeviceResourceDescriptor descriptor);
 
+	/**
+	 * Like {@link #create(DeviceResourceDescriptor)}, but allocates a resource
+	 * which does not exist yet with the given function instead of the
+	 * descriptor. Managers which cannot do that allocate with the descriptor.
+	 *
+	 * @param descriptor descriptor for the resource to allocate
+	 * @param allocator  creates the resource for the device of the manager
+	 * @return the newly allocated resource (not null)
+	 * @throws DeviceResourceException if unable to allocate the resource
+	 */
+	Object create(DeviceResourceDescriptor descriptor, Function<Device, Object> allocator) {
+		return create(descriptor);
+	}
+
 	/**
 	 * Deallocates a resource previously allocated by {@link #create(DeviceResourceDescriptor)}.
 	 * Descriptors are compared by equality, not identity. If the same resource was
@@ -202,6 +218,41 @@ public abstract class ResourceManager {
 		}
 	}
 
+	/**
+	 * Creates an image, given an image descriptor, without blocking the UI thread
+	 * while the image is decoded. The image is passed to the given consumer in
+	 * the UI thread once it is available, callers may show a placeholder until
+	 * then. If the image already exists, or if the manager does not manage
+	 * resources of a display, the consumer is called right away.
+	 * <p>
+	 * Images of descriptors created from files or URLs are decoded on a small
+	 * pool of background threads, the UI thread only creates the image from the
+	 * decoded data. Other images are created with the next asyncExec of the
+	 * display.
+	 * </p>
+	 * <p>
+	 * The image passed to the consumer is allocated like an image returned by
+	 * {@link #createImageWithDefault(ImageDescriptor)}: it must be disposed by
+	 * {@link #destroyImage(ImageDescriptor)} and never by calling
+	 * {@link Image#dispose()}, and the default image is passed if the image
+	 * cannot be created. If this manager is disposed before the image is
+	 * available, no image is allocated and the consumer is not called.
+	 * </p>
+	 * <p>
+	 * This method must be called from the UI thread of the display.
+	 * </p>
+	 *
+	 * @param descriptor descriptor for the image to create
+	 * @param consumer   receives the image in the UI thread
+	 * @since 3.30
+	 */
+	public final void createImageAsync(ImageDescriptor descriptor, Consumer<Image> consumer) {
+		Assert.isNotNull(descriptor);
+		Assert.isNotNull(consumer);
+
+		ImageDecoder.createImage(this, descriptor, consumer);
+	}
+
 	/**
 	 * Returns the default image that will be returned in the event that the intended
 	 * image is missing.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
@@ -80,6 +81,10 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable, ImageFil
 	@Override
 	public ImageData getImageData(int zoom) {
 		URL tempURL = getURL(url);
+		return ImageDataCache.getImageData(tempURL, zoom, () -> loadImageData(tempURL, zoom));
+	}
+
+	private ImageData loadImageData(URL tempURL, int zoom) {
 		if (tempURL != null) {
 			if (zoom == 100) {
 				return getImageData(tempURL);
@@ -236,7 +241,8 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable, ImageFil
 		}
 		try {
 			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
-				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
+				// SWT decodes files itself, which would bypass the image data cache
+				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY && !ImageDataCache.isEnabled()) {
 					try {
 						return new Image(device, (ImageFileNameProvider) this);
 					} catch (SWTException | IllegalArgumentException exception) {
@@ -285,7 +291,8 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable, ImageFil
 			if (InternalPolicy.DEBUG_TRACE_URL_IMAGE_DESCRIPTOR) {
 				long time = System.nanoTime() - start;
 				cumulativeTime += time;
-				System.out.println("Accumulated time (ms) to load URLImageDescriptor images: " + cumulativeTime / 1000000); //$NON-NLS-1$
+				System.out.println("Accumulated time (ms) to load URLImageDescriptor images: " + cumulativeTime / 1000000 //$NON-NLS-1$
+						+ ", " + ImageDataCache.getStatistics()); //$NON-NLS-1$
 			}
 		}
 	}
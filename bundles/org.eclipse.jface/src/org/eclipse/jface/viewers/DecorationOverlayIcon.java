@@ -220,6 +220,24 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
 		drawOverlays(overlays);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The image data is shared with all equal icons, so that it is composed only
+	 * once for each combination of base image and overlays.
+	 * </p>
+	 */
+	@Override
+	public ImageData getImageData(int zoom) {
+		if (getClass() != DecorationOverlayIcon.class) {
+			// subclasses may draw something else
+			return super.getImageData(zoom);
+		}
+		Point fixedSize = referenceImageOrDescriptor instanceof Image ? getSize() : null;
+		return OverlayImageDataCache.getImageData(referenceImageOrDescriptor, overlays, fixedSize, zoom,
+				super::getImageData);
+	}
+
 	@Override
 	protected Point getSize() {
 		return size.get();
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+import org.eclipse.jface.internal.InternalPolicy;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * A bounded cache of the image data composed by {@link DecorationOverlayIcon}s,
+ * shared by all icons and resource managers. Decorated viewers create a new
+ * icon for every element, but only use a few combinations of base image and
+ * overlays, each of which is composed only once.
+ * <p>
+ * The least recently used image data is dropped once the cache is full. Every
+ * caller gets a copy, so that the cached image data cannot be changed.
+ * </p>
+ */
+final class OverlayImageDataCache {
+
+	private static final int MAX_ENTRIES = Integer.getInteger("org.eclipse.jface.overlayImageCacheSize", 512); //$NON-NLS-1$
+
+	private static final Map<Key, ImageData> cache = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, ImageData> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private static long hits;
+
+	private static long misses;
+
+	/**
+	 * Identifies a composed image. Base images are compared by identity, as a
+	 * disposed image may compare equal to a new image with the same handle.
+	 */
+	private static final class Key {
+		private final Object base;
+		private final ImageDescriptor[] overlays;
+		private final Point size;
+		private final int zoom;
+		private final int hashCode;
+
+		Key(Object base, ImageDescriptor[] overlays, Point size, int zoom) {
+			this.base = base;
+			this.overlays = overlays.clone();
+			this.size = size;
+			this.zoom = zoom;
+			this.hashCode = Objects.hash(Integer.valueOf(base instanceof Image ? System.identityHashCode(base)
+					: base.hashCode()), Integer.valueOf(Arrays.hashCode(overlays)), size, Integer.valueOf(zoom));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return zoom == other.zoom && (base instanceof Image ? base == other.base : base.equals(other.base))
+					&& Objects.equals(size, other.size) && Arrays.equals(overlays, other.overlays);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private OverlayImageDataCache() {
+	}
+
+	/**
+	 * Returns the composed image data for the given base and overlays, composing
+	 * it if it is not cached.
+	 *
+	 * @param base     the base image or image descriptor
+	 * @param overlays the overlays
+	 * @param size     the size of the composed image, or <code>null</code> if it
+	 *                 is given by the base image descriptor
+	 * @param zoom     the zoom level
+	 * @param composer composes the image data for a zoom level
+	 * @return a copy of the composed image data, or <code>null</code>
+	 */
+	static ImageData getImageData(Object base, ImageDescriptor[] overlays, Point size, int zoom,
+			IntFunction<ImageData> composer) {
+		if (base instanceof Image && ((Image) base).isDisposed()) {
+			return composer.apply(zoom);
+		}
+		Key key = new Key(base, overlays, size, zoom);
+		ImageData data;
+		synchronized (cache) {
+			data = cache.get(key);
+			if (data != null) {
+				hits++;
+			} else {
+				misses++;
+			}
+			if (InternalPolicy.DEBUG_TRACE_OVERLAY_IMAGE_CACHE && (hits + misses) % 1000 == 0) {
+				System.out.println("Overlay image cache hits: " + hits + ", misses: " + misses //$NON-NLS-1$ //$NON-NLS-2$
+						+ ", entries: " + cache.size()); //$NON-NLS-1$
+			}
+			if (data != null) {
+				return (ImageData) data.clone();
+			}
+		}
+		// compose outside of the lock, other threads may compose other images
+		data = composer.apply(zoom);
+		if (data != null) {
+			synchronized (cache) {
+				cache.put(key, (ImageData) data.clone());
+			}
+		}
+		return data;
+	}
+}
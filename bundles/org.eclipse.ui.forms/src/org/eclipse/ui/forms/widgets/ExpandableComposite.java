@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,7 +40,6 @@ import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Layout;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Menu;
-import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.forms.events.ExpansionEvent;
 import org.eclipse.ui.forms.events.HyperlinkAdapter;
 import org.eclipse.ui.forms.events.HyperlinkEvent;
@@ -1144,31 +1143,22 @@ public class ExpandableComposite extends Canvas {
 			gc.drawFocus(0, 0, size.x, size.y);
 	}
 
+	/**
+	 * Requests a layout of this control and asks the enclosing
+	 * SharedScrolledComposite, if any, to reflow its content once the current
+	 * event has been processed. Use {@link SharedScrolledComposite#reflow(boolean)}
+	 * to reflow the content right away.
+	 */
 	void reflow() {
-		Composite c = this;
-		while (c != null) {
-			c.setRedraw(false);
-			c = c.getParent();
-			if (c instanceof SharedScrolledComposite || c instanceof Shell) {
-				break;
-			}
-		}
-		c = this;
+		// the parents drop the sizes cached for this control only
+		requestLayout();
+		Composite c = getParent();
 		while (c != null) {
-			c.requestLayout();
-			c = c.getParent();
 			if (c instanceof SharedScrolledComposite) {
-				((SharedScrolledComposite) c).reflow(true);
+				((SharedScrolledComposite) c).requestReflow();
 				break;
 			}
-		}
-		c = this;
-		while (c != null) {
-			c.setRedraw(true);
 			c = c.getParent();
-			if (c instanceof SharedScrolledComposite || c instanceof Shell) {
-				break;
-			}
 		}
 	}
 }
@@ -112,6 +112,24 @@ public class LayoutCache {
 		caches[controlIndex].flush();
 	}
 
+	/**
+	 * Flushes the cache for the given control, if it is one of the cached
+	 * controls.
+	 *
+	 * @param control the control to flush
+	 * @return <code>true</code> if the cache of the control was flushed,
+	 *         <code>false</code> if the control is not cached here
+	 */
+	boolean flush(Control control) {
+		for (SizeCache cache : caches) {
+			if (cache.getControl() == control) {
+				cache.flush();
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Flushes the cache.
 	 */
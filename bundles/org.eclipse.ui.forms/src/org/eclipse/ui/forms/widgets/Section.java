@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2016 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -117,8 +117,12 @@ public class Section extends ExpandableComposite {
 	}
 
 	/**
-	 * Reflows this section and all the parents up the hierarchy until a
-	 * SharedScrolledComposite is reached.
+	 * Requests a layout of this section and of its parents up the hierarchy
+	 * until a SharedScrolledComposite is reached. The scrolled composite reflows
+	 * its content once the current event has been processed, so sizes read
+	 * right after this call are not updated yet. Controls added to the client
+	 * later, for example in an expansion listener, have to request their own
+	 * layout.
 	 */
 	@Override
 	protected void reflow() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2016 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,8 @@ public abstract class SharedScrolledComposite extends ScrolledComposite {
 
 	private boolean delayedReflow = false;
 
+	private boolean reflowRequested = false;
+
 	/**
 	 * Creates the new instance.
 	 *
@@ -168,6 +170,7 @@ public abstract class SharedScrolledComposite extends ScrolledComposite {
 	 *            if <code>true</code>, drop the cached data
 	 */
 	public void reflow(boolean flushCache) {
+		reflowRequested = false;
 		Composite c = (Composite) getContent();
 		Rectangle clientArea = getClientArea();
 		if (c == null)
@@ -215,6 +218,34 @@ public abstract class SharedScrolledComposite extends ScrolledComposite {
 		contentCache.layoutIfNecessary();
 	}
 
+	/**
+	 * Reflows the content once the current event has been processed. Requests
+	 * made before then are merged into one reflow, and a call to
+	 * {@link #reflow(boolean)} in the meantime cancels the request. Until then
+	 * the size of the content and the scroll bars are not updated. Only the
+	 * size of the content is recomputed, the changed controls must have
+	 * requested their layout so that the layouts of their parents drop the sizes
+	 * cached for them.
+	 */
+	void requestReflow() {
+		if (reflowRequested) {
+			return;
+		}
+		reflowRequested = true;
+		getDisplay().asyncExec(() -> {
+			if (!reflowRequested || isDisposed()) {
+				return;
+			}
+			contentCache.flush(false);
+			setRedraw(false);
+			try {
+				reflow(false);
+			} finally {
+				setRedraw(true);
+			}
+		});
+	}
+
 	private void updateSizeWhilePending() {
 		Control c = getContent();
 		Rectangle area = getClientArea();
@@ -212,6 +212,17 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 		return internalGetMaximumWidth(parent, changed);
 	}
 
+	/**
+	 * Only flushes the cached sizes of the given child, so that the sizes of its
+	 * siblings are reused when the parent is laid out again.
+	 *
+	 * @see Layout#flushCache(Control)
+	 */
+	@Override
+	protected boolean flushCache(Control control) {
+		return cache.flush(control);
+	}
+
 	/**
 	 * @see Layout#layout(Composite, boolean)
 	 */
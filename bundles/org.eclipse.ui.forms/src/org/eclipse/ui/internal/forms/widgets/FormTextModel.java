@@ -15,50 +15,20 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.forms.widgets;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Vector;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.ui.forms.HyperlinkSettings;
-import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.ErrorHandler;
-import org.xml.sax.InputSource;
+import org.eclipse.ui.internal.forms.widgets.FormTextParser.Element;
 import org.xml.sax.SAXException;
-import org.xml.sax.SAXParseException;
 
 public class FormTextModel {
 
-	/*
-	 * This class prevents parse errors from being written to standard output
-	 */
-	public static class ParseErrorHandler implements ErrorHandler {
-
-		@Override
-		public void error(SAXParseException arg0) throws SAXException {
-		}
-
-		@Override
-		public void fatalError(SAXParseException arg0) throws SAXException {
-		}
-
-		@Override
-		public void warning(SAXParseException arg0) throws SAXException {
-		}
-	}
-
-	private static final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory
-			.newInstance();
-
 	private boolean whitespaceNormalized = true;
 
 	private Vector<Paragraph> paragraphs;
@@ -112,9 +82,14 @@ public class FormTextModel {
 			reset();
 			return;
 		}
-		taggedText = processAmpersandEscapes(taggedText);
-		InputStream stream = new ByteArrayInputStream(taggedText.getBytes(StandardCharsets.UTF_8));
-		parseInputStream(stream, expandURLs);
+		reset();
+		try {
+			processDocument(FormTextParser.parse(taggedText, this::processAmpersandEscapes), expandURLs);
+		} catch (ParserConfigurationException | SAXException e) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT, e, " " + e.getMessage()); //$NON-NLS-1$
+		} catch (IOException e) {
+			SWT.error(SWT.ERROR_IO, e);
+		}
 	}
 
 	private String processAmpersandEscapes(String pTaggedText) {
@@ -131,18 +106,9 @@ public class FormTextModel {
 	}
 
 	public void parseInputStream(InputStream is, boolean expandURLs) {
-
-		documentBuilderFactory.setNamespaceAware(true);
-		documentBuilderFactory.setIgnoringComments(true);
-
 		reset();
 		try {
-			DocumentBuilder parser = documentBuilderFactory
-					.newDocumentBuilder();
-			parser.setErrorHandler(new ParseErrorHandler());
-			InputSource source = new InputSource(is);
-			Document doc = parser.parse(source);
-			processDocument(doc, expandURLs);
+			processDocument(FormTextParser.parse(is), expandURLs);
 		} catch (ParserConfigurationException | SAXException e) {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT, e, " " + e.getMessage()); //$NON-NLS-1$
 		} catch (IOException e) {
@@ -150,32 +116,31 @@ public class FormTextModel {
 		}
 	}
 
-	private void processDocument(Document doc, boolean expandURLs) {
-		Node root = doc.getDocumentElement();
-		NodeList children = root.getChildNodes();
-		processSubnodes(paragraphs, children, expandURLs);
+	private void processDocument(Element root, boolean expandURLs) {
+		processSubnodes(paragraphs, root.getChildren(), expandURLs);
 	}
 
-	private void processSubnodes(Vector<Paragraph> plist, NodeList children, boolean expandURLs) {
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.TEXT_NODE) {
+	private void processSubnodes(Vector<Paragraph> plist, List<Object> children, boolean expandURLs) {
+		for (int i = 0; i < children.size(); i++) {
+			Object child = children.get(i);
+			if (child instanceof String) {
 				// Make an implicit paragraph
-				String text = getSingleNodeText(child);
+				String text = getSingleNodeText(children, i);
 				if (text != null && !isIgnorableWhiteSpace(text, true)) {
 					Paragraph p = new Paragraph(true);
 					p.parseRegularText(text, expandURLs, true,
 							getHyperlinkSettings(), null);
 					plist.add(p);
 				}
-			} else if (child.getNodeType() == Node.ELEMENT_NODE) {
-				String tag = child.getNodeName().toLowerCase();
+			} else if (child instanceof Element) {
+				Element element = (Element) child;
+				String tag = element.getName().toLowerCase();
 				if (tag.equals("p")) { //$NON-NLS-1$
-					Paragraph p = processParagraph(child, expandURLs);
+					Paragraph p = processParagraph(element, expandURLs);
 					if (p != null)
 						plist.add(p);
 				} else if (tag.equals("li")) { //$NON-NLS-1$
-					Paragraph p = processListItem(child, expandURLs);
+					Paragraph p = processListItem(element, expandURLs);
 					if (p != null)
 						plist.add(p);
 				}
@@ -183,33 +148,28 @@ public class FormTextModel {
 		}
 	}
 
-	private Paragraph processParagraph(Node paragraph, boolean expandURLs) {
-		NodeList children = paragraph.getChildNodes();
-		NamedNodeMap atts = paragraph.getAttributes();
-		Node addSpaceAtt = atts.getNamedItem("addVerticalSpace"); //$NON-NLS-1$
+	private Paragraph processParagraph(Element paragraph, boolean expandURLs) {
+		String addSpaceAtt = paragraph.getAttribute("addVerticalSpace"); //$NON-NLS-1$
 		boolean addSpace = true;
 
 		if (addSpaceAtt == null)
-			addSpaceAtt = atts.getNamedItem("vspace"); //$NON-NLS-1$
+			addSpaceAtt = paragraph.getAttribute("vspace"); //$NON-NLS-1$
 
 		if (addSpaceAtt != null) {
-			String value = addSpaceAtt.getNodeValue();
-			addSpace = value.equalsIgnoreCase("true"); //$NON-NLS-1$
+			addSpace = addSpaceAtt.equalsIgnoreCase("true"); //$NON-NLS-1$
 		}
 		Paragraph p = new Paragraph(addSpace);
 
-		processSegments(p, children, expandURLs);
+		processSegments(p, paragraph.getChildren(), expandURLs);
 		return p;
 	}
 
-	private Paragraph processListItem(Node listItem, boolean expandURLs) {
-		NodeList children = listItem.getChildNodes();
-		NamedNodeMap atts = listItem.getAttributes();
-		Node addSpaceAtt = atts.getNamedItem("addVerticalSpace");//$NON-NLS-1$
-		Node styleAtt = atts.getNamedItem("style");//$NON-NLS-1$
-		Node valueAtt = atts.getNamedItem("value");//$NON-NLS-1$
-		Node indentAtt = atts.getNamedItem("indent");//$NON-NLS-1$
-		Node bindentAtt = atts.getNamedItem("bindent");//$NON-NLS-1$
+	private Paragraph processListItem(Element listItem, boolean expandURLs) {
+		String addSpaceAtt = listItem.getAttribute("addVerticalSpace");//$NON-NLS-1$
+		String styleAtt = listItem.getAttribute("style");//$NON-NLS-1$
+		String valueAtt = listItem.getAttribute("value");//$NON-NLS-1$
+		String indentAtt = listItem.getAttribute("indent");//$NON-NLS-1$
+		String bindentAtt = listItem.getAttribute("bindent");//$NON-NLS-1$
 		int style = BulletParagraph.CIRCLE;
 		int indent = -1;
 		int bindent = -1;
@@ -217,35 +177,31 @@ public class FormTextModel {
 		boolean addSpace = true;
 
 		if (addSpaceAtt != null) {
-			String value = addSpaceAtt.getNodeValue();
-			addSpace = value.equalsIgnoreCase("true"); //$NON-NLS-1$
+			addSpace = addSpaceAtt.equalsIgnoreCase("true"); //$NON-NLS-1$
 		}
 		if (styleAtt != null) {
-			String value = styleAtt.getNodeValue();
-			if (value.equalsIgnoreCase("text")) { //$NON-NLS-1$
+			if (styleAtt.equalsIgnoreCase("text")) { //$NON-NLS-1$
 				style = BulletParagraph.TEXT;
-			} else if (value.equalsIgnoreCase("image")) { //$NON-NLS-1$
+			} else if (styleAtt.equalsIgnoreCase("image")) { //$NON-NLS-1$
 				style = BulletParagraph.IMAGE;
-			} else if (value.equalsIgnoreCase("bullet")) { //$NON-NLS-1$
+			} else if (styleAtt.equalsIgnoreCase("bullet")) { //$NON-NLS-1$
 				style = BulletParagraph.CIRCLE;
 			}
 		}
 		if (valueAtt != null) {
-			text = valueAtt.getNodeValue();
+			text = valueAtt;
 			if (style == BulletParagraph.IMAGE)
 				text = "i." + text; //$NON-NLS-1$
 		}
 		if (indentAtt != null) {
-			String value = indentAtt.getNodeValue();
 			try {
-				indent = Integer.parseInt(value);
+				indent = Integer.parseInt(indentAtt);
 			} catch (NumberFormatException e) {
 			}
 		}
 		if (bindentAtt != null) {
-			String value = bindentAtt.getNodeValue();
 			try {
-				bindent = Integer.parseInt(value);
+				bindent = Integer.parseInt(bindentAtt);
 			} catch (NumberFormatException e) {
 			}
 		}
@@ -256,41 +212,42 @@ public class FormTextModel {
 		p.setBulletStyle(style);
 		p.setBulletText(text);
 
-		processSegments(p, children, expandURLs);
+		processSegments(p, listItem.getChildren(), expandURLs);
 		return p;
 	}
 
-	private void processSegments(Paragraph p, NodeList children,
+	private void processSegments(Paragraph p, List<Object> children,
 			boolean expandURLs) {
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
+		for (int i = 0; i < children.size(); i++) {
+			Object child = children.get(i);
 			ParagraphSegment segment = null;
 
-			if (child.getNodeType() == Node.TEXT_NODE) {
-				String value = getSingleNodeText(child);
+			if (child instanceof String) {
+				String value = getSingleNodeText(children, i);
 
 				if (value != null && !isIgnorableWhiteSpace(value, false)) {
 					p.parseRegularText(value, expandURLs, true,
 							getHyperlinkSettings(), null);
 				}
-			} else if (child.getNodeType() == Node.ELEMENT_NODE) {
-				String name = child.getNodeName();
+			} else if (child instanceof Element) {
+				Element element = (Element) child;
+				String name = element.getName();
 				if (name.equalsIgnoreCase("img")) { //$NON-NLS-1$
-					segment = processImageSegment(child);
+					segment = processImageSegment(element);
 				} else if (name.equalsIgnoreCase("a")) { //$NON-NLS-1$
-					segment = processHyperlinkSegment(child,
+					segment = processHyperlinkSegment(element,
 							getHyperlinkSettings());
 				} else if (name.equalsIgnoreCase("span")) { //$NON-NLS-1$
-					processTextSegment(p, expandURLs, child);
+					processTextSegment(p, expandURLs, element);
 				} else if (name.equalsIgnoreCase("b")) { //$NON-NLS-1$
-					String text = getNodeText(child);
+					String text = getNodeText(element);
 					String fontId = BOLD_FONT_ID;
 					p.parseRegularText(text, expandURLs, true,
 							getHyperlinkSettings(), fontId);
 				} else if (name.equalsIgnoreCase("br")) { //$NON-NLS-1$
 					segment = new BreakSegment();
 				} else if (name.equalsIgnoreCase("control")) { //$NON-NLS-1$
-					segment = processControlSegment(child);
+					segment = processControlSegment(element);
 				}
 			}
 			if (segment != null) {
@@ -311,32 +268,29 @@ public class FormTextModel {
 		return true;
 	}
 
-	private ImageSegment processImageSegment(Node image) {
+	private ImageSegment processImageSegment(Element image) {
 		ImageSegment segment = new ImageSegment();
 		processObjectSegment(segment, image, "i."); //$NON-NLS-1$
 		return segment;
 	}
 
-	private ControlSegment processControlSegment(Node control) {
+	private ControlSegment processControlSegment(Element control) {
 		ControlSegment segment = new ControlSegment();
 		processObjectSegment(segment, control, "o."); //$NON-NLS-1$
-		Node fill = control.getAttributes().getNamedItem("fill"); //$NON-NLS-1$
+		String fill = control.getAttribute("fill"); //$NON-NLS-1$
 		if (fill!=null) {
-			String value = fill.getNodeValue();
-			boolean doFill = value.equalsIgnoreCase("true"); //$NON-NLS-1$
+			boolean doFill = fill.equalsIgnoreCase("true"); //$NON-NLS-1$
 			segment.setFill(doFill);
 		}
 		try {
-			Node width = control.getAttributes().getNamedItem("width"); //$NON-NLS-1$
+			String width = control.getAttribute("width"); //$NON-NLS-1$
 			if (width!=null) {
-				String value = width.getNodeValue();
-				int doWidth = Integer.parseInt(value);
+				int doWidth = Integer.parseInt(width);
 				segment.setWidth(doWidth);
 			}
-			Node height = control.getAttributes().getNamedItem("height"); //$NON-NLS-1$
+			String height = control.getAttribute("height"); //$NON-NLS-1$
 			if (height!=null) {
-				String value = height.getNodeValue();
-				int doHeight = Integer.parseInt(value);
+				int doHeight = Integer.parseInt(height);
 				segment.setHeight(doHeight);
 			}
 		}
@@ -346,16 +300,14 @@ public class FormTextModel {
 		return segment;
 	}
 
-	private void processObjectSegment(ObjectSegment segment, Node object, String prefix) {
-		NamedNodeMap atts = object.getAttributes();
-		Node id = atts.getNamedItem("href"); //$NON-NLS-1$
-		Node align = atts.getNamedItem("align"); //$NON-NLS-1$
+	private void processObjectSegment(ObjectSegment segment, Element object, String prefix) {
+		String id = object.getAttribute("href"); //$NON-NLS-1$
+		String align = object.getAttribute("align"); //$NON-NLS-1$
 		if (id != null) {
-			String value = id.getNodeValue();
-			segment.setObjectId(prefix + value);
+			segment.setObjectId(prefix + id);
 		}
 		if (align != null) {
-			String value = align.getNodeValue().toLowerCase();
+			String value = align.toLowerCase();
 			switch (value) {
 			case "top": //$NON-NLS-1$
 				segment.setVerticalAlignment(ObjectSegment.TOP);
@@ -414,28 +366,25 @@ public class FormTextModel {
 		return buf.toString();
 	}
 
-	private String getSingleNodeText(Node node) {
-		String text = getNormalizedText(node.getNodeValue());
+	private String getSingleNodeText(List<Object> siblings, int index) {
+		String text = getNormalizedText((String) siblings.get(index));
 		if (!whitespaceNormalized)
 			return text;
-		if (text.length() > 0 && node.getPreviousSibling() == null && isIgnorableWhiteSpace(text.substring(0, 1), true))
+		if (text.length() > 0 && index == 0 && isIgnorableWhiteSpace(text.substring(0, 1), true))
 			return text.substring(1);
-		if (text.length() > 1 && node.getNextSibling() == null
+		if (text.length() > 1 && index == siblings.size() - 1
 				&& isIgnorableWhiteSpace(text.substring(text.length() - 1), true))
 			return text.substring(0, text.length() - 1);
 		return text;
 	}
 
-	private String getNodeText(Node node) {
-		NodeList children = node.getChildNodes();
+	private String getNodeText(Element element) {
 		StringBuilder buf = new StringBuilder();
 		int[] spaceCounter = new int[1];
 
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.TEXT_NODE) {
-				String value = child.getNodeValue();
-				appendText(value, buf, spaceCounter);
+		for (Object child : element.getChildren()) {
+			if (child instanceof String) {
+				appendText((String) child, buf, spaceCounter);
 			}
 		}
 		if (whitespaceNormalized) {
@@ -444,39 +393,30 @@ public class FormTextModel {
 		return buf.toString();
 	}
 
-	private ParagraphSegment processHyperlinkSegment(Node link,
+	private ParagraphSegment processHyperlinkSegment(Element link,
 			HyperlinkSettings settings) {
-		NamedNodeMap atts = link.getAttributes();
-		String href = null;
+		String href = link.getAttribute("href"); //$NON-NLS-1$
 		boolean wrapAllowed = true;
 		String boldFontId = null;
 
-		Node hrefAtt = atts.getNamedItem("href"); //$NON-NLS-1$
-		if (hrefAtt != null) {
-			href = hrefAtt.getNodeValue();
-		}
-		Node boldAtt = atts.getNamedItem("bold"); //$NON-NLS-1$
-		if (boldAtt != null) {
+		if (link.getAttribute("bold") != null) { //$NON-NLS-1$
 			boldFontId = BOLD_FONT_ID;
 		}
-		Node nowrap = atts.getNamedItem("nowrap"); //$NON-NLS-1$
-		if (nowrap != null) {
-			String value = nowrap.getNodeValue();
-			if (value != null && value.equalsIgnoreCase("true")) //$NON-NLS-1$
-				wrapAllowed = false;
-		}
+		String nowrap = link.getAttribute("nowrap"); //$NON-NLS-1$
+		if (nowrap != null && nowrap.equalsIgnoreCase("true")) //$NON-NLS-1$
+			wrapAllowed = false;
 		Object status = checkChildren(link);
-		if (status instanceof Node) {
-			Node child = (Node)status;
+		if (status instanceof Element) {
+			Element child = (Element) status;
 			ImageHyperlinkSegment segment = new ImageHyperlinkSegment();
 			segment.setHref(href);
 			segment.setWordWrapAllowed(wrapAllowed);
-			Node alt = child.getAttributes().getNamedItem("alt"); //$NON-NLS-1$
+			String alt = child.getAttribute("alt"); //$NON-NLS-1$
 			if (alt!=null)
-				segment.setTooltipText(alt.getNodeValue());
-			Node text = child.getAttributes().getNamedItem("text"); //$NON-NLS-1$
+				segment.setTooltipText(alt);
+			String text = child.getAttribute("text"); //$NON-NLS-1$
 			if (text!=null)
-				segment.setText(text.getNodeValue());
+				segment.setText(text);
 			processObjectSegment(segment, child, "i."); //$NON-NLS-1$
 			return segment;
 		}  else if (status instanceof String) {
@@ -485,34 +425,31 @@ public class FormTextModel {
 					settings, null);
 			segment.setHref(href);
 			segment.setFontId(boldFontId);
-			Node alt = atts.getNamedItem("alt"); //$NON-NLS-1$
+			String alt = link.getAttribute("alt"); //$NON-NLS-1$
 			if (alt!=null)
-				segment.setTooltipText(alt.getNodeValue());
+				segment.setTooltipText(alt);
 			segment.setWordWrapAllowed(wrapAllowed);
 			return segment;
 		} else {
 			AggregateHyperlinkSegment parent = new AggregateHyperlinkSegment();
 			parent.setHref(href);
-			NodeList children = link.getChildNodes();
-			for (int i = 0; i < children.getLength(); i++) {
-				Node child = children.item(i);
-				if (child.getNodeType() == Node.TEXT_NODE) {
-					String value = child.getNodeValue();
+			for (Object child : link.getChildren()) {
+				if (child instanceof String) {
 					TextHyperlinkSegment ts = new TextHyperlinkSegment(
-							getNormalizedText(value), settings, null);
-					Node alt = atts.getNamedItem("alt"); //$NON-NLS-1$
+							getNormalizedText((String) child), settings, null);
+					String alt = link.getAttribute("alt"); //$NON-NLS-1$
 					if (alt!=null)
-						ts.setTooltipText(alt.getNodeValue());
+						ts.setTooltipText(alt);
 					ts.setWordWrapAllowed(wrapAllowed);
 					parent.add(ts);
-				} else if (child.getNodeType() == Node.ELEMENT_NODE) {
-					String name = child.getNodeName();
-					if (name.equalsIgnoreCase("img")) { //$NON-NLS-1$
+				} else if (child instanceof Element) {
+					Element element = (Element) child;
+					if (element.getName().equalsIgnoreCase("img")) { //$NON-NLS-1$
 						ImageHyperlinkSegment is = new ImageHyperlinkSegment();
-						processObjectSegment(is, child, "i."); //$NON-NLS-1$
-						Node alt = child.getAttributes().getNamedItem("alt"); //$NON-NLS-1$
+						processObjectSegment(is, element, "i."); //$NON-NLS-1$
+						String alt = element.getAttribute("alt"); //$NON-NLS-1$
 						if (alt!=null)
-							is.setTooltipText(alt.getNodeValue());
+							is.setTooltipText(alt);
 						parent.add(is);
 						is.setWordWrapAllowed(wrapAllowed);
 					}
@@ -522,49 +459,43 @@ public class FormTextModel {
 		}
 	}
 
-	private Object checkChildren(Node node) {
+	private Object checkChildren(Element element) {
 		boolean text = false;
-		Node imgNode = null;
+		Element imgNode = null;
 		//int status = 0;
 
-		NodeList children = node.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.TEXT_NODE)
+		for (Object child : element.getChildren()) {
+			if (child instanceof String)
 				text = true;
-			else if (child.getNodeType() == Node.ELEMENT_NODE
-					&& child.getNodeName().equalsIgnoreCase("img")) { //$NON-NLS-1$
-				imgNode = child;
+			else if (child instanceof Element
+					&& ((Element) child).getName().equalsIgnoreCase("img")) { //$NON-NLS-1$
+				imgNode = (Element) child;
 			}
 		}
 		if (text && imgNode == null)
-			return getNodeText(node);
+			return getNodeText(element);
 		else if (!text && imgNode != null)
 			return imgNode;
 		else return null;
 	}
 
 	private void processTextSegment(Paragraph p, boolean expandURLs,
-			Node textNode) {
+			Element textNode) {
 		String text = getNodeText(textNode);
 
-		NamedNodeMap atts = textNode.getAttributes();
-		Node font = atts.getNamedItem("font"); //$NON-NLS-1$
-		Node color = atts.getNamedItem("color"); //$NON-NLS-1$
+		String font = textNode.getAttribute("font"); //$NON-NLS-1$
+		String color = textNode.getAttribute("color"); //$NON-NLS-1$
 		boolean wrapAllowed=true;
-		Node nowrap = atts.getNamedItem("nowrap"); //$NON-NLS-1$
-		if (nowrap != null) {
-			String value = nowrap.getNodeValue();
-			if (value != null && value.equalsIgnoreCase("true")) //$NON-NLS-1$
-				wrapAllowed = false;
-		}
+		String nowrap = textNode.getAttribute("nowrap"); //$NON-NLS-1$
+		if (nowrap != null && nowrap.equalsIgnoreCase("true")) //$NON-NLS-1$
+			wrapAllowed = false;
 		String fontId = null;
 		String colorId = null;
 		if (font != null) {
-			fontId = "f." + font.getNodeValue(); //$NON-NLS-1$
+			fontId = "f." + font; //$NON-NLS-1$
 		}
 		if (color != null) {
-			colorId = "c." + color.getNodeValue(); //$NON-NLS-1$
+			colorId = "c." + color; //$NON-NLS-1$
 		}
 		p.parseRegularText(text, expandURLs, wrapAllowed, getHyperlinkSettings(), fontId,
 				colorId);
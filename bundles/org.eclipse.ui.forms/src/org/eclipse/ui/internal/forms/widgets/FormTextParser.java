@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.forms.widgets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.ext.DefaultHandler2;
+
+/**
+ * Parses the markup of {@link org.eclipse.ui.forms.widgets.FormText} with a
+ * SAX parser into a small immutable tree of elements and texts, which is all
+ * {@link FormTextModel} needs to build its paragraphs. Unlike a DOM, the tree
+ * can be shared: the trees of the most recently parsed markup strings are
+ * cached, so that pages showing the same markup again do not parse it again.
+ * <p>
+ * The tree keeps what the DOM used so far offered to the model. Texts are
+ * merged like DOM text nodes, comments are dropped, and CDATA sections and
+ * processing instructions are kept as siblings which are otherwise ignored.
+ * </p>
+ */
+final class FormTextParser {
+
+	/**
+	 * Stands for nodes which the model ignores, but which count as siblings.
+	 */
+	static final Object IGNORED = new Object();
+
+	private static final int CACHE_SIZE = Integer.getInteger("org.eclipse.ui.forms.formTextCacheSize", 32); //$NON-NLS-1$
+
+	private static final SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+
+	static {
+		parserFactory.setNamespaceAware(true);
+	}
+
+	private static final Map<String, Element> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Element> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * An element of the markup. The children are {@link String}s for texts,
+	 * {@link Element}s, and {@link FormTextParser#IGNORED} for everything else.
+	 */
+	static final class Element {
+		private final String name;
+		private final Map<String, String> attributes;
+		private final List<Object> children = new ArrayList<>();
+
+		Element(String name, Map<String, String> attributes) {
+			this.name = name;
+			this.attributes = attributes;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		/**
+		 * @param attributeName the name of the attribute
+		 * @return the value of the attribute or <code>null</code>
+		 */
+		String getAttribute(String attributeName) {
+			return attributes.get(attributeName);
+		}
+
+		List<Object> getChildren() {
+			return children;
+		}
+	}
+
+	private static final class Handler extends DefaultHandler2 {
+		private final Deque<Element> elements = new ArrayDeque<>();
+		private final StringBuilder text = new StringBuilder();
+		private boolean inText;
+		private boolean inCDATA;
+		private Element root;
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes atts) {
+			flushText();
+			Map<String, String> attributes = Collections.emptyMap();
+			if (atts.getLength() > 0) {
+				attributes = new HashMap<>();
+				for (int i = 0; i < atts.getLength(); i++) {
+					attributes.put(atts.getQName(i), atts.getValue(i));
+				}
+			}
+			Element element = new Element(qName, attributes);
+			if (elements.isEmpty()) {
+				root = element;
+			} else {
+				elements.peek().children.add(element);
+			}
+			elements.push(element);
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			flushText();
+			elements.pop();
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if (elements.isEmpty() || inCDATA) {
+				return;
+			}
+			// the parser may report a text in several parts
+			text.append(ch, start, length);
+			inText = true;
+		}
+
+		@Override
+		public void ignorableWhitespace(char[] ch, int start, int length) {
+			characters(ch, start, length);
+		}
+
+		@Override
+		public void startCDATA() {
+			flushText();
+			inCDATA = true;
+		}
+
+		@Override
+		public void endCDATA() {
+			inCDATA = false;
+			elements.peek().children.add(IGNORED);
+		}
+
+		@Override
+		public void processingInstruction(String target, String data) {
+			if (!elements.isEmpty()) {
+				flushText();
+				elements.peek().children.add(IGNORED);
+			}
+		}
+
+		private void flushText() {
+			if (inText) {
+				elements.peek().children.add(text.toString());
+				text.setLength(0);
+				inText = false;
+			}
+		}
+
+		// parse errors are reported by the exception of the parser only
+
+		@Override
+		public void error(SAXParseException e) {
+		}
+
+		@Override
+		public void fatalError(SAXParseException e) {
+		}
+
+		@Override
+		public void warning(SAXParseException e) {
+		}
+	}
+
+	private FormTextParser() {
+	}
+
+	/**
+	 * Parses the given markup, or returns the tree of the same markup parsed
+	 * before.
+	 *
+	 * @param taggedText the markup as given by the client
+	 * @param escapes    prepares the markup for the XML parser
+	 * @return the root element, not to be modified
+	 */
+	static Element parse(String taggedText, UnaryOperator<String> escapes)
+			throws ParserConfigurationException, SAXException, IOException {
+		synchronized (cache) {
+			Element root = cache.get(taggedText);
+			if (root != null) {
+				return root;
+			}
+		}
+		Element root = parse(new InputSource(new StringReader(escapes.apply(taggedText))));
+		if (CACHE_SIZE > 0) {
+			synchronized (cache) {
+				cache.put(taggedText, root);
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * Parses the markup read from the given stream.
+	 *
+	 * @param stream the stream
+	 * @return the root element
+	 */
+	static Element parse(InputStream stream) throws ParserConfigurationException, SAXException, IOException {
+		return parse(new InputSource(stream));
+	}
+
+	private static Element parse(InputSource source) throws ParserConfigurationException, SAXException, IOException {
+		SAXParser parser;
+		synchronized (parserFactory) {
+			parser = parserFactory.newSAXParser();
+		}
+		Handler handler = new Handler();
+		parser.setProperty("http://xml.org/sax/properties/lexical-handler", handler); //$NON-NLS-1$
+		parser.parse(source, handler);
+		return handler.root;
+	}
+}
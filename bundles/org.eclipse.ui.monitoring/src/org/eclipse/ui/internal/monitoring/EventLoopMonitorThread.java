@@ -362,6 +362,8 @@ public class EventLoopMonitorThread extends Thread {
 	private boolean dumpLockedMonitors;
 	private boolean dumpLockedSynchronizers;
 	private long monitoringThreadId;
+	private final ThreadInfoDeduplicator threadInfoDeduplicator = new ThreadInfoDeduplicator();
+	private long sampleCaptureNanos;
 
 	/**
 	 * Initializes the static state of the monitoring thread.
@@ -502,6 +504,8 @@ public class EventLoopMonitorThread extends Thread {
 				}
 				grabStackSampleAt = eventTime + sampleInterval;
 				numSamples = 0;
+				threadInfoDeduplicator.clear();
+				sampleCaptureNanos = 0;
 				starvedAwake = false;
 				starvedAsleep = false;
 				if (dumpAllThreads) {
@@ -601,7 +605,10 @@ public class EventLoopMonitorThread extends Thread {
 						decimate(stackSamples, maxStackSamples, numSamples);
 					}
 
-					ThreadInfo[] threadStacks = captureThreadStacks(dumpAllThreads);
+					long captureStart = System.nanoTime();
+					ThreadInfo[] threadStacks =
+							threadInfoDeduplicator.deduplicate(captureThreadStacks(dumpAllThreads));
+					sampleCaptureNanos += System.nanoTime() - captureStart;
 					stackSamples[numSamples++] = new StackSample(getTimestamp(), threadStacks);
 					if (numSamples == maxStackSamples) {
 						pollingDelay *= 2; // Reduce polling frequency.
@@ -771,8 +778,13 @@ public class EventLoopMonitorThread extends Thread {
 	private void logEvent(UiFreezeEvent event) {
 		if (tracer != null) {
 			tracer.trace("Logging " + event + "Prior events:\n" + eventHistory.extractAndClear()); //$NON-NLS-1$//$NON-NLS-2$
+			tracer.trace("Sampling took %dms, %d of %d thread infos reused from earlier samples", //$NON-NLS-1$
+					sampleCaptureNanos / 1000000, threadInfoDeduplicator.getReusedCount(),
+					threadInfoDeduplicator.getSampledCount());
 		}
 
+		FlightRecorderEvents.commitFreeze(event);
+
 		if (logToErrorLog) {
 			defaultLogger.log(event);
 		}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (C) 2026 Google Inc and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import jdk.jfr.Timestamp;
+import org.eclipse.ui.monitoring.UiFreezeEvent;
+
+/**
+ * Reports detected UI freezes as Java Flight Recorder events, so that they
+ * show up next to the other events of a recording. Nothing is reported if the
+ * optionally imported <code>jdk.jfr</code> package is missing.
+ */
+final class FlightRecorderEvents {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	@Name("org.eclipse.ui.monitoring.UiFreeze")
+	@Label("UI Freeze")
+	@Category({ "Eclipse", "Monitoring" })
+	@StackTrace(false)
+	static final class UiFreezeRecorderEvent extends Event {
+		@Label("Freeze Start")
+		@Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+		long freezeStart;
+
+		@Label("Freeze Duration")
+		@Timespan(Timespan.MILLISECONDS)
+		long freezeDuration;
+
+		@Label("Stack Samples")
+		int sampleCount;
+
+		@Label("Still Running")
+		boolean stillRunning;
+
+		@Label("Starved Awake")
+		boolean starvedAwake;
+
+		@Label("Starved Asleep")
+		boolean starvedAsleep;
+	}
+
+	/**
+	 * The event types, only loaded if <code>jdk.jfr</code> is available. No
+	 * event is created while no recording enables its type.
+	 */
+	private static final class Types {
+		static final EventType UI_FREEZE = EventType.getEventType(UiFreezeRecorderEvent.class);
+	}
+
+	private FlightRecorderEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Records the given freeze as an instant event.
+	 */
+	static void commitFreeze(UiFreezeEvent freeze) {
+		if (!AVAILABLE || !Types.UI_FREEZE.isEnabled()) {
+			return;
+		}
+		UiFreezeRecorderEvent event = new UiFreezeRecorderEvent();
+		if (event.shouldCommit()) {
+			event.freezeStart = freeze.getStartTimestamp();
+			event.freezeDuration = freeze.getTotalDuration();
+			event.sampleCount = freeze.getStackTraceSamples().length;
+			event.stillRunning = freeze.isStillRunning();
+			event.starvedAwake = freeze.isStarvedAwake();
+			event.starvedAsleep = freeze.isStarvedAsleep();
+			event.commit();
+		}
+	}
+}
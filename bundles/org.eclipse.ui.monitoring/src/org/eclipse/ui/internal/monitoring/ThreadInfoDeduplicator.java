@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (C) 2026 Google Inc and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.lang.management.LockInfo;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Replaces the thread information of a new stack sample by the information
+ * retained from an earlier sample of the same freeze if the thread did not
+ * change in between. During a freeze most threads, including the display
+ * thread, keep the same stack for many samples, so only the first of the
+ * equivalent {@link ThreadInfo}s survives and the others can be collected
+ * right away instead of being kept until the freeze is logged.
+ * <p>
+ * Two thread infos are considered equivalent if they agree in everything
+ * reported by the freeze loggers: thread state, stack trace, the lock the
+ * thread is waiting for and the locks it holds.
+ */
+public class ThreadInfoDeduplicator {
+	private final Map<Long, ThreadInfo> retainedInfos = new HashMap<>();
+	private long sampledCount;
+	private long reusedCount;
+
+	/**
+	 * Replaces the elements of the given array by equivalent retained thread
+	 * infos, in place.
+	 *
+	 * @param threadInfos the thread infos of a new stack sample
+	 * @return the given array
+	 */
+	public ThreadInfo[] deduplicate(ThreadInfo[] threadInfos) {
+		for (int i = 0; i < threadInfos.length; i++) {
+			ThreadInfo info = threadInfos[i];
+			if (info == null) {
+				continue;
+			}
+			sampledCount++;
+			Long threadId = Long.valueOf(info.getThreadId());
+			ThreadInfo retained = retainedInfos.get(threadId);
+			if (retained != null && isEquivalent(retained, info)) {
+				threadInfos[i] = retained;
+				reusedCount++;
+			} else {
+				retainedInfos.put(threadId, info);
+			}
+		}
+		return threadInfos;
+	}
+
+	/**
+	 * Forgets all retained thread infos. Called when a new event starts.
+	 */
+	public void clear() {
+		retainedInfos.clear();
+		sampledCount = 0;
+		reusedCount = 0;
+	}
+
+	/**
+	 * Returns the number of thread infos passed to {@link #deduplicate} since
+	 * the last {@link #clear()}.
+	 */
+	public long getSampledCount() {
+		return sampledCount;
+	}
+
+	/**
+	 * Returns the number of thread infos replaced by a retained one since the
+	 * last {@link #clear()}.
+	 */
+	public long getReusedCount() {
+		return reusedCount;
+	}
+
+	private static boolean isEquivalent(ThreadInfo a, ThreadInfo b) {
+		return a.getThreadState() == b.getThreadState()
+				&& a.getLockOwnerId() == b.getLockOwnerId()
+				&& Objects.equals(a.getLockName(), b.getLockName())
+				&& Objects.equals(a.getThreadName(), b.getThreadName())
+				&& Arrays.equals(a.getStackTrace(), b.getStackTrace())
+				&& isSameMonitors(a.getLockedMonitors(), b.getLockedMonitors())
+				&& isSameLocks(a.getLockedSynchronizers(), b.getLockedSynchronizers());
+	}
+
+	private static boolean isSameMonitors(MonitorInfo[] a, MonitorInfo[] b) {
+		if (!isSameLocks(a, b)) {
+			return false;
+		}
+		for (int i = 0; i < a.length; i++) {
+			if (a[i].getLockedStackDepth() != b[i].getLockedStackDepth()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSameLocks(LockInfo[] a, LockInfo[] b) {
+		if (a.length != b.length) {
+			return false;
+		}
+		for (int i = 0; i < a.length; i++) {
+			if (a[i].getIdentityHashCode() != b[i].getIdentityHashCode()
+					|| !a[i].getClassName().equals(b[i].getClassName())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
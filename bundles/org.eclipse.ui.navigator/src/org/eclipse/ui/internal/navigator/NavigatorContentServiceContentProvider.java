@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,22 @@ package org.eclipse.ui.internal.navigator;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.jface.viewers.ITreeContentProvider;
@@ -31,6 +42,7 @@ import org.eclipse.jface.viewers.ITreePathContentProvider;
 import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorContentDescriptor;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorContentExtension;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorViewerDescriptor;
@@ -67,12 +79,28 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 
 	private static final Object[] NO_CHILDREN = new Object[0];
 
+	private static final int MAX_CONCURRENT_EXTENSIONS = Math.max(2,
+			Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+	/**
+	 * How long the display thread waits for the children of an extension
+	 * queried concurrently before it queries the extension itself, as the
+	 * provider might wait for the display thread.
+	 */
+	private static final long DISPLAY_THREAD_WAIT_MILLIS = 2000;
+
+	private static ExecutorService childrenExecutor;
+
 	private final NavigatorContentService contentService;
 
 	private boolean disposeContentService;
 
 	private final boolean enforceHasChildren;
 
+	private final boolean concurrentChildren;
+
+	private final Map<String, Long> extensionTimings = new ConcurrentHashMap<>();
+
 	private Viewer viewer;
 
 	/**
@@ -105,6 +133,7 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		contentService = aContentService;
 		INavigatorViewerDescriptor vDesc = contentService.getViewerDescriptor();
 		enforceHasChildren = vDesc.getBooleanConfigProperty(NavigatorViewerDescriptor.PROP_ENFORCE_HAS_CHILDREN);
+		concurrentChildren = vDesc.getBooleanConfigProperty(NavigatorViewerDescriptor.PROP_CONCURRENT_CHILDREN);
 	}
 
 	@Override
@@ -139,6 +168,9 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		if (enabledExtensions.isEmpty()) {
 			return NO_CHILDREN;
 		}
+		if (concurrentChildren && enabledExtensions.size() > 1) {
+			return internalGetChildrenConcurrently(aParentElement, aParentElementOrPath, enabledExtensions, elements);
+		}
 		final Set finalSet = new LinkedHashSet();
 		final ContributorTrackingSet localSet = new ContributorTrackingSet(contentService);
 
@@ -146,31 +178,104 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 			SafeRunner.run(new NavigatorSafeRunnable() {
 				NavigatorContentExtension foundExtension = (NavigatorContentExtension) itr.next();
 				Object[] contributedChildren = null;
-				NavigatorContentExtension[] overridingExtensions;
 
 				@Override
 				public void run() throws Exception {
 					if (!isOverridingExtensionInSet(foundExtension.getDescriptor(),
 							enabledExtensions)) {
-						if (elements)
-							contributedChildren = foundExtension.internalGetContentProvider()
-									.getElements(aParentElementOrPath);
-						else
-							contributedChildren = foundExtension.internalGetContentProvider()
-									.getChildren(aParentElementOrPath);
-						overridingExtensions = foundExtension
-								.getOverridingExtensionsForTriggerPoint(aParentElement);
-						INavigatorContentDescriptor foundDescriptor = foundExtension
-								.getDescriptor();
-						localSet.setContributor(foundDescriptor, foundDescriptor);
-						localSet.setContents(contributedChildren);
+						contributedChildren = fetchContributedChildren(foundExtension,
+								foundExtension.internalGetContentProvider(), aParentElementOrPath, elements);
+						mergeContributedChildren(aParentElement, foundExtension, contributedChildren,
+								localSet, finalSet, elements);
+					}
+				}
 
-						if (overridingExtensions.length > 0) {
-							pipelineChildren(aParentElement, overridingExtensions, foundDescriptor,
-									localSet, elements);
+				@Override
+				public void handleException(Throwable e) {
+					NavigatorPlugin.logError(0, NLS.bind(
+							CommonNavigatorMessages.Exception_Invoking_Extension, new Object[] {
+									foundExtension.getDescriptor().getId(), aParentElement }), e);
+				}
+			});
+		}
+
+		return finalSet.toArray();
+	}
+
+	/**
+	 * Queries the first class extensions of <code>enabledExtensions</code>
+	 * concurrently and then merges their children in the iteration order of
+	 * the given set, applying the pipelined overrides on the calling thread as
+	 * the sequential case does. When called on the display thread, extensions
+	 * not done after {@link #DISPLAY_THREAD_WAIT_MILLIS} are queried again on
+	 * the calling thread, so that a provider calling
+	 * {@link Display#syncExec(Runnable)} cannot deadlock the display.
+	 */
+	private Object[] internalGetChildrenConcurrently(final Object aParentElement,
+			final Object aParentElementOrPath, final Set enabledExtensions, final boolean elements) {
+		final List<NavigatorContentExtension> extensions = new ArrayList<>(enabledExtensions.size());
+		final List<Future<Object[]>> results = new ArrayList<>(enabledExtensions.size());
+
+		for (Iterator itr = enabledExtensions.iterator(); itr.hasNext();) {
+			final NavigatorContentExtension foundExtension = (NavigatorContentExtension) itr.next();
+			SafeRunner.run(new NavigatorSafeRunnable() {
+				@Override
+				public void run() throws Exception {
+					if (!isOverridingExtensionInSet(foundExtension.getDescriptor(), enabledExtensions)) {
+						// initialize the provider on the calling thread, only the query is forked
+						final SafeDelegateTreeContentProvider provider = foundExtension.internalGetContentProvider();
+						Future<Object[]> result = null;
+						if (!extensions.isEmpty()) {
+							result = getChildrenExecutor().submit(() -> fetchContributedChildren(foundExtension,
+									provider, aParentElementOrPath, elements));
+						}
+						extensions.add(foundExtension);
+						results.add(result);
+					}
+				}
+
+				@Override
+				public void handleException(Throwable e) {
+					NavigatorPlugin.logError(0, NLS.bind(
+							CommonNavigatorMessages.Exception_Invoking_Extension, new Object[] {
+									foundExtension.getDescriptor().getId(), aParentElement }), e);
+				}
+			});
+		}
+
+		final Set finalSet = new LinkedHashSet();
+		final ContributorTrackingSet localSet = new ContributorTrackingSet(contentService);
+		final boolean displayThread = Display.getCurrent() != null;
+		final long[] deadline = new long[1];
+
+		for (int i = 0; i < extensions.size(); i++) {
+			final NavigatorContentExtension foundExtension = extensions.get(i);
+			final Future<Object[]> result = results.get(i);
+			SafeRunner.run(new NavigatorSafeRunnable() {
+				@Override
+				public void run() throws Exception {
+					Object[] contributedChildren;
+					if (result == null) {
+						// the first extension is queried while the others run
+						contributedChildren = fetchContributedChildren(foundExtension,
+								foundExtension.internalGetContentProvider(), aParentElementOrPath, elements);
+					} else if (displayThread) {
+						if (deadline[0] == 0) {
+							deadline[0] = System.nanoTime()
+									+ TimeUnit.MILLISECONDS.toNanos(DISPLAY_THREAD_WAIT_MILLIS);
 						}
-						finalSet.addAll(localSet);
+						contributedChildren = waitForChildren(result, deadline[0] - System.nanoTime());
+						if (contributedChildren == null) {
+							// the provider may be waiting for this thread
+							result.cancel(true);
+							contributedChildren = fetchContributedChildren(foundExtension,
+									foundExtension.internalGetContentProvider(), aParentElementOrPath, elements);
+						}
+					} else {
+						contributedChildren = waitForChildren(result, Long.MAX_VALUE);
 					}
+					mergeContributedChildren(aParentElement, foundExtension, contributedChildren, localSet,
+							finalSet, elements);
 				}
 
 				@Override
@@ -185,6 +290,95 @@ public class NavigatorContentServiceContentProvider implements ITreeContentProvi
 		return finalSet.toArray();
 	}
 
+	private Object[] fetchContributedChildren(NavigatorContentExtension anExtension,
+			SafeDelegateTreeContentProvider aProvider, Object aParentElementOrPath, boolean elements) {
+		long start = System.nanoTime();
+		try {
+			if (elements)
+				return aProvider.getElements(aParentElementOrPath);
+			return aProvider.getChildren(aParentElementOrPath);
+		} finally {
+			long duration = System.nanoTime() - start;
+			String id = anExtension.getDescriptor().getId();
+			extensionTimings.put(id, Long.valueOf(duration));
+			if (Policy.DEBUG_CONTENT_TIMING) {
+				System.out.println("NavigatorContentServiceContentProvider: " + id + " took " //$NON-NLS-1$//$NON-NLS-2$
+						+ TimeUnit.NANOSECONDS.toMillis(duration) + "ms for " //$NON-NLS-1$
+						+ Policy.getObjectString(aParentElementOrPath));
+			}
+		}
+	}
+
+	private void mergeContributedChildren(Object aParentElement, NavigatorContentExtension anExtension,
+			Object[] contributedChildren, ContributorTrackingSet localSet, Set finalSet, boolean elements) {
+		NavigatorContentExtension[] overridingExtensions = anExtension
+				.getOverridingExtensionsForTriggerPoint(aParentElement);
+		INavigatorContentDescriptor foundDescriptor = anExtension.getDescriptor();
+		localSet.setContributor(foundDescriptor, foundDescriptor);
+		localSet.setContents(contributedChildren);
+
+		if (overridingExtensions.length > 0) {
+			pipelineChildren(aParentElement, overridingExtensions, foundDescriptor, localSet, elements);
+		}
+		finalSet.addAll(localSet);
+	}
+
+	/**
+	 * @return the children, or <code>null</code> if they are not available
+	 *         within the given time
+	 */
+	private static Object[] waitForChildren(Future<Object[]> aResult, long timeoutNanos) throws Exception {
+		try {
+			if (timeoutNanos == Long.MAX_VALUE) {
+				return aResult.get();
+			}
+			Object[] children = aResult.get(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+			// a provider may return null, which means no children here
+			return children == null ? NO_CHILDREN : children;
+		} catch (TimeoutException e) {
+			return null;
+		} catch (InterruptedException e) {
+			aResult.cancel(true);
+			Thread.currentThread().interrupt();
+			throw e;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	private static synchronized ExecutorService getChildrenExecutor() {
+		if (childrenExecutor == null) {
+			AtomicInteger count = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_EXTENSIONS,
+					MAX_CONCURRENT_EXTENSIONS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+						Thread thread = new Thread(r, "Navigator Content Provider " + count.incrementAndGet()); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			childrenExecutor = executor;
+		}
+		return childrenExecutor;
+	}
+
+	/**
+	 * Returns the time the content provider of each content extension took to
+	 * answer its most recent request for children or elements, keyed by
+	 * content extension id.
+	 *
+	 * @return An unmodifiable snapshot of the durations, in nanoseconds
+	 */
+	public Map<String, Long> getExtensionTimings() {
+		return Collections.unmodifiableMap(new HashMap<>(extensionTimings));
+	}
+
 	/**
 	 * Query each of <code>theOverridingExtensions</code> for children, and then
 	 * pipe them through the Pipeline content provider.
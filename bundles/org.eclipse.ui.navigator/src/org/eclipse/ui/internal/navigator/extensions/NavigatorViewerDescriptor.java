@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,17 @@ public final class NavigatorViewerDescriptor implements
 	 */
 	public static final String PROP_ENFORCE_HAS_CHILDREN = "org.eclipse.ui.navigator.enforceHasChildren"; //$NON-NLS-1$
 
+	/**
+	 * {@value} (boolean): True indicates the content providers of independent
+	 * first class extensions may be queried concurrently, off the calling
+	 * thread, when children are requested (<b>false</b>). Only content
+	 * extensions whose providers are thread safe should be bound to viewers
+	 * enabling this property. A provider which waits for the display thread
+	 * while the display thread waits for its children is queried again on the
+	 * display thread after a short timeout.
+	 */
+	public static final String PROP_CONCURRENT_CHILDREN = "org.eclipse.ui.navigator.concurrentChildren"; //$NON-NLS-1$
+
 	static final String TAG_INCLUDES = "includes"; //$NON-NLS-1$
 
 	static final String TAG_EXCLUDES = "excludes"; //$NON-NLS-1$
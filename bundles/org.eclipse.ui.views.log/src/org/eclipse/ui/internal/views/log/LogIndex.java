@@ -0,0 +1,553 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index of the top level records (<code>!SESSION</code> and <code>!ENTRY</code>
+ * lines) of a whole log file with the severity, plug-in and time of every
+ * entry. The file is scanned in chunks through a reused buffer without decoding
+ * it. Only the part appended since the last {@link #update()} is scanned again,
+ * so the index stays cheap for large and growing logs.
+ * <p>
+ * Readers work on the immutable {@link Snapshot} returned by
+ * {@link #update()}, so a concurrent update never changes the records they
+ * read.
+ * </p>
+ */
+public class LogIndex {
+
+	/** Record kind of a <code>!SESSION</code> line */
+	public static final byte SESSION = 1;
+
+	/** Record kind of an <code>!ENTRY</code> line */
+	public static final byte ENTRY = 2;
+
+	/** Severity of records which are not entries or have no valid severity */
+	public static final byte NO_SEVERITY = -1;
+
+	/** Time of records without a valid date */
+	public static final long NO_TIME = Long.MIN_VALUE;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** Length of a date in the <code>yyyy-MM-dd HH:mm:ss.SSS</code> format */
+	private static final int DATE_LENGTH = 23;
+
+	private static final byte[] SESSION_TAG = LogSession.SESSION.getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] ENTRY_TAG = "!ENTRY ".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+
+	private final File file;
+
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+	private final byte[] bytes = buffer.array();
+
+	private final ZoneId zone = ZoneId.systemDefault();
+
+	// the arrays are only appended to, snapshots share them up to their size
+	private long[] offsets;
+
+	private byte[] kinds;
+
+	private byte[] severities;
+
+	private int[] plugins;
+
+	private long[] times;
+
+	private int size;
+
+	private String[] pluginIds;
+
+	private int pluginCount;
+
+	private final Map<String, Integer> pluginIndexes = new HashMap<>();
+
+	/** Length of the file up to the end of the last complete line indexed */
+	private long indexedLength;
+
+	/** Length of the file at the last update */
+	private long lastLength;
+
+	private long lastModified;
+
+	private Object fileKey;
+
+	private Snapshot snapshot;
+
+	public LogIndex(File file) {
+		this.file = file;
+		reset();
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Extends the index with the lines appended to the file since the last
+	 * update. The index is rebuilt if the file was truncated or replaced.
+	 *
+	 * @return the records of the file at the time of the update
+	 */
+	public synchronized Snapshot update() throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		long length = attributes.size();
+		long modified = attributes.lastModifiedTime().toMillis();
+		Object key = attributes.fileKey();
+		if (snapshot != null && length == lastLength && modified == lastModified && Objects.equals(key, fileKey)) {
+			return snapshot;
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			if (isReplaced(channel, length, modified, key)) {
+				reset();
+			}
+			lastLength = length;
+			lastModified = modified;
+			fileKey = key;
+			scan(channel, length);
+		}
+		snapshot = new Snapshot(this, length);
+		return snapshot;
+	}
+
+	/**
+	 * Returns whether the indexed content is no longer the start of the file,
+	 * i.e. the file was truncated, rewritten or replaced by another one.
+	 */
+	private boolean isReplaced(FileChannel channel, long length, long modified, Object key) throws IOException {
+		if (key != null && fileKey != null && !key.equals(fileKey)) {
+			return true;
+		}
+		if (length < lastLength) {
+			return true;
+		}
+		if (modified != lastModified && length == lastLength) {
+			// rewritten without growing
+			return true;
+		}
+		// an appended file still has a line end where the indexed part ended
+		return indexedLength > 0 && readByte(channel, indexedLength - 1) != '\n';
+	}
+
+	/**
+	 * Starts a new index in new arrays, the snapshots taken so far keep the old
+	 * ones.
+	 */
+	private void reset() {
+		offsets = new long[256];
+		kinds = new byte[256];
+		severities = new byte[256];
+		plugins = new int[256];
+		times = new long[256];
+		size = 0;
+		pluginIds = new String[16];
+		pluginCount = 0;
+		pluginIndexes.clear();
+		indexedLength = 0;
+		snapshot = null;
+	}
+
+	private int readByte(FileChannel channel, long position) throws IOException {
+		buffer.clear();
+		buffer.limit(1);
+		return channel.read(buffer, position) == 1 ? bytes[0] : -1;
+	}
+
+	/**
+	 * Records all complete lines from {@link #indexedLength} to the given length
+	 * which start a record.
+	 */
+	private void scan(FileChannel channel, long length) throws IOException {
+		long position = indexedLength;
+		boolean atLineStart = true;
+		while (position < length) {
+			buffer.clear();
+			buffer.limit((int) Math.min(buffer.capacity(), length - position));
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					break;
+				}
+			}
+			int limit = buffer.position();
+			if (limit == 0) {
+				// the file was truncated while reading it
+				return;
+			}
+			int lineStart = 0;
+			for (int i = 0; i < limit; i++) {
+				if (bytes[i] == '\n') {
+					if (atLineStart) {
+						indexLine(lineStart, i, position);
+					}
+					atLineStart = true;
+					lineStart = i + 1;
+				}
+			}
+			if (lineStart == 0) {
+				if (limit < buffer.capacity()) {
+					// the incomplete last line is indexed once it is complete
+					return;
+				}
+				// a line longer than the buffer, its start is enough to index it
+				if (atLineStart) {
+					indexLine(0, limit, position);
+				}
+				position += limit;
+				atLineStart = false;
+			} else {
+				// the incomplete last line is read again with the next chunk
+				position += lineStart;
+				indexedLength = position;
+			}
+		}
+	}
+
+	private void indexLine(int start, int end, long bufferOffset) {
+		if (end - start < SESSION_TAG.length || bytes[start] != '!') {
+			return;
+		}
+		if (end > start && bytes[end - 1] == '\r') {
+			end--;
+		}
+		if (startsWith(start, end, SESSION_TAG)) {
+			int dateStart = start + SESSION_TAG.length;
+			while (dateStart < end && bytes[dateStart] == ' ') {
+				dateStart++;
+			}
+			add(bufferOffset + start, SESSION, NO_SEVERITY, -1, parseTime(dateStart, end));
+		} else if (startsWith(start, end, ENTRY_TAG)) {
+			int idStart = start + ENTRY_TAG.length;
+			int idEnd = idStart;
+			while (idEnd < end && bytes[idEnd] != ' ') {
+				idEnd++;
+			}
+			add(bufferOffset + start, ENTRY, parseSeverity(idEnd, end), getPluginIndex(idStart, idEnd),
+					parseTime(end - DATE_LENGTH, end));
+		}
+	}
+
+	private boolean startsWith(int start, int end, byte[] tag) {
+		if (end - start < tag.length) {
+			return false;
+		}
+		for (int i = 0; i < tag.length; i++) {
+			if (bytes[start + i] != tag[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the severity following the plug-in id of an <code>!ENTRY</code> line.
+	 */
+	private byte parseSeverity(int start, int end) {
+		int i = start;
+		while (i < end && bytes[i] == ' ') {
+			i++;
+		}
+		int severity = 0;
+		int digits = 0;
+		while (i < end) {
+			byte b = bytes[i];
+			if (b < '0' || b > '9') {
+				break;
+			}
+			severity = severity * 10 + (b - '0');
+			digits++;
+			i++;
+		}
+		// the framework logs entries without severity, followed by the date
+		if (digits == 0 || digits > 2 || (i < end && bytes[i] != ' ')) {
+			return NO_SEVERITY;
+		}
+		return (byte) severity;
+	}
+
+	private int getPluginIndex(int start, int end) {
+		if (start == end) {
+			return -1;
+		}
+		String pluginId = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+		Integer index = pluginIndexes.get(pluginId);
+		if (index != null) {
+			return index.intValue();
+		}
+		if (pluginCount == pluginIds.length) {
+			pluginIds = Arrays.copyOf(pluginIds, pluginCount * 2);
+		}
+		pluginIds[pluginCount] = pluginId;
+		pluginIndexes.put(pluginId, Integer.valueOf(pluginCount));
+		return pluginCount++;
+	}
+
+	/**
+	 * Reads a date in the <code>yyyy-MM-dd HH:mm:ss.SSS</code> format of
+	 * {@link LogEntry} in the default time zone.
+	 *
+	 * @return the time in milliseconds, {@link #NO_TIME} if there is no valid
+	 *         date at the given position
+	 */
+	private long parseTime(int start, int end) {
+		if (start < 0 || end - start < DATE_LENGTH || bytes[start + 4] != '-' || bytes[start + 7] != '-'
+				|| bytes[start + 10] != ' ' || bytes[start + 13] != ':' || bytes[start + 16] != ':'
+				|| bytes[start + 19] != '.') {
+			return NO_TIME;
+		}
+		int year = parseNumber(start, 4);
+		int month = parseNumber(start + 5, 2);
+		int day = parseNumber(start + 8, 2);
+		int hour = parseNumber(start + 11, 2);
+		int minute = parseNumber(start + 14, 2);
+		int second = parseNumber(start + 17, 2);
+		int millis = parseNumber(start + 20, 3);
+		if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0 || millis < 0) {
+			return NO_TIME;
+		}
+		try {
+			return LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000).atZone(zone)
+					.toInstant().toEpochMilli();
+		} catch (DateTimeException e) {
+			return NO_TIME;
+		}
+	}
+
+	private int parseNumber(int start, int digits) {
+		int value = 0;
+		for (int i = start; i < start + digits; i++) {
+			byte b = bytes[i];
+			if (b < '0' || b > '9') {
+				return -1;
+			}
+			value = value * 10 + (b - '0');
+		}
+		return value;
+	}
+
+	private void add(long offset, byte kind, byte severity, int plugin, long time) {
+		if (size > 0 && offsets[size - 1] >= offset) {
+			// a line longer than the buffer which was indexed before its end
+			return;
+		}
+		if (size == offsets.length) {
+			int newCapacity = size * 2;
+			offsets = Arrays.copyOf(offsets, newCapacity);
+			kinds = Arrays.copyOf(kinds, newCapacity);
+			severities = Arrays.copyOf(severities, newCapacity);
+			plugins = Arrays.copyOf(plugins, newCapacity);
+			times = Arrays.copyOf(times, newCapacity);
+		}
+		offsets[size] = offset;
+		kinds[size] = kind;
+		severities[size] = severity;
+		plugins[size] = plugin;
+		times[size] = time;
+		size++;
+	}
+
+	/**
+	 * The records of a log file at the time of an {@link LogIndex#update()}.
+	 * Snapshots are immutable and may be read from any thread.
+	 */
+	public static final class Snapshot {
+
+		private final long[] offsets;
+
+		private final byte[] kinds;
+
+		private final byte[] severities;
+
+		private final int[] plugins;
+
+		private final long[] times;
+
+		private final int size;
+
+		private final String[] pluginIds;
+
+		private final int pluginCount;
+
+		private final long length;
+
+		Snapshot(LogIndex index, long length) {
+			this.offsets = index.offsets;
+			this.kinds = index.kinds;
+			this.severities = index.severities;
+			this.plugins = index.plugins;
+			this.times = index.times;
+			this.size = index.size;
+			this.pluginIds = index.pluginIds;
+			this.pluginCount = index.pluginCount;
+			this.length = length;
+		}
+
+		/**
+		 * @return the number of indexed records
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * @return the length of the file the records were read from
+		 */
+		public long getLength() {
+			return length;
+		}
+
+		public long getOffset(int index) {
+			checkIndex(index);
+			return offsets[index];
+		}
+
+		public byte getKind(int index) {
+			checkIndex(index);
+			return kinds[index];
+		}
+
+		public byte getSeverity(int index) {
+			checkIndex(index);
+			return severities[index];
+		}
+
+		/**
+		 * @return the plug-in id of the given entry, <code>null</code> for
+		 *         sessions
+		 */
+		public String getPluginId(int index) {
+			checkIndex(index);
+			int plugin = plugins[index];
+			return plugin < 0 ? null : pluginIds[plugin];
+		}
+
+		/**
+		 * @return the time of the given record in milliseconds, {@link #NO_TIME}
+		 *         if it has no valid date
+		 */
+		public long getTime(int index) {
+			checkIndex(index);
+			return times[index];
+		}
+
+		/**
+		 * Returns the end of the given record, i.e. the start of the next record or
+		 * the length of the file for the last one.
+		 */
+		public long getEnd(int index) {
+			checkIndex(index);
+			return index + 1 < size ? offsets[index + 1] : length;
+		}
+
+		/**
+		 * Returns the index of the first record starting at or after the given file
+		 * offset.
+		 *
+		 * @return the record index, {@link #size()} if there is none
+		 */
+		public int findRecord(long offset) {
+			int index = Arrays.binarySearch(offsets, 0, size, offset);
+			return index >= 0 ? index : -index - 1;
+		}
+
+		/**
+		 * Returns the entries of the given plug-in logged in the given time range
+		 * without reading the file.
+		 *
+		 * @param pluginId the plug-in id, <code>null</code> for entries of all
+		 *                 plug-ins
+		 * @param from     the earliest time in milliseconds, inclusive
+		 * @param to       the latest time in milliseconds, inclusive
+		 * @return the indexes of the matching entries in file order
+		 */
+		public int[] findEntries(String pluginId, long from, long to) {
+			int plugin = -1;
+			if (pluginId != null) {
+				for (int i = 0; i < pluginCount && plugin < 0; i++) {
+					if (pluginId.equals(pluginIds[i])) {
+						plugin = i;
+					}
+				}
+				if (plugin < 0) {
+					return new int[0];
+				}
+			}
+			boolean anyTime = from == Long.MIN_VALUE && to == Long.MAX_VALUE;
+			int[] result = new int[16];
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (kinds[i] != ENTRY || (plugin >= 0 && plugins[i] != plugin)) {
+					continue;
+				}
+				if (!anyTime && (times[i] == NO_TIME || times[i] < from || times[i] > to)) {
+					continue;
+				}
+				if (count == result.length) {
+					result = Arrays.copyOf(result, count * 2);
+				}
+				result[count++] = i;
+			}
+			return Arrays.copyOf(result, count);
+		}
+
+		/**
+		 * Returns the byte ranges of the given records with adjacent records
+		 * merged, as read by {@link RangesInputStream}.
+		 *
+		 * @param records the record indexes in file order
+		 */
+		public long[] getRanges(int[] records) {
+			long[] ranges = new long[16];
+			int count = 0;
+			for (int record : records) {
+				long start = getOffset(record);
+				long end = getEnd(record);
+				if (count > 0 && ranges[count - 1] == start) {
+					// adjacent to the previous record
+					ranges[count - 1] = end;
+					continue;
+				}
+				if (count == ranges.length) {
+					ranges = Arrays.copyOf(ranges, count * 2);
+				}
+				ranges[count++] = start;
+				ranges[count++] = end;
+			}
+			return Arrays.copyOf(ranges, count);
+		}
+
+		private void checkIndex(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(index);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,8 @@ class LogReader {
 	private static final int TEXT_STATE = 60;
 	private static final int UNKNOWN_STATE = 70;
 
+	private static LogIndex cachedIndex;
+
 	public static LogSession parseLogFile(File file, long maxLogTailSizeInMegaByte, List<LogEntry> entries,
 			IMemento memento) {
 		if (!file.exists())
@@ -45,6 +47,23 @@ class LogReader {
 				&& memento.getInteger(LogView.P_LOG_LIMIT).intValue() == 0)
 			return null;
 
+		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
+				: ONE_MEGA_BYTE_IN_BYTES;
+		LogSession currentSession = null;
+		try (InputStream in = openTail(file, maxTailSizeInBytes, memento)) {
+			currentSession = parse(in, entries, memento);
+		} catch (IOException e) { // do nothing
+		}
+		if (file.length() > maxLogTailSizeInMegaByte && entries.isEmpty()) {
+			LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
+					Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
+			entry.setSession(currentSession == null ? new LogSession() : currentSession);
+			entries.add(entry);
+		}
+		return currentSession;
+	}
+
+	private static LogSession parse(InputStream in, List<LogEntry> entries, IMemento memento) {
 		ArrayList<LogEntry> parents = new ArrayList<>();
 		LogEntry current = null;
 		LogSession session = null;
@@ -53,10 +72,7 @@ class LogReader {
 		PrintWriter writer = null;
 		int state = UNKNOWN_STATE;
 		LogSession currentSession = null;
-		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
-				: ONE_MEGA_BYTE_IN_BYTES;
-		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(new TailInputStream(file, maxTailSizeInBytes), StandardCharsets.UTF_8))) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
 			for (;;) {
 				String line0 = reader.readLine();
 				if (line0 == null)
@@ -161,12 +177,6 @@ class LogReader {
 			}
 		} catch (IOException e) { // do nothing
 		} finally {
-			if (file.length() > maxLogTailSizeInMegaByte && entries.isEmpty()) {
-				LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
-						Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
-				entry.setSession(currentSession == null ? new LogSession() : currentSession);
-				entries.add(entry);
-			}
 			if (writer != null) {
 				setData(current, session, writerState, swriter);
 				writer.close();
@@ -176,6 +186,122 @@ class LogReader {
 		return currentSession;
 	}
 
+	/**
+	 * Opens a stream on the most recent records of the file. Using the record
+	 * index of the whole file, the stream starts at a record boundary and leaves
+	 * out the entries whose severity is filtered, so they are never decoded or
+	 * parsed and do not count against the given size. Going back from the end of
+	 * the file entries are read until their size reaches
+	 * <code>maxTailSizeInBytes</code> or their number the entry limit.
+	 */
+	private static InputStream openTail(File file, long maxTailSizeInBytes, IMemento memento) throws IOException {
+		LogIndex.Snapshot index;
+		try {
+			index = getIndex(file).update();
+		} catch (IOException e) {
+			return new TailInputStream(file, maxTailSizeInBytes);
+		}
+		int limit = Integer.MAX_VALUE;
+		if (memento.getString(LogView.P_USE_LIMIT).equals("true")) { //$NON-NLS-1$
+			limit = memento.getInteger(LogView.P_LOG_LIMIT).intValue();
+		}
+		boolean allSessions = memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true"); //$NON-NLS-1$
+		int[] records = new int[16];
+		int count = 0;
+		int entries = 0;
+		long remaining = maxTailSizeInBytes;
+		for (int i = index.size() - 1; i >= 0 && remaining > 0 && entries < limit; i--) {
+			if (index.getKind(i) == LogIndex.SESSION) {
+				if (!allSessions) {
+					// the entries of older sessions are not shown
+					break;
+				}
+				continue;
+			}
+			byte severity = index.getSeverity(i);
+			if (severity != LogIndex.NO_SEVERITY) {
+				if (!isLogged(severity, memento)) {
+					continue;
+				}
+				entries++;
+			}
+			remaining -= index.getEnd(i) - index.getOffset(i);
+			if (count == records.length) {
+				records = Arrays.copyOf(records, count * 2);
+			}
+			records[count++] = i;
+		}
+		int[] selected = new int[count];
+		for (int i = 0; i < count; i++) {
+			selected[i] = records[count - 1 - i];
+		}
+		return new RangesInputStream(file, index.getRanges(withSessions(index, selected)));
+	}
+
+	/**
+	 * Adds the session each of the given records was logged in.
+	 *
+	 * @param records the record indexes in file order
+	 * @return the record indexes with their sessions in file order
+	 */
+	private static int[] withSessions(LogIndex.Snapshot index, int[] records) {
+		int[] result = new int[records.length * 2];
+		int count = 0;
+		int session = -1;
+		int addedSession = -1;
+		int next = 0;
+		for (int record : records) {
+			for (int i = next; i < record; i++) {
+				if (index.getKind(i) == LogIndex.SESSION) {
+					session = i;
+				}
+			}
+			next = record + 1;
+			if (session != addedSession) {
+				result[count++] = session;
+				addedSession = session;
+			}
+			result[count++] = record;
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Parses the entries of the given plug-in logged in the given time range
+	 * from the whole file. Only these entries and the sessions they were logged
+	 * in are read, the record index of the file tells where they are.
+	 *
+	 * @param pluginId the plug-in id, <code>null</code> for entries of all
+	 *                 plug-ins
+	 * @param from     the earliest time in milliseconds, inclusive
+	 * @param to       the latest time in milliseconds, inclusive
+	 */
+	public static LogSession parseLogFile(File file, String pluginId, long from, long to, List<LogEntry> entries,
+			IMemento memento) {
+		if (!file.exists())
+			return null;
+		LogIndex.Snapshot index;
+		try {
+			index = getIndex(file).update();
+		} catch (IOException e) {
+			return null;
+		}
+		int[] records = index.findEntries(pluginId, from, to);
+		long[] ranges = index.getRanges(withSessions(index, records));
+		try (InputStream in = new RangesInputStream(file, ranges)) {
+			return parse(in, entries, memento);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static synchronized LogIndex getIndex(File file) {
+		if (cachedIndex == null || !cachedIndex.getFile().equals(file)) {
+			cachedIndex = new LogIndex(file);
+		}
+		return cachedIndex;
+	}
+
 	public static LogSession parseLogFile(File file, List<LogEntry> entries, IMemento memento) {
 		return parseLogFile(file, ONE_MEGA_BYTE_IN_BYTES, entries, memento);
 	}
@@ -239,7 +365,10 @@ class LogReader {
 	 * @return is entry logged or filtered
 	 */
 	public static boolean isLogged(LogEntry entry, IMemento memento) {
-		int severity = entry.getSeverity();
+		return isLogged(entry.getSeverity(), memento);
+	}
+
+	private static boolean isLogged(int severity, IMemento memento) {
 		switch (severity) {
 			case IStatus.INFO :
 				return memento.getString(LogView.P_LOG_INFO).equals("true"); //$NON-NLS-1$
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import java.io.*;
+
+/**
+ * Reads the given <code>[start, end)</code> byte ranges of a file one after
+ * the other.
+ */
+public class RangesInputStream extends InputStream {
+	private final RandomAccessFile raf;
+	private final long[] ranges;
+	private int range;
+	private long position;
+
+	/**
+	 * @param file   the file to read
+	 * @param ranges the start and end offsets of the ranges to read, in file
+	 *               order
+	 */
+	public RangesInputStream(File file, long[] ranges) throws IOException {
+		this.raf = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+		this.ranges = ranges;
+		if (ranges.length > 0) {
+			position = ranges[0];
+			raf.seek(position);
+		}
+	}
+
+	private boolean nextRange() throws IOException {
+		while (range < ranges.length && position >= ranges[range + 1]) {
+			range += 2;
+			if (range < ranges.length) {
+				position = ranges[range];
+				raf.seek(position);
+			}
+		}
+		return range < ranges.length;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!nextRange()) {
+			return -1;
+		}
+		int b = raf.read();
+		if (b >= 0) {
+			position++;
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!nextRange()) {
+			return -1;
+		}
+		int toRead = (int) Math.min(len, ranges[range + 1] - position);
+		int read = raf.read(b, off, toRead);
+		if (read > 0) {
+			position += read;
+		}
+		return read;
+	}
+
+	@Override
+	public void close() throws IOException {
+		raf.close();
+	}
+}
@@ -42,12 +42,7 @@ public class TailInputStream extends InputStream {
 
 	@Override
 	public int read() throws IOException {
-		byte[] b = new byte[1];
-		int len = fRaf.read(b, 0, 1);
-		if (len < 0) {
-			return len;
-		}
-		return b[0];
+		return fRaf.read();
 	}
 
 	@Override
@@ -16,7 +16,11 @@ package org.eclipse.ui.internal.views.properties.tabbed.view;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -27,6 +31,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredContentProvider;
+import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.ui.IWorkbenchPart;
 import org.eclipse.ui.internal.views.properties.tabbed.TabbedPropertyViewStatusCodes;
 import org.eclipse.ui.internal.views.properties.tabbed.l10n.TabbedPropertyMessages;
@@ -107,6 +112,105 @@ public class TabbedPropertyRegistry {
 
 	protected boolean overridableTabListContentProvider = false;
 
+	private static final int MAX_CACHED_SELECTION_TYPES = 64;
+
+	/**
+	 * The candidate sections of the tabs for the types of recent selections.
+	 */
+	private final Map<SelectionTypes, TabCandidates[]> candidatesBySelectionTypes = new LinkedHashMap<>(16,
+			0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<SelectionTypes, TabCandidates[]> eldest) {
+			return size() > MAX_CACHED_SELECTION_TYPES;
+		}
+	};
+
+	/**
+	 * The effective types and the size of a structured selection, which is all
+	 * sections without a filter depend on.
+	 */
+	private static final class SelectionTypes {
+		private final int size;
+
+		private final Set<Class<?>> types;
+
+		SelectionTypes(int size, Set<Class<?>> types) {
+			this.size = size;
+			this.types = types;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof SelectionTypes)) {
+				return false;
+			}
+			SelectionTypes other = (SelectionTypes) obj;
+			return size == other.size && types.equals(other.types);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * size + types.hashCode();
+		}
+	}
+
+	/**
+	 * The sections of a tab which may apply to the selections of some types.
+	 * Sections with a filter are evaluated for every selection, the others
+	 * have been found to apply by their types already.
+	 */
+	private static final class TabCandidates {
+		private final AbstractTabDescriptor tab;
+
+		private final List<ISectionDescriptor> sections;
+
+		private final boolean[] filtered;
+
+		private final boolean hasFiltered;
+
+		private AbstractTabDescriptor adapted;
+
+		TabCandidates(AbstractTabDescriptor tab, List<ISectionDescriptor> sections, boolean[] filtered) {
+			this.tab = tab;
+			this.sections = sections;
+			this.filtered = filtered;
+			boolean any = false;
+			for (boolean f : filtered) {
+				any |= f;
+			}
+			this.hasFiltered = any;
+		}
+
+		/**
+		 * Returns the tab with the sections applying to the given selection, or
+		 * <code>null</code> if no section applies.
+		 */
+		ITabDescriptor adapt(IWorkbenchPart part, ISelection selection) {
+			if (!hasFiltered) {
+				if (adapted == null && !sections.isEmpty()) {
+					adapted = clone(sections);
+				}
+				return adapted;
+			}
+			List<ISectionDescriptor> applying = new ArrayList<>(sections.size());
+			for (int i = 0; i < sections.size(); i++) {
+				ISectionDescriptor section = sections.get(i);
+				if (!filtered[i] || section.appliesTo(part, selection)) {
+					applying.add(section);
+				}
+			}
+			return applying.isEmpty() ? null : clone(applying);
+		}
+
+		private AbstractTabDescriptor clone(List<ISectionDescriptor> applying) {
+			AbstractTabDescriptor result = (AbstractTabDescriptor) tab.clone();
+			result.setSectionDescriptors(applying);
+			return result;
+		}
+	}
+
 	/**
 	 * There is one details registry for each contributor type.
 	 */
@@ -272,6 +376,9 @@ public class TabbedPropertyRegistry {
 
 		ITabDescriptor[] allDescriptors = null;
 		if (tabDescriptorProvider == null) {
+			if (getClass() == TabbedPropertyRegistry.class && selection instanceof IStructuredSelection) {
+				return filterTabDescriptors(part, (IStructuredSelection) selection);
+			}
 			allDescriptors = getAllTabDescriptors();
 		} else {
 			allDescriptors = tabDescriptorProvider.getTabDescriptors(part,
@@ -303,6 +410,61 @@ public class TabbedPropertyRegistry {
 		return result.toArray(new ITabDescriptor[result.size()]);
 	}
 
+	/**
+	 * Filters the tabs read from the extensions for a structured selection. The
+	 * sections without a filter only check the types of the selected objects,
+	 * so whether they apply is only decided once for the selections of the same
+	 * types and size.
+	 */
+	private ITabDescriptor[] filterTabDescriptors(IWorkbenchPart part, IStructuredSelection selection) {
+		Set<Class<?>> types = new HashSet<>();
+		for (Object object : selection) {
+			types.add(typeMapper != null ? typeMapper.mapType(object) : object.getClass());
+		}
+		SelectionTypes key = new SelectionTypes(selection.size(), types);
+		TabCandidates[] candidates = candidatesBySelectionTypes.get(key);
+		if (candidates == null) {
+			candidates = computeTabCandidates(part, selection);
+			candidatesBySelectionTypes.put(key, candidates);
+		}
+		List<ITabDescriptor> result = new ArrayList<>(candidates.length);
+		for (TabCandidates candidate : candidates) {
+			ITabDescriptor tab = candidate.adapt(part, selection);
+			if (tab != null) {
+				result.add(tab);
+			}
+		}
+		if (result.isEmpty()) {
+			return EMPTY_DESCRIPTOR_ARRAY;
+		}
+		return result.toArray(new ITabDescriptor[result.size()]);
+	}
+
+	private TabCandidates[] computeTabCandidates(IWorkbenchPart part, IStructuredSelection selection) {
+		ITabDescriptor[] tabs = getAllTabDescriptors();
+		TabCandidates[] candidates = new TabCandidates[tabs.length];
+		for (int i = 0; i < tabs.length; i++) {
+			List<ISectionDescriptor> sections = new ArrayList<>();
+			List<Boolean> filtered = new ArrayList<>();
+			for (ISectionDescriptor section : (List<ISectionDescriptor>) tabs[i].getSectionDescriptors()) {
+				// only the sections read from the extensions are known to check nothing but the types
+				if (section.getClass() != SectionDescriptor.class || section.getFilter() != null) {
+					sections.add(section);
+					filtered.add(Boolean.TRUE);
+				} else if (section.appliesTo(part, selection)) {
+					sections.add(section);
+					filtered.add(Boolean.FALSE);
+				}
+			}
+			boolean[] filteredArray = new boolean[filtered.size()];
+			for (int j = 0; j < filteredArray.length; j++) {
+				filteredArray[j] = filtered.get(j).booleanValue();
+			}
+			candidates[i] = new TabCandidates((AbstractTabDescriptor) tabs[i], sections, filteredArray);
+		}
+		return candidates;
+	}
+
 	/**
 	 * Given a property tab descriptor remove all its section descriptors that
 	 * do not apply to the given input object.
@@ -510,6 +672,7 @@ public class TabbedPropertyRegistry {
 	 * @since 3.7
 	 */
 	public void dispose() {
+		candidatesBySelectionTypes.clear();
 		if (labelProvider != null) {
 			labelProvider.dispose();
 			labelProvider = null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2001, 2015 IBM Corporation and others.
+ * Copyright (c) 2001, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.ui.internal.views.properties.tabbed.view;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +36,17 @@ import org.eclipse.ui.views.properties.tabbed.ITypeMapper;
  */
 public class TabbedPropertyRegistryClassSectionFilter {
 
+	/**
+	 * The names of the classes and interfaces each class extends/implements,
+	 * computed once per class.
+	 */
+	private static final ClassValue<Set<String>> CLASS_TYPES = new ClassValue<>() {
+		@Override
+		protected Set<String> computeValue(Class<?> type) {
+			return Collections.unmodifiableSet(new HashSet<>(computeClassTypes(type)));
+		}
+	};
+
 	private ITypeMapper typeMapper = null;
 
 	/**
@@ -123,7 +136,10 @@ public class TabbedPropertyRegistryClassSectionFilter {
 	private boolean appliesToEffectiveType(ISectionDescriptor descriptor,
 			Class<?> inputClass) {
 
-		ArrayList<String> classTypes = getClassTypes(inputClass);
+		// the shared cache would bypass getClassTypes() overridden in subclasses
+		Collection<String> classTypes = getClass() == TabbedPropertyRegistryClassSectionFilter.class
+				? CLASS_TYPES.get(inputClass)
+				: getClassTypes(inputClass);
 
 		List<String> sectionInputTypes = descriptor.getInputTypes();
 		for (String type : sectionInputTypes) {
@@ -141,6 +157,10 @@ public class TabbedPropertyRegistryClassSectionFilter {
 	 * extends/implements.
 	 */
 	protected ArrayList<String> getClassTypes(Class<?> target) {
+		return computeClassTypes(target);
+	}
+
+	private static ArrayList<String> computeClassTypes(Class<?> target) {
 		ArrayList<String> result = new ArrayList<>();
 		// add classes
 		List<Class<?>> classes = computeClassOrder(target);
@@ -152,7 +172,7 @@ public class TabbedPropertyRegistryClassSectionFilter {
 		return result;
 	}
 
-	private List<Class<?>> computeClassOrder(Class<?> target) {
+	private static List<Class<?>> computeClassOrder(Class<?> target) {
 		List<Class<?>> result = new ArrayList<>(4);
 		Class<?> clazz = target;
 		while (clazz != null) {
@@ -162,7 +182,7 @@ public class TabbedPropertyRegistryClassSectionFilter {
 		return result;
 	}
 
-	private List<String> computeInterfaceOrder(List<Class<?>> classes) {
+	private static List<String> computeInterfaceOrder(List<Class<?>> classes) {
 		List<String> result = new ArrayList<>(4);
 		Map<Class<?>, Class<?>> seen = new HashMap<>(4);
 		for (Class<?> curclass : classes) {
@@ -172,7 +192,7 @@ public class TabbedPropertyRegistryClassSectionFilter {
 		return result;
 	}
 
-	private void internalComputeInterfaceOrder(Class<?>[] interfaces, List<String> result,
+	private static void internalComputeInterfaceOrder(Class<?>[] interfaces, List<String> result,
 			Map<Class<?>, Class<?>> seen) {
 		List<Class<?>> newInterfaces = new ArrayList<>(seen.size());
 		for (Class<?> interfac : interfaces) {
@@ -15,8 +15,10 @@ package org.eclipse.ui.views.properties.tabbed;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -101,6 +103,15 @@ public class TabbedPropertySheetPage
 
 	private Map<TabContents, Composite> tabToComposite;
 
+	/**
+	 * The tabs which no longer apply to the selection, but are kept with their
+	 * controls in case they apply again, least recently used first.
+	 */
+	private final Map<ITabDescriptor, TabContents> retainedTabs = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int retainedTabCount = Integer.getInteger("org.eclipse.ui.views.properties.tabbed.retainedTabs", 0) //$NON-NLS-1$
+			.intValue();
+
 	private List<String> selectionQueue;
 
 	private boolean selectionQueueLocked;
@@ -467,6 +478,8 @@ public class TabbedPropertySheetPage
 
 		disposeTabs(descriptorToTab.values());
 		descriptorToTab = new HashMap<>();
+		disposeTabs(retainedTabs.values());
+		retainedTabs.clear();
 
 		/**
 		 * Remove the label provider change listener.
@@ -647,8 +660,9 @@ public class TabbedPropertySheetPage
 	/**
 	 * Update the current tabs to represent the given input object. When tabs
 	 * apply for both the old and new input they are reused otherwise they are
-	 * disposed. If the current visible tab will not be reused (i.e. will be
-	 * disposed) we have to send it an aboutToBeHidden() message.
+	 * disposed, or retained if {@link #setRetainedTabCount(int)} allows. If the
+	 * current visible tab will not be reused we have to send it an
+	 * aboutToBeHidden() message.
 	 * @since 3.4
 	 */
 	protected void updateTabs(ITabDescriptor[] descriptors) {
@@ -656,6 +670,9 @@ public class TabbedPropertySheetPage
 		boolean disposingCurrentTab = (currentTab != null);
 		for (ITabDescriptor descriptor : descriptors) {
 			TabContents tab = descriptorToTab.remove(descriptor);
+			if (tab == null) {
+				tab = retainedTabs.remove(descriptor);
+			}
 
 			if (tab != null && tab.controlsHaveBeenCreated()) {
 				if (tab == currentTab) {
@@ -673,12 +690,64 @@ public class TabbedPropertySheetPage
 			 * aboutToBeHidden
 			 */
 			currentTab.aboutToBeHidden();
+			Composite composite = tabToComposite.get(currentTab);
+			if (composite != null) {
+				composite.setVisible(false);
+			}
 			currentTab = null;
 		}
-		disposeTabs(descriptorToTab.values());
+		retainTabs(descriptorToTab);
 		descriptorToTab = newTabs;
 	}
 
+	/**
+	 * Keeps the given tabs which no longer apply, and disposes the tabs which
+	 * exceed the retained tab count.
+	 */
+	private void retainTabs(Map<ITabDescriptor, TabContents> tabs) {
+		List<TabContents> disposed = new ArrayList<>();
+		for (Map.Entry<ITabDescriptor, TabContents> entry : tabs.entrySet()) {
+			TabContents tab = entry.getValue();
+			if (retainedTabCount > 0 && tab.controlsHaveBeenCreated()) {
+				TabContents replaced = retainedTabs.put(entry.getKey(), tab);
+				if (replaced != null && replaced != tab) {
+					disposed.add(replaced);
+				}
+			} else {
+				disposed.add(tab);
+			}
+		}
+		for (Iterator<TabContents> iter = retainedTabs.values().iterator(); retainedTabs.size() > retainedTabCount;) {
+			disposed.add(iter.next());
+			iter.remove();
+		}
+		disposeTabs(disposed);
+	}
+
+	/**
+	 * Sets the number of tabs to keep with their controls once they no longer
+	 * apply to the selection. When the selection changes to elements for which
+	 * a kept tab applies again, the tab only gets the new input and is
+	 * refreshed, instead of creating the controls of its sections again. This
+	 * keeps the view responsive when navigating between elements of different
+	 * types. The least recently used tabs are disposed when there are more
+	 * tabs to keep.
+	 * <p>
+	 * The default is 0, tabs are disposed once they no longer apply. It can be
+	 * changed with the <code>org.eclipse.ui.views.properties.tabbed.retainedTabs</code>
+	 * system property.
+	 * </p>
+	 *
+	 * @param count
+	 *            the number of tabs to keep, 0 to dispose tabs which no longer
+	 *            apply
+	 * @since 3.10
+	 */
+	public void setRetainedTabCount(int count) {
+		retainedTabCount = Math.max(0, count);
+		retainTabs(Collections.emptyMap());
+	}
+
 	/**
 	 * Create the tab contents for the provided tab descriptor.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,8 +35,10 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
@@ -1438,6 +1440,8 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 	}
 
 	private class ItemsListLabelProvider extends StyledCellLabelProvider implements ILabelProviderListener {
+		private static final int MAX_CACHED_LABELS = 1000;
+
 		private ILabelProvider provider;
 
 		private ILabelDecorator selectionDecorator;
@@ -1445,6 +1449,22 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		// Need to keep our own list of listeners
 		private ListenerList<ILabelProviderListener> listeners = new ListenerList<>();
 
+		/*
+		 * The undecorated labels of the items shown for labelsFilter. The list is
+		 * refreshed several times while the items of a filter are searched, the
+		 * labels of the visible items are only computed once.
+		 */
+		private final Map<Object, CachedLabel> labels = new LinkedHashMap<>(64, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, CachedLabel> eldest) {
+				return size() > MAX_CACHED_LABELS;
+			}
+		};
+
+		private ItemsFilter labelsFilter;
+
 		/**
 		 * Creates a new instance of the class.
 		 *
@@ -1508,6 +1528,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 			provider = newProvider;
 			provider.addListener(this);
+			labels.clear();
 
 			setOwnerDrawEnabled(showColoredLabels() && provider instanceof IStyledLabelProvider);
 		}
@@ -1535,7 +1556,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 				return getSeparatorLabel(((ItemsListSeparator) element).getName());
 			}
 
-			String str = provider.getText(element);
+			String str = (String) getCachedLabel(element);
 			if (selectionDecorator != null && isSelected(element)) {
 				return selectionDecorator.decorateText(str, element);
 			}
@@ -1543,10 +1564,12 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			return str;
 		}
 
-		private StyledString getStyledText(Object element, IStyledLabelProvider provider) {
-			StyledString string = provider.getStyledText(element);
+		private StyledString getStyledText(Object element) {
+			StyledString string = (StyledString) getCachedLabel(element);
 
 			if (selectionDecorator != null && isSelected(element)) {
+				// the cached label must not be changed by decorating it
+				string = new StyledString().append(string);
 				String decorated = selectionDecorator.decorateText(string.getString(), element);
 				return StyledCellLabelProvider.styleDecoratedString(decorated, null, string);
 				// no need to add colors when element is selected
@@ -1560,7 +1583,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 			if (!(element instanceof ItemsListSeparator) && provider instanceof IStyledLabelProvider) {
 				IStyledLabelProvider styledLabelProvider = (IStyledLabelProvider) provider;
-				StyledString styledString = getStyledText(element, styledLabelProvider);
+				StyledString styledString = getStyledText(element);
 
 				cell.setText(styledString.getString());
 				cell.setStyleRanges(styledString.getStyleRanges());
@@ -1576,6 +1599,28 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			super.update(cell);
 		}
 
+		/*
+		 * Returns the styled text of the element if the provider is an
+		 * IStyledLabelProvider, otherwise the text, computing it only if the
+		 * filter or the duplicate state of the element changed since.
+		 */
+		private Object getCachedLabel(Object element) {
+			if (labelsFilter != filter) {
+				labels.clear();
+				labelsFilter = filter;
+			}
+			boolean duplicate = isDuplicateElement(element);
+			CachedLabel cached = labels.get(element);
+			if (cached == null || cached.duplicate != duplicate) {
+				Object label = provider instanceof IStyledLabelProvider
+						? ((IStyledLabelProvider) provider).getStyledText(element)
+						: provider.getText(element);
+				cached = new CachedLabel(label, duplicate);
+				labels.put(element, cached);
+			}
+			return cached.label;
+		}
+
 		private String getSeparatorLabel(String separatorLabel) {
 			Rectangle rect = tableViewer.getTable().getBounds();
 
@@ -1613,6 +1658,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 		@Override
 		public void dispose() {
+			labels.clear();
 			provider.removeListener(this);
 			provider.dispose();
 
@@ -1672,12 +1718,29 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 		@Override
 		public void labelProviderChanged(LabelProviderChangedEvent event) {
+			labels.clear();
 			for (ILabelProviderListener l : listeners) {
 				l.labelProviderChanged(event);
 			}
 		}
 	}
 
+	/**
+	 * A label computed by the label provider of the list, together with the
+	 * duplicate state of the item it was computed for.
+	 */
+	private static class CachedLabel {
+
+		private final Object label;
+
+		private final boolean duplicate;
+
+		CachedLabel(Object label, boolean duplicate) {
+			this.label = label;
+			this.duplicate = duplicate;
+		}
+	}
+
 	/**
 	 * Used in ItemsListContentProvider, separates history and non-history items.
 	 */
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.activities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.eclipse.ui.activities.IActivityPatternBinding;
+
+/**
+ * Finds the activities whose pattern bindings match an identifier, without
+ * running every pattern of every activity against it.
+ * <p>
+ * Equality patterns are looked up in a hash map. Regular expressions are kept
+ * in a trie under the literal text they start with, so that only the
+ * expressions whose literal prefix is a prefix of the identifier are run.
+ * Expressions without such a prefix are run for every identifier. Since the
+ * matches of an identifier only depend on the pattern bindings, they are
+ * remembered until the matcher is replaced after a registry change.
+ * </p>
+ * <p>
+ * Instances are immutable except for the cache of matches and may be used
+ * from any thread.
+ * </p>
+ */
+public final class ActivityPatternMatcher {
+
+	private static final String META_CHARACTERS = ".[]()*+?{}^$|"; //$NON-NLS-1$
+
+	private static final class Node {
+		Map<Character, Node> children;
+		List<ActivityPatternBinding> bindings;
+	}
+
+	private final Map<String, Set<String>> activityIdsByEqualityPattern = new HashMap<>();
+
+	private final Node root = new Node();
+
+	private final Map<String, Set<String>> matchesByIdentifierId = new ConcurrentHashMap<>();
+
+	/**
+	 * @param activityPatternBindingsByActivityId the pattern bindings of all
+	 *                                            defined activities
+	 */
+	public ActivityPatternMatcher(Map<String, Set<IActivityPatternBinding>> activityPatternBindingsByActivityId) {
+		for (Entry<String, Set<IActivityPatternBinding>> entry : activityPatternBindingsByActivityId.entrySet()) {
+			for (IActivityPatternBinding binding : entry.getValue()) {
+				if (binding.isEqualityPattern()) {
+					activityIdsByEqualityPattern.computeIfAbsent(binding.getString(), s -> new HashSet<>())
+							.add(entry.getKey());
+				} else {
+					add(literalPrefix(binding.getPattern()), (ActivityPatternBinding) binding);
+				}
+			}
+		}
+	}
+
+	private void add(String prefix, ActivityPatternBinding binding) {
+		Node node = root;
+		for (int i = 0; i < prefix.length(); i++) {
+			if (node.children == null) {
+				node.children = new HashMap<>();
+			}
+			node = node.children.computeIfAbsent(Character.valueOf(prefix.charAt(i)), c -> new Node());
+		}
+		if (node.bindings == null) {
+			node.bindings = new ArrayList<>();
+		}
+		node.bindings.add(binding);
+	}
+
+	/**
+	 * Returns the ids of the activities with a pattern binding matching the given
+	 * identifier.
+	 *
+	 * @param identifierId the identifier
+	 * @return the ids of the matching activities, not to be modified
+	 */
+	public Set<String> getMatchingActivityIds(String identifierId) {
+		return matchesByIdentifierId.computeIfAbsent(identifierId, this::computeMatchingActivityIds);
+	}
+
+	private Set<String> computeMatchingActivityIds(String identifierId) {
+		Set<String> activityIds = null;
+		Set<String> equalityMatches = activityIdsByEqualityPattern.get(identifierId);
+		if (equalityMatches != null) {
+			activityIds = new HashSet<>(equalityMatches);
+		}
+		Node node = root;
+		for (int i = 0; node != null; i++) {
+			if (node.bindings != null) {
+				for (ActivityPatternBinding binding : node.bindings) {
+					if ((activityIds == null || !activityIds.contains(binding.getActivityId()))
+							&& binding.isMatch(identifierId)) {
+						if (activityIds == null) {
+							activityIds = new HashSet<>();
+						}
+						activityIds.add(binding.getActivityId());
+					}
+				}
+			}
+			if (node.children == null || i == identifierId.length()) {
+				break;
+			}
+			node = node.children.get(Character.valueOf(identifierId.charAt(i)));
+		}
+		return activityIds == null ? Collections.emptySet() : Collections.unmodifiableSet(activityIds);
+	}
+
+	/**
+	 * Returns the literal text every string matched by the given pattern starts
+	 * with. The prefix may be shorter than possible, but is never wrong.
+	 *
+	 * @param pattern the pattern
+	 * @return the literal prefix, may be empty
+	 */
+	public static String literalPrefix(Pattern pattern) {
+		String regex = pattern.pattern();
+		if (pattern.flags() != 0 || hasAlternation(regex)) {
+			return ""; //$NON-NLS-1$
+		}
+		StringBuilder prefix = new StringBuilder();
+		int i = 0;
+		while (i < regex.length()) {
+			char c = regex.charAt(i);
+			char literal;
+			int next;
+			if (c == '\\') {
+				if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+					// character classes, back references and quoting
+					break;
+				}
+				literal = regex.charAt(i + 1);
+				next = i + 2;
+			} else if (META_CHARACTERS.indexOf(c) >= 0) {
+				break;
+			} else {
+				literal = c;
+				next = i + 1;
+			}
+			if (next < regex.length() && "?*{".indexOf(regex.charAt(next)) >= 0) { //$NON-NLS-1$
+				// the character is optional
+				break;
+			}
+			prefix.append(literal);
+			i = next;
+		}
+		return prefix.toString();
+	}
+
+	private static boolean hasAlternation(String regex) {
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == '|') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
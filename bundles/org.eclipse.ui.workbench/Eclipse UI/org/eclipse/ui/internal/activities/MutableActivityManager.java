@@ -68,6 +68,12 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 	private Map<String, Set<IActivityPatternBinding>> activityPatternBindingsByActivityId = new HashMap<>();
 
+	/**
+	 * Matches identifiers against the pattern bindings of all activities,
+	 * replaced whenever the registry is read.
+	 */
+	private volatile ActivityPatternMatcher patternMatcher = new ActivityPatternMatcher(Collections.emptyMap());
+
 	private IActivityRegistry activityRegistry;
 
 	private Map<String, Category> categoriesById = new HashMap<>();
@@ -379,6 +385,7 @@ public final class MutableActivityManager extends AbstractActivityManager
 		this.activityRequirementBindingsByActivityId = activityRequirementBindingsByActivityId;
 		this.activityDefinitionsById = activityDefinitionsById;
 		this.activityPatternBindingsByActivityId = activityPatternBindingsByActivityId;
+		this.patternMatcher = new ActivityPatternMatcher(activityPatternBindingsByActivityId);
 		this.categoryActivityBindingsByCategoryId = categoryActivityBindingsByCategoryId;
 		this.categoryDefinitionsById = categoryDefinitionsById;
 		boolean definedActivityIdsChanged = false;
@@ -737,14 +744,10 @@ public final class MutableActivityManager extends AbstractActivityManager
 				return new IdentifierEvent(identifier, activityIdsChanged, enabledChanged);
 			}
 		} else {
-			Set<String> activityIdsToUpdate = new HashSet<>(changedActivityIds);
-			if (identifier.getActivityIds() != null) {
-				activityIdsToUpdate.addAll(identifier.getActivityIds());
-			}
-			for (String activityId : activityIdsToUpdate) {
-				Activity activity = (Activity) getActivity(activityId);
-
-				if (activity.isMatch(id)) {
+			Set<String> previousActivityIds = identifier.getActivityIds();
+			for (String activityId : patternMatcher.getMatchingActivityIds(id)) {
+				if (changedActivityIds.contains(activityId)
+						|| (previousActivityIds != null && previousActivityIds.contains(activityId))) {
 					activityIds.add(activityId);
 				}
 			}
@@ -815,14 +818,8 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 				while (!deferredIdentifiers.isEmpty()) {
 					Identifier identifier = deferredIdentifiers.remove(0);
-					Set<String> activityIds = new HashSet<>();
-					for (String activityId : definedActivityIds) {
-						Activity activity = (Activity) getActivity(activityId);
-
-						if (activity.isMatch(identifier.getId())) {
-							activityIds.add(activityId);
-						}
-					}
+					Set<String> activityIds = new HashSet<>(
+							patternMatcher.getMatchingActivityIds(identifier.getId()));
 
 					boolean activityIdsChanged = identifier.setActivityIds(activityIds);
 					if (activityIdsChanged) {
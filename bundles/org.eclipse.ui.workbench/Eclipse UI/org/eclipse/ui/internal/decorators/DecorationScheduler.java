@@ -416,7 +416,12 @@ public class DecorationScheduler {
 			private boolean queue(Object element, boolean force, IDecorationContext context) {
 				DecorationBuilder cacheResult = new DecorationBuilder(context);
 				// Calculate the decoration
-				decoratorManager.getLightweightManager().getDecorations(element, cacheResult);
+				Object event = FlightRecorderEvents.beginDecorate();
+				try {
+					decoratorManager.getLightweightManager().getDecorations(element, cacheResult);
+				} finally {
+					FlightRecorderEvents.commitDecorate(event, element, cacheResult);
+				}
 
 				// If we should update regardless then put a result
 				// anyways
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.decorators;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for computing the lightweight decorations of an
+ * element in the decoration job. The <code>jdk.jfr</code> package is an
+ * optional import, so nothing is recorded if it is absent.
+ */
+final class FlightRecorderEvents {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	@Name("org.eclipse.ui.Decorate")
+	@Label("Compute Decorations")
+	@Category({ "Eclipse", "Decorators" })
+	@StackTrace(false)
+	static final class DecorateEvent extends Event {
+		@Label("Element Type")
+		Class<?> elementType;
+
+		@Label("Decorated")
+		boolean decorated;
+	}
+
+	/**
+	 * The event types, only loaded if <code>jdk.jfr</code> is available. No
+	 * event is created while no recording enables its type.
+	 */
+	private static final class Types {
+		static final EventType DECORATE = EventType.getEventType(DecorateEvent.class);
+	}
+
+	private FlightRecorderEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	static Object beginDecorate() {
+		if (!AVAILABLE || !Types.DECORATE.isEnabled()) {
+			return null;
+		}
+		DecorateEvent event = new DecorateEvent();
+		event.begin();
+		return event;
+	}
+
+	static void commitDecorate(Object started, Object element, DecorationBuilder result) {
+		if (started == null) {
+			return;
+		}
+		DecorateEvent event = (DecorateEvent) started;
+		event.end();
+		if (event.shouldCommit()) {
+			event.elementType = element.getClass();
+			event.decorated = result.hasValue();
+			event.commit();
+		}
+	}
+}
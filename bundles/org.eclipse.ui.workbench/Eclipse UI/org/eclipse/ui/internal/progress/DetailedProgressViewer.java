@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,13 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.progress;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +62,13 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	// with events
 	private int maxDisplayed;
 
+	/**
+	 * Minimal number of items which have a control, even if they are not in the
+	 * visible area. Other items only get a control while they are in or near the
+	 * visible area.
+	 */
+	private static final int MIN_MATERIALIZED_ITEMS = 20;
+
 	Composite control;
 
 	private ScrolledComposite scrolled;
@@ -65,11 +77,30 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 	/**
 	 * Map to find existing controls for job items. Only elements with a control are
-	 * listed here. Job elements not visible due to {@link #maxDisplayed} are not in
-	 * this map.
+	 * listed here. Job elements not visible due to {@link #maxDisplayed} or not yet
+	 * scrolled into view are not in this map.
 	 */
 	private final Map<JobTreeElement, ProgressInfoItem> jobItemControls = new HashMap<>();
 
+	/**
+	 * All job elements shown in the viewer in display order, limited by
+	 * {@link #maxDisplayed}. Only a window of this list has controls, the space of
+	 * the elements before and after it is reserved in the scrolled area.
+	 */
+	private List<JobTreeElement> displayedElements = Collections.emptyList();
+
+	/** The elements of {@link #displayedElements} for fast lookup. */
+	private Set<JobTreeElement> displayedElementSet = Collections.emptySet();
+
+	/** Index of the first of {@link #displayedElements} which has a control. */
+	private int firstMaterialized;
+
+	/** Number of {@link #displayedElements} which have a control. */
+	private int materializedCount;
+
+	/** <code>true</code> if a size update is already scheduled */
+	private boolean sizeUpdatePending;
+
 	/**
 	 * Create a new instance of the receiver with a control that is a child of
 	 * <i>parent</i> with <i>style</i> style.
@@ -111,12 +142,13 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 			@Override
 			public void controlMoved(ControlEvent e) {
 				updateVisibleItems();
-
+				materializeVisibleItems();
 			}
 
 			@Override
 			public void controlResized(ControlEvent e) {
 				updateVisibleItems();
+				materializeVisibleItems();
 			}
 		});
 
@@ -176,7 +208,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 	private Set<JobTreeElement> getItems() {
 		// Use a Set in case we are getting something added that exists
-		Set<JobTreeElement> newItems = new LinkedHashSet<>(jobItemControls.keySet());
+		Set<JobTreeElement> newItems = new LinkedHashSet<>(displayedElements);
 		return newItems;
 	}
 
@@ -197,7 +229,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 */
 	private void updateForShowingProgress() {
 		final Control newContent;
-		if (jobItemControls.size() > 0) {
+		if (!displayedElements.isEmpty()) {
 			updateSize();
 			newContent = control;
 		} else {
@@ -365,12 +397,15 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		}
 		Widget widget = findItem(element);
 		if (widget == null) {
-			add((JobTreeElement) element);
+			// elements without control show their current state once created
+			if (!displayedElementSet.contains(element)) {
+				add((JobTreeElement) element);
+			}
 			return;
 		}
 		((ProgressInfoItem) widget).refresh();
 
-		updateSize();
+		scheduleUpdateSize();
 	}
 
 	@Override
@@ -388,7 +423,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 			} else {
 				Widget item = doFindItem(treeElement);
-				if (item == null) {
+				if (item == null && !displayedElementSet.contains(treeElement)) {
 					// Is the parent showing?
 					JobTreeElement parent = treeElement.getParent();
 					if (parent != null && parent != element)
@@ -451,8 +486,10 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * {@link #getMaxDisplayed()}.
 	 * </p>
 	 * <p>
-	 * This method will try to reuse/reorder existing elements instead of disposing
-	 * and recreating them.
+	 * Only the elements in and near the visible area get a control. This method
+	 * will try to reuse/reorder existing controls instead of disposing and
+	 * recreating them, controls of elements which moved out of that area are
+	 * bound to the elements which moved into it.
 	 * </p>
 	 * <p>
 	 * This method also updates the alternating background color for all elements
@@ -464,8 +501,18 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 *                          must be instances of {@link JobTreeElement}.
 	 */
 	private void reorderControls(Object[] toShowJobElements) {
-		int limit = Math.min(toShowJobElements.length, getMaxDisplayed());
-		if (limit == 0) {
+		int displayLimit = Math.min(toShowJobElements.length, getMaxDisplayed());
+		List<JobTreeElement> newDisplayedElements = new ArrayList<>(displayLimit);
+		for (int i = 0; i < displayLimit; i++) {
+			newDisplayedElements.add((JobTreeElement) toShowJobElements[i]);
+		}
+		displayedElements = newDisplayedElements;
+		displayedElementSet = new HashSet<>(newDisplayedElements);
+		int[] window = computeMaterializeWindow();
+		firstMaterialized = window[0];
+		materializedCount = window[1] - window[0];
+		((GridLayout) control.getLayout()).marginTop = firstMaterialized * getEstimatedItemHeight();
+		if (materializedCount == 0) {
 			// shortcut to remove all
 			for (Control existing : jobItemControls.values()) {
 				existing.dispose();
@@ -474,58 +521,112 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 			return;
 		}
 
-		Control[] existingControls = control.getChildren();
-		Control lastControl = null;
-		int exIndex = 0;
-		for (int i = 0; i < limit; i++) {
-			JobTreeElement jobElement = (JobTreeElement) toShowJobElements[i];
+		List<JobTreeElement> windowElements = newDisplayedElements.subList(window[0], window[1]);
+		Set<JobTreeElement> windowElementSet = new HashSet<>(windowElements);
+		Deque<ProgressInfoItem> unusedItems = new ArrayDeque<>();
+		jobItemControls.values().removeIf(item -> {
+			if (windowElementSet.contains(item.getInfo())) {
+				return false;
+			}
+			unusedItems.add(item);
+			return true;
+		});
+
+		List<Control> currentOrder = new ArrayList<>(Arrays.asList(control.getChildren()));
+		for (int i = 0; i < windowElements.size(); i++) {
+			JobTreeElement jobElement = windowElements.get(i);
 			ProgressInfoItem item = jobItemControls.get(jobElement);
 			if (item == null) {
-				// element not currently visible -> insert new widget
-				item = createNewItem(jobElement);
-				jobItemControls.put(jobElement, item);
-
-				// if all existing elements are already reordered the new element is created in
-				// the correct position and does not have to be moved
-				if (exIndex < existingControls.length) {
-					if (lastControl == null) {
-						item.moveAbove(null);
-					} else {
-						item.moveBelow(lastControl);
-					}
-				}
-			} else {
-				// element already visible -> reorder existing widget
-				for (; exIndex < existingControls.length; exIndex++) {
-					if (existingControls[exIndex] != null && !existingControls[exIndex].isDisposed()) {
-						break;
-					}
+				item = unusedItems.poll();
+				if (item == null) {
+					item = createNewItem(jobElement);
+					currentOrder.add(item);
+				} else {
+					item.setInfo(jobElement);
 				}
-				if (exIndex < existingControls.length && existingControls[exIndex] != item) {
-					if (lastControl == null) {
-						item.moveAbove(null);
-					} else {
-						item.moveBelow(lastControl);
-					}
-					for (int j = exIndex + 1; j < existingControls.length; j++) {
-						if (existingControls[j] == item) {
-							existingControls[j] = null;
-							break;
-						}
-					}
+				jobItemControls.put(jobElement, item);
+			}
+			if (currentOrder.get(i) != item) {
+				if (i == 0) {
+					item.moveAbove(null);
 				} else {
-					exIndex++;
+					item.moveBelow(currentOrder.get(i - 1));
 				}
+				currentOrder.remove(item);
+				currentOrder.add(i, item);
 			}
-			item.setColor(i);
-			lastControl = item;
+			item.setColor(firstMaterialized + i);
 		}
-		for (int i = exIndex; i < existingControls.length; i++) {
-			if (existingControls[i] != null) {
-				jobItemControls.remove(existingControls[i].getData());
-				existingControls[i].dispose();
+		for (ProgressInfoItem unused : unusedItems) {
+			unused.dispose();
+		}
+	}
+
+	/**
+	 * Returns the range of {@link #displayedElements} which needs a control to
+	 * fill the visible area and one page above and below it.
+	 *
+	 * @return the index of the first element and the index after the last element
+	 *         of the range
+	 */
+	private int[] computeMaterializeWindow() {
+		int rowHeight = getEstimatedItemHeight();
+		int clientHeight = scrolled.getClientArea().height;
+		int top = scrolled.getOrigin().y;
+		int first = Math.max(0, top - clientHeight) / rowHeight;
+		int end = (top + 2 * clientHeight + rowHeight - 1) / rowHeight;
+		end = Math.min(displayedElements.size(), Math.max(end, first + MIN_MATERIALIZED_ITEMS));
+		first = Math.min(first, Math.max(0, end - MIN_MATERIALIZED_ITEMS));
+		return new int[] { first, end };
+	}
+
+	/**
+	 * Returns the average height of the existing items or a guess if there is
+	 * none yet. Items differ in height, so a single item would make the space
+	 * reserved for the items not materialized jump while scrolling.
+	 */
+	private int getEstimatedItemHeight() {
+		int total = 0;
+		int count = 0;
+		for (ProgressInfoItem item : jobItemControls.values()) {
+			int height = item.getSize().y;
+			if (height > 0) {
+				total += height;
+				count++;
 			}
 		}
+		if (count > 0) {
+			return Math.max(1, (total + count / 2) / count);
+		}
+		return Math.max(1, 4 * JFaceResources.getDefaultFont().getFontData()[0].getHeight());
+	}
+
+	/**
+	 * Bind the controls to the elements which were scrolled into or near the
+	 * visible area.
+	 */
+	private void materializeVisibleItems() {
+		int[] window = computeMaterializeWindow();
+		if (window[0] != firstMaterialized || window[1] - window[0] != materializedCount) {
+			reorderControls(displayedElements.toArray());
+			updateForShowingProgress();
+		}
+	}
+
+	/**
+	 * Update the size once after all refreshes of the current update pass.
+	 */
+	private void scheduleUpdateSize() {
+		if (sizeUpdatePending) {
+			return;
+		}
+		sizeUpdatePending = true;
+		control.getDisplay().asyncExec(() -> {
+			sizeUpdatePending = false;
+			if (!control.isDisposed()) {
+				updateSize();
+			}
+		});
 	}
 
 	/**
@@ -551,6 +652,9 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		Point size = control.computeSize(SWT.DEFAULT, SWT.DEFAULT);
 		// no horizontal size because we do not want to scroll horizontal
 		size.x = 0;
+		// reserve the space of the elements after the ones with a control, the
+		// space of the elements before is the top margin of the layout
+		size.y += (displayedElements.size() - firstMaterialized - materializedCount) * getEstimatedItemHeight();
 		size.y += IDialogConstants.VERTICAL_SPACING;
 		scrolled.setMinSize(size);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2019 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -126,7 +126,13 @@ public final class FinishedJobs extends EventManager {
 	 * Returns true if JobInfo indicates that it must be kept.
 	 */
 	static boolean keep(JobInfo info) {
-		Job job = info.getJob();
+		return keep(info.getJob());
+	}
+
+	/**
+	 * Returns true if the job indicates that it must be kept.
+	 */
+	static boolean keep(Job job) {
 		if (job != null) {
 			Object prop = job.getProperty(ProgressManagerUtil.KEEP_PROPERTY);
 			if (prop instanceof Boolean) {
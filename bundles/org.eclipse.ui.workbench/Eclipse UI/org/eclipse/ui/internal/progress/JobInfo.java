@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2020 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,11 @@ public class JobInfo extends JobTreeElement {
 	// Default to no progress
 	private int ticks = -1;
 
+	/**
+	 * The monitor which created this info, or <code>null</code>.
+	 */
+	ProgressManager.JobMonitor monitor;
+
 	/**
 	 * Creates a top level JobInfo.
 	 *
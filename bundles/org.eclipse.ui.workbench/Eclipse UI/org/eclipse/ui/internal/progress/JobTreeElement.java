@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2022 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,12 @@ import org.eclipse.swt.graphics.Image;
  * The JobTreeElement is the abstract superclass of items displayed in the tree.
  */
 public abstract class JobTreeElement {
+	/**
+	 * The kinds of updates of this element which the {@link ProgressManager}
+	 * has not yet sent to its listeners.
+	 */
+	volatile int pendingUpdates;
+
 	/**
 	 * Returns the parent of this object.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -206,17 +206,7 @@ public class ProgressInfoItem extends Composite {
 		setLayout(layout);
 
 		jobImageLabel = new Label(this, SWT.NONE);
-		Image infoImage = getInfoImage();
-		jobImageLabel.setImage(infoImage);
-		FormData imageData = new FormData();
-		if (infoImage != null) {
-			// position it in the center
-			imageData.top = new FormAttachment(50, -infoImage.getBounds().height / 2);
-		} else {
-			imageData.top = new FormAttachment(0, IDialogConstants.VERTICAL_SPACING);
-		}
-		imageData.left = new FormAttachment(0, IDialogConstants.HORIZONTAL_SPACING / 2);
-		jobImageLabel.setLayoutData(imageData);
+		setInfoImage();
 
 		progressLabel = new Label(this, SWT.NONE);
 		progressLabel.addListener(SWT.Resize, event -> setMainText());
@@ -271,6 +261,59 @@ public class ProgressInfoItem extends Composite {
 		refresh();
 	}
 
+	/**
+	 * Set the image of the info and position it.
+	 */
+	private void setInfoImage() {
+		Image infoImage = getInfoImage();
+		jobImageLabel.setImage(infoImage);
+		FormData imageData = new FormData();
+		if (infoImage != null) {
+			// position it in the center
+			imageData.top = new FormAttachment(50, -infoImage.getBounds().height / 2);
+		} else {
+			imageData.top = new FormAttachment(0, IDialogConstants.VERTICAL_SPACING);
+		}
+		imageData.left = new FormAttachment(0, IDialogConstants.HORIZONTAL_SPACING / 2);
+		jobImageLabel.setLayoutData(imageData);
+	}
+
+	/**
+	 * Make the receiver represent another job element. Only the widgets which
+	 * depend on the job element are recreated.
+	 *
+	 * @param progressInfo the job element to represent
+	 */
+	void setInfo(JobTreeElement progressInfo) {
+		if (info == progressInfo) {
+			return;
+		}
+		info = progressInfo;
+		setData(info);
+		if (tracker != null) {
+			tracker.stop();
+			tracker = null;
+		}
+		link = null;
+		for (Link taskEntry : taskEntries) {
+			taskEntry.dispose();
+		}
+		taskEntries = new ArrayList<>(0);
+		if (progressBar != null) {
+			progressBar.dispose();
+			progressBar = null;
+		}
+		if (selected) {
+			selectWidgets(false);
+		}
+		setInfoImage();
+		setLayoutsForNoProgress();
+		setMainText();
+		updateToolBarValues();
+		refresh();
+		requestLayout();
+	}
+
 	/**
 	 * Set the main text of the receiver. Truncate to fit the available space.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2022 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,11 +34,13 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -140,37 +142,35 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	// A table that maps families to keys in the Jface image table
 	private Hashtable<Object, String> imageKeyTable = new Hashtable<>();
 
-	/**
-	 * Lock object for synchronizing updates of {@code pendingJobUpdates},
-	 * {@code pendingGroupUpdates}, {@code pendingJobRemoval},
-	 * {@code pendingGroupRemoval} and {@code pendingJobAddition}.
-	 */
-	private final Object pendingUpdatesMutex = new Object();
+	private static final int ADD_JOB = 1;
+	private static final int REFRESH_JOB = 1 << 1;
+	private static final int REMOVE_JOB = 1 << 2;
+	private static final int REFRESH_GROUP = 1 << 3;
+	private static final int REMOVE_GROUP = 1 << 4;
 
-	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
-	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobUpdates = new LinkedHashMap<>();
+	private static final AtomicIntegerFieldUpdater<JobTreeElement> ELEMENT_UPDATES = AtomicIntegerFieldUpdater
+			.newUpdater(JobTreeElement.class, "pendingUpdates"); //$NON-NLS-1$
 
-	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
-	 */
-	private Set<GroupInfo> pendingGroupUpdates = new LinkedHashSet<>();
+	private static final AtomicIntegerFieldUpdater<JobMonitor> MONITOR_UPDATES = AtomicIntegerFieldUpdater
+			.newUpdater(JobMonitor.class, "pendingUpdates"); //$NON-NLS-1$
 
 	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
+	 * Jobs that are added and removed again within this time and are not kept
+	 * in the finished jobs list are never reported to the listeners.
 	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobRemoval = new LinkedHashMap<>();
+	private volatile long visibilityThresholdNanos = Duration.ofMillis(100).toNanos();
 
 	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
+	 * Job monitors and tree elements with updates not yet sent to the
+	 * listeners. An element is only queued on the transition of its pending
+	 * update bits from none to some, so the queue holds each element at most
+	 * once until {@link #notifyListeners()} drains it.
 	 */
-	private Set<GroupInfo> pendingGroupRemoval = new LinkedHashSet<>();
+	private final ConcurrentLinkedQueue<Object> pendingElements = new ConcurrentLinkedQueue<>();
 
-	/**
-	 * Modification guarded by {@link #pendingUpdatesMutex}.
-	 */
-	private Map<JobInfo, Set<IJobProgressManagerListener>> pendingJobAddition = new LinkedHashMap<>();
+	private final LongAdder coalescedUpdates = new LongAdder();
+
+	private final LongAdder suppressedJobs = new LongAdder();
 
 	private static final String IMAGE_KEY = "org.eclipse.ui.progress.images"; //$NON-NLS-1$
 
@@ -204,19 +204,30 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 */
 	public class JobMonitor implements IProgressMonitor {
 		Job job;
-		JobInfo info;
+		/**
+		 * The info of the job, created on first use so that jobs which are
+		 * never shown or reported on do not pay for it.
+		 */
+		volatile JobInfo info;
 		String currentTaskName;
 		Set<IProgressMonitor> monitors = Collections.emptySet();
 
+		/**
+		 * The kinds of updates of this job not yet sent to the listeners.
+		 */
+		volatile int pendingUpdates;
+
+		volatile long addedNanos;
+
+		volatile long removedNanos;
+
 		/**
 		 * Creates a monitor on the supplied job.
 		 *
-		 * @param newJob  the job this monitor is created for
-		 * @param jobInfo the info object for the job
+		 * @param newJob the job this monitor is created for
 		 */
-		JobMonitor(Job newJob, JobInfo jobInfo) {
+		JobMonitor(Job newJob) {
 			job = newJob;
-			info = jobInfo;
 		}
 
 		/**
@@ -225,7 +236,18 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		 * @return job info
 		 */
 		public JobInfo getJobInfo() {
-			return info;
+			JobInfo jobInfo = info;
+			if (jobInfo == null) {
+				synchronized (this) {
+					jobInfo = info;
+					if (jobInfo == null) {
+						jobInfo = new JobInfo(job);
+						jobInfo.monitor = this;
+						info = jobInfo;
+					}
+				}
+			}
+			return jobInfo;
 		}
 
 		/**
@@ -238,7 +260,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 			Set<IProgressMonitor> newSet = new LinkedHashSet<>(monitors);
 			newSet.add(monitor);
 			this.monitors = Collections.unmodifiableSet(newSet);
-			Optional<TaskInfo> optionalInfo = info.getTaskInfo();
+			Optional<TaskInfo> optionalInfo = getJobInfo().getTaskInfo();
 			if (optionalInfo.isPresent()) {
 				TaskInfo currentTask = optionalInfo.get();
 				monitor.beginTask(currentTaskName, currentTask.totalWork);
@@ -259,38 +281,43 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 		@Override
 		public void beginTask(String taskName, int totalWork) {
-			info.beginTask(taskName, totalWork);
-			refreshJobInfo(info);
+			getJobInfo().beginTask(taskName, totalWork);
+			refreshJob(this);
 			currentTaskName = taskName;
 			monitors.forEach(listener -> listener.beginTask(taskName, totalWork));
 		}
 
 		@Override
 		public void done() {
-			info.clearTaskInfo();
-			info.clearChildren();
+			JobInfo jobInfo = info;
+			if (jobInfo != null) {
+				jobInfo.clearTaskInfo();
+				jobInfo.clearChildren();
+			}
 			monitors.forEach(t -> t.done());
 		}
 
 		@Override
 		public void internalWorked(double work) {
-			if (info.getTaskInfo().isPresent()) {
-				info.addWork(work);
-				refreshJobInfo(info);
+			JobInfo jobInfo = info;
+			if (jobInfo != null && jobInfo.getTaskInfo().isPresent()) {
+				jobInfo.addWork(work);
+				refreshJob(this);
 			}
 			monitors.forEach(listener -> listener.internalWorked(work));
 		}
 
 		@Override
 		public boolean isCanceled() {
-			return info.isCanceled();
+			JobInfo jobInfo = info;
+			return jobInfo != null && jobInfo.isCanceled();
 		}
 
 		@Override
 		public void setCanceled(boolean value) {
 			// Don't bother canceling twice.
-			if (value && !info.isCanceled()) {
-				info.cancel();
+			if (value && !isCanceled()) {
+				getJobInfo().cancel();
 				// Only inform the first time
 				monitors.forEach(listener -> listener.setCanceled(value));
 			}
@@ -298,14 +325,15 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 		@Override
 		public void setTaskName(String taskName) {
-			if (info.getTaskInfo().isPresent()) {
-				info.setTaskName(taskName);
+			JobInfo jobInfo = getJobInfo();
+			if (jobInfo.getTaskInfo().isPresent()) {
+				jobInfo.setTaskName(taskName);
 			} else {
 				beginTask(taskName, 100);
 				return;
 			}
-			info.clearChildren();
-			refreshJobInfo(info);
+			jobInfo.clearChildren();
+			refreshJob(this);
 			currentTaskName = taskName;
 			monitors.forEach(listener -> listener.setTaskName(taskName));
 		}
@@ -315,9 +343,10 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 			if (name == null) {
 				return;
 			}
-			info.clearChildren();
-			info.addSubTask(name);
-			refreshJobInfo(info);
+			JobInfo jobInfo = getJobInfo();
+			jobInfo.clearChildren();
+			jobInfo.addSubTask(name);
+			refreshJob(this);
 			monitors.forEach(listener -> listener.subTask(name));
 		}
 
@@ -328,15 +357,15 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 
 		@Override
 		public void clearBlocked() {
-			info.setBlockedStatus(null);
-			refreshJobInfo(info);
+			getJobInfo().setBlockedStatus(null);
+			refreshJob(this);
 			monitors.forEach(IProgressMonitor::clearBlocked);
 		}
 
 		@Override
 		public void setBlocked(IStatus reason) {
-			info.setBlockedStatus(reason);
-			refreshJobInfo(info);
+			getJobInfo().setBlockedStatus(reason);
+			refreshJob(this);
 			monitors.forEach(listener -> listener.setBlocked(reason));
 		}
 	}
@@ -356,47 +385,159 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		Job.getJobManager().addJobChangeListener(this.changeListener);
 	}
 
+	/**
+	 * Marks the update kind as pending on the target and queues the target if
+	 * it had no pending updates yet.
+	 *
+	 * @return <code>true</code> if the kind was not pending yet
+	 */
+	private <T> boolean markPending(AtomicIntegerFieldUpdater<T> updater, T target, int kind) {
+		int previous;
+		do {
+			previous = updater.get(target);
+			if ((previous & kind) != 0) {
+				coalescedUpdates.increment();
+				return false;
+			}
+		} while (!updater.compareAndSet(target, previous, previous | kind));
+		if (previous == 0) {
+			pendingElements.add(target);
+		}
+		return true;
+	}
+
+	private void enqueue(int kind, JobMonitor monitor) {
+		if (kind == ADD_JOB) {
+			monitor.addedNanos = System.nanoTime();
+		} else if (kind == REMOVE_JOB) {
+			monitor.removedNanos = System.nanoTime();
+		}
+		if (markPending(MONITOR_UPDATES, monitor, kind)) {
+			uiRefreshThrottler.throttledExec();
+		}
+	}
+
+	private void enqueue(int kind, JobTreeElement element) {
+		JobMonitor monitor = element instanceof JobInfo ? ((JobInfo) element).monitor : null;
+		if (monitor != null) {
+			enqueue(kind, monitor);
+		} else if (markPending(ELEMENT_UPDATES, element, kind)) {
+			uiRefreshThrottler.throttledExec();
+		}
+	}
+
+	/**
+	 * Sets the time within which a job has to be added and removed again to
+	 * never be reported to the listeners.
+	 *
+	 * @param threshold the visibility threshold
+	 */
+	/* Visible for testing */ public void setVisibilityThreshold(Duration threshold) {
+		visibilityThresholdNanos = threshold.toNanos();
+	}
+
+	private boolean isShortLived(JobMonitor monitor, int kinds) {
+		return (kinds & (ADD_JOB | REMOVE_JOB)) == (ADD_JOB | REMOVE_JOB)
+				&& monitor.removedNanos - monitor.addedNanos < visibilityThresholdNanos
+				&& !FinishedJobs.keep(monitor.job);
+	}
+
 	/**
 	 * Send pending notifications to listeners.
 	 */
 	/* Visible for testing */ public void notifyListeners() {
-		Set<GroupInfo> localPendingGroupUpdates, localPendingGroupRemoval;
-		Map<JobInfo, Set<IJobProgressManagerListener>> localPendingJobUpdates, localPendingJobAddition,
-				localPendingJobRemoval;
-		synchronized (pendingUpdatesMutex) {
-			localPendingJobUpdates = pendingJobUpdates;
-			pendingJobUpdates = new LinkedHashMap<>();
-			localPendingGroupUpdates = pendingGroupUpdates;
-			pendingGroupUpdates = new LinkedHashSet<>();
-			localPendingJobRemoval = pendingJobRemoval;
-			pendingJobRemoval = new LinkedHashMap<>();
-			localPendingGroupRemoval = pendingGroupRemoval;
-			pendingGroupRemoval = new LinkedHashSet<>();
-			localPendingJobAddition = pendingJobAddition;
-			pendingJobAddition = new LinkedHashMap<>();
+		Map<JobInfo, Integer> jobUpdates = new LinkedHashMap<>();
+		Set<GroupInfo> localPendingGroupUpdates = new LinkedHashSet<>();
+		Set<GroupInfo> localPendingGroupRemoval = new LinkedHashSet<>();
+
+		Object pending;
+		while ((pending = pendingElements.poll()) != null) {
+			if (pending instanceof JobMonitor) {
+				JobMonitor monitor = (JobMonitor) pending;
+				int kinds = MONITOR_UPDATES.getAndSet(monitor, 0);
+				// Jobs that appeared and finished again before they could be
+				// seen only cost the listeners work
+				if (isShortLived(monitor, kinds)) {
+					suppressedJobs.increment();
+				} else if (kinds != 0) {
+					jobUpdates.merge(monitor.getJobInfo(), Integer.valueOf(kinds), (a, b) -> a | b);
+				}
+				continue;
+			}
+			JobTreeElement element = (JobTreeElement) pending;
+			int kinds = ELEMENT_UPDATES.getAndSet(element, 0);
+			if (element instanceof GroupInfo) {
+				if ((kinds & REFRESH_GROUP) != 0) {
+					localPendingGroupUpdates.add((GroupInfo) element);
+				}
+				if ((kinds & REMOVE_GROUP) != 0) {
+					localPendingGroupRemoval.add((GroupInfo) element);
+				}
+			} else if (kinds != 0) {
+				jobUpdates.merge((JobInfo) element, Integer.valueOf(kinds), (a, b) -> a | b);
+			}
 		}
 
-		localPendingJobAddition.entrySet().forEach(e -> e.getValue().forEach(listener -> listener.addJob(e.getKey())));
-
-		// Adds all non null JobInfo#getGroupInfo to the list of groups to
-		// be refreshed
-		localPendingJobUpdates.entrySet().stream().map(e -> e.getKey().getGroupInfo()).filter(Objects::nonNull)
-				.forEach(localPendingGroupUpdates::add);
+		jobUpdates.forEach((info, kinds) -> {
+			if ((kinds & ADD_JOB) != 0) {
+				forEachListenerFor(info, listener -> listener.addJob(info));
+			}
+		});
 
-		localPendingJobUpdates.entrySet()
-				.forEach(e -> e.getValue().forEach(listener -> listener.refreshJobInfo(e.getKey())));
+		jobUpdates.forEach((info, kinds) -> {
+			if ((kinds & REFRESH_JOB) != 0) {
+				// Adds all non null JobInfo#getGroupInfo to the list of groups
+				// to be refreshed
+				GroupInfo group = info.getGroupInfo();
+				if (group != null) {
+					localPendingGroupUpdates.add(group);
+				}
+				forEachListenerFor(info, listener -> listener.refreshJobInfo(info));
+			}
+		});
 
 		// refresh groups
 		localPendingGroupUpdates.forEach(groupInfo -> listeners.forEach(listener -> listener.refreshGroup(groupInfo)));
 
-		localPendingJobRemoval.entrySet()
-				.forEach(e -> e.getValue().forEach(listener -> listener.removeJob(e.getKey())));
+		jobUpdates.forEach((info, kinds) -> {
+			if ((kinds & REMOVE_JOB) != 0) {
+				forEachListenerFor(info, listener -> listener.removeJob(info));
+			}
+		});
 
 		localPendingGroupRemoval.forEach(group -> {
 			listeners.forEach(listener -> listener.removeGroup(group));
 		});
 	}
 
+	private void forEachListenerFor(JobInfo info, Consumer<IJobProgressManagerListener> action) {
+		for (IJobProgressManagerListener listener : listeners) {
+			if (!isNeverDisplaying(info.getJob(), listener.showsDebug())) {
+				action.accept(listener);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of job and group updates that were merged into an
+	 * update already pending for the same element.
+	 *
+	 * @return the number of coalesced updates
+	 */
+	/* Visible for testing */ public long getCoalescedUpdateCount() {
+		return coalescedUpdates.sum();
+	}
+
+	/**
+	 * Returns the number of jobs that finished too quickly to be shown and were
+	 * therefore never reported to the listeners.
+	 *
+	 * @return the number of suppressed jobs
+	 */
+	/* Visible for testing */ public long getSuppressedJobCount() {
+		return suppressedJobs.sum();
+	}
+
 	private void setUpImages() {
 		URL iconsRoot = ProgressManagerUtil.getIconsRoot();
 		try {
@@ -421,8 +562,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		return new JobChangeAdapter() {
 			@Override
 			public void aboutToRun(IJobChangeEvent event) {
-				JobInfo info = progressFor(event.getJob()).getJobInfo();
-				refreshJobInfo(info);
+				refreshJob(progressFor(event.getJob()));
 				Iterator<IJobBusyListener> startListeners = busyListenersForJob(event.getJob()).iterator();
 				while (startListeners.hasNext()) {
 					IJobBusyListener next = startListeners.next();
@@ -441,7 +581,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 					next.decrementBusy(event.getJob());
 				}
 
-				final JobInfo info = removeJob(event.getJob());
+				final JobMonitor monitor = removeMonitor(event.getJob());
 
 				/*
 				 * Only report severe errors to the StatusManager if the error is not part of a
@@ -462,7 +602,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 					if (event.getJob()
 							.getProperty(IProgressConstants.NO_IMMEDIATE_ERROR_PROMPT_PROPERTY) == Boolean.TRUE) {
 						statusAdapter.setProperty(IProgressConstants.NO_IMMEDIATE_ERROR_PROMPT_PROPERTY, Boolean.TRUE);
-						StatusAdapterHelper.getInstance().putStatusAdapter(info, statusAdapter);
+						StatusAdapterHelper.getInstance().putStatusAdapter(monitor.getJobInfo(), statusAdapter);
 					}
 
 					StatusManager.getManager().handle(statusAdapter, StatusManager.SHOW);
@@ -497,9 +637,9 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 			 */
 			private void updateFor(IJobChangeEvent event) {
 				if (managedJobs.contains(event.getJob())) {
-					refreshJobInfo(progressFor(event.getJob()).getJobInfo());
+					refreshJob(progressFor(event.getJob()));
 				} else {
-					addJobInfo(progressFor(event.getJob()).getJobInfo());
+					addJob(progressFor(event.getJob()));
 				}
 			}
 
@@ -610,7 +750,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 */
 	public JobMonitor progressFor(Job job) {
 		synchronized (runnableMonitors) {
-			return runnableMonitors.computeIfAbsent(job, j -> new JobMonitor(j, new JobInfo(j)));
+			return runnableMonitors.computeIfAbsent(job, JobMonitor::new);
 		}
 	}
 
@@ -639,11 +779,12 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 */
 	public void refreshJobInfo(JobInfo info) {
 		checkForStaleness(info.getJob());
-		synchronized (pendingUpdatesMutex) {
-			Predicate<IJobProgressManagerListener> predicate = listener -> !isNeverDisplaying(info.getJob(), listener.showsDebug());
-			rememberListenersForJob(info, pendingJobUpdates, predicate);
-		}
-		uiRefreshThrottler.throttledExec();
+		enqueue(REFRESH_JOB, info);
+	}
+
+	private void refreshJob(JobMonitor monitor) {
+		checkForStaleness(monitor.job);
+		enqueue(REFRESH_JOB, monitor);
 	}
 
 	/**
@@ -652,10 +793,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @param info the updated job group
 	 */
 	public void refreshGroup(GroupInfo info) {
-		synchronized (pendingUpdatesMutex) {
-			pendingGroupUpdates.add(info);
-		}
-		uiRefreshThrottler.throttledExec();
+		enqueue(REFRESH_GROUP, info);
 	}
 
 	/**
@@ -665,18 +803,20 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @return the removed job info
 	 */
 	public JobInfo removeJob(Job job) {
-		JobInfo info;
+		return removeMonitor(job).getJobInfo();
+	}
+
+	private JobMonitor removeMonitor(Job job) {
+		JobMonitor monitor;
 		synchronized (runnableMonitors) {
-			info = progressFor(job).getJobInfo();
+			monitor = progressFor(job);
 			managedJobs.remove(job);
-			synchronized (pendingUpdatesMutex) {
-				Predicate<IJobProgressManagerListener> predicate = listener -> !isNeverDisplaying(info.getJob(), listener.showsDebug());
-				rememberListenersForJob(info, pendingJobRemoval, predicate);
-			}
+			monitor.removedNanos = System.nanoTime();
+			markPending(MONITOR_UPDATES, monitor, REMOVE_JOB);
 			runnableMonitors.remove(job);
 		}
 		uiRefreshThrottler.throttledExec();
-		return info;
+		return monitor;
 	}
 
 	/**
@@ -697,10 +837,7 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 	 * @param group GroupInfo
 	 */
 	public void removeGroup(GroupInfo group) {
-		synchronized (pendingUpdatesMutex) {
-			pendingGroupRemoval.add(group);
-		}
-		uiRefreshThrottler.throttledExec();
+		enqueue(REMOVE_GROUP, group);
 	}
 
 	/**
@@ -715,17 +852,23 @@ public class ProgressManager extends ProgressProvider implements IProgressServic
 		}
 
 		managedJobs.add(info.getJob());
-		synchronized (pendingUpdatesMutex) {
-			Predicate<IJobProgressManagerListener> predicate = listener -> !isCurrentDisplaying(info.getJob(), listener.showsDebug());
-			rememberListenersForJob(info, pendingJobAddition, predicate);
+		// sleeping jobs are not shown to any listener, see isCurrentDisplaying
+		if (info.getJob().getState() != Job.SLEEPING) {
+			enqueue(ADD_JOB, info);
 		}
-		uiRefreshThrottler.throttledExec();
 	}
 
-	private void rememberListenersForJob(JobInfo info, Map<JobInfo, Set<IJobProgressManagerListener>> listenersMap, Predicate<IJobProgressManagerListener> predicate) {
-		Set<IJobProgressManagerListener> localListeners = listenersMap.computeIfAbsent(info,
-				k -> new LinkedHashSet<>());
-		listeners.stream().filter(predicate).forEach(localListeners::add);
+	private void addJob(JobMonitor monitor) {
+		// only jobs with a progress group have an info already
+		JobInfo info = monitor.info;
+		if (info != null) {
+			addJobInfo(info);
+			return;
+		}
+		managedJobs.add(monitor.job);
+		if (monitor.job.getState() != Job.SLEEPING) {
+			enqueue(ADD_JOB, monitor);
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019 vogella GmbH and others.
+ * Copyright (c) 2019, 2026 vogella GmbH and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,27 @@
 
 package org.eclipse.e4.ui.tests.workbench;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionInfo;
+import org.eclipse.core.expressions.IEvaluationContext;
 import org.eclipse.e4.core.commands.ExpressionContext;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.internal.workbench.ContributionsAnalyzer;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.ui.MCoreExpression;
 import org.eclipse.e4.ui.model.application.ui.MImperativeExpression;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolBarContribution;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.emf.ecore.EObject;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -53,4 +66,135 @@ public class ContributionsAnalyzerTest {
 
 		assertTrue(ContributionsAnalyzer.isVisible(exp, eContext));
 	}
+
+	@Test
+	public void testGatherToolBarContributionsFollowsModelChanges() {
+		ExpressionContext eContext = new ExpressionContext(appContext);
+		MApplication application = ems.createModelElement(MApplication.class);
+		MToolBar toolBar = ems.createModelElement(MToolBar.class);
+		toolBar.setElementId("toolbar");
+
+		MToolBarContribution first = createToolBarContribution("toolbar");
+		MToolBarContribution other = createToolBarContribution("other");
+		MToolBarContribution second = createToolBarContribution("toolbar");
+		application.getToolBarContributions().addAll(Arrays.asList(first, other, second));
+
+		ArrayList<MToolBarContribution> toContribute = new ArrayList<>();
+		ContributionsAnalyzer.gatherToolBarContributions(toolBar, application.getToolBarContributions(),
+				"toolbar", toContribute, eContext);
+		assertEquals(Arrays.asList(first, second), toContribute);
+
+		// the index has to notice changed parent ids and added contributions
+		other.setParentId("toolbar");
+		MToolBarContribution added = createToolBarContribution("toolbar");
+		application.getToolBarContributions().add(0, added);
+
+		toContribute.clear();
+		ContributionsAnalyzer.gatherToolBarContributions(toolBar, application.getToolBarContributions(),
+				"toolbar", toContribute, eContext);
+		assertEquals(Arrays.asList(added, first, other, second), toContribute);
+
+		second.setToBeRendered(false);
+		toContribute.clear();
+		ContributionsAnalyzer.gatherToolBarContributions(toolBar, application.getToolBarContributions(),
+				"toolbar", toContribute, eContext);
+		assertEquals(Arrays.asList(added, first, other), toContribute);
+	}
+
+	@Test
+	public void testRemovedContributionsReleased() {
+		ExpressionContext eContext = new ExpressionContext(appContext);
+		MApplication application = ems.createModelElement(MApplication.class);
+		MToolBar toolBar = ems.createModelElement(MToolBar.class);
+		MToolBarContribution first = createToolBarContribution("toolbar");
+		MToolBarContribution second = createToolBarContribution("toolbar");
+		MToolBarContribution third = createToolBarContribution("toolbar");
+		int adapters = ((EObject) first).eAdapters().size();
+		application.getToolBarContributions().addAll(Arrays.asList(first, second, third));
+
+		ArrayList<MToolBarContribution> toContribute = new ArrayList<>();
+		ContributionsAnalyzer.gatherToolBarContributions(toolBar, application.getToolBarContributions(),
+				"toolbar", toContribute, eContext);
+		assertEquals(adapters + 1, ((EObject) first).eAdapters().size());
+
+		application.getToolBarContributions().remove(first);
+		application.getToolBarContributions().removeAll(Arrays.asList(second, third));
+		assertEquals(adapters, ((EObject) first).eAdapters().size());
+		assertEquals(adapters, ((EObject) second).eAdapters().size());
+		assertEquals(adapters, ((EObject) third).eAdapters().size());
+	}
+
+	@Test
+	public void testVisibleWhenEvaluatedOnlyForChangedVariables() {
+		ExpressionContext eContext = new ExpressionContext(appContext);
+		CountingExpression expression = new CountingExpression(false);
+		MToolBarContribution contribution = createToolBarContribution("toolbar");
+		contribution.setVisibleWhen(createCoreExpression(expression));
+
+		assertFalse(ContributionsAnalyzer.isVisible(contribution, eContext));
+		assertFalse(ContributionsAnalyzer.isVisible(contribution, eContext));
+		assertEquals(1, expression.evaluations);
+
+		appContext.set(CountingExpression.VARIABLE, Boolean.TRUE);
+		assertTrue(ContributionsAnalyzer.isVisible(contribution, eContext));
+		assertTrue(ContributionsAnalyzer.isVisible(contribution, eContext));
+		assertEquals(2, expression.evaluations);
+
+		// a replaced expression is evaluated even if the variables did not change
+		CountingExpression replaced = new CountingExpression(false);
+		contribution.setVisibleWhen(createCoreExpression(replaced));
+		assertTrue(ContributionsAnalyzer.isVisible(contribution, eContext));
+		assertEquals(1, replaced.evaluations);
+	}
+
+	@Test
+	public void testVisibleWhenTestingPropertiesAlwaysEvaluated() {
+		ExpressionContext eContext = new ExpressionContext(appContext);
+		CountingExpression expression = new CountingExpression(true);
+		MToolBarContribution contribution = createToolBarContribution("toolbar");
+		contribution.setVisibleWhen(createCoreExpression(expression));
+
+		ContributionsAnalyzer.isVisible(contribution, eContext);
+		ContributionsAnalyzer.isVisible(contribution, eContext);
+		assertEquals(2, expression.evaluations);
+	}
+
+	private MCoreExpression createCoreExpression(Expression expression) {
+		MCoreExpression coreExpression = ems.createModelElement(MCoreExpression.class);
+		coreExpression.setCoreExpression(expression);
+		return coreExpression;
+	}
+
+	private static class CountingExpression extends Expression {
+
+		static final String VARIABLE = "org.eclipse.e4.ui.tests.visibleWhen";
+
+		private final boolean testsProperty;
+
+		int evaluations;
+
+		CountingExpression(boolean testsProperty) {
+			this.testsProperty = testsProperty;
+		}
+
+		@Override
+		public EvaluationResult evaluate(IEvaluationContext context) {
+			evaluations++;
+			return EvaluationResult.valueOf(Boolean.TRUE.equals(context.getVariable(VARIABLE)));
+		}
+
+		@Override
+		public void collectExpressionInfo(ExpressionInfo info) {
+			info.addVariableNameAccess(VARIABLE);
+			if (testsProperty) {
+				info.addAccessedPropertyName("org.eclipse.e4.ui.tests.property");
+			}
+		}
+	}
+
+	private MToolBarContribution createToolBarContribution(String parentId) {
+		MToolBarContribution contribution = ems.createModelElement(MToolBarContribution.class);
+		contribution.setParentId(parentId);
+		return contribution;
+	}
 }
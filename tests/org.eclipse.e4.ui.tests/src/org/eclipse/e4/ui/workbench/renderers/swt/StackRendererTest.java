@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2020 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,18 +36,21 @@ import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.descriptor.basic.MPartDescriptor;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainer;
 import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.services.IStylingEngine;
 import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.tests.rules.WorkbenchContextRule;
+import org.eclipse.e4.ui.workbench.IPresentationEngine;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.custom.CTabItem;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -56,6 +59,8 @@ public class StackRendererTest {
 
 	private static final String PART_DESC_ICON = "platform:/plugin/org.eclipse.e4.ui.tests/icons/pinned_ovr.png";
 	private static final String PART_ICON = "platform:/plugin/org.eclipse.e4.ui.tests/icons/filenav_nav.png";
+	private static final String SAMPLE_VIEW = "bundleclass://org.eclipse.e4.ui.tests/org.eclipse.e4.ui.tests.workbench.SampleView";
+	private static final String DEFER_PART_CREATION = "org.eclipse.e4.ui.workbench.deferPartCreation";
 
 	@Rule
 	public WorkbenchContextRule contextRule = new WorkbenchContextRule();
@@ -82,6 +87,11 @@ public class StackRendererTest {
 		window.getChildren().add(partStack);
 	}
 
+	@After
+	public void tearDown() {
+		System.clearProperty(DEFER_PART_CREATION);
+	}
+
 	@Test
 	public void testTabStateHandlerWhenOneOfSupportedTagChangeEvents() throws Exception {
 		MPart part = ems.createModelElement(MPart.class);
@@ -399,6 +409,85 @@ public class StackRendererTest {
 		assertNotNull(toolbar.getWidget());
 	}
 
+	@Test
+	public void testDeferPartCreation_off() {
+		contextRule.createAndRunWorkbench(window);
+		MPartStack stack = createDeferredWindow();
+		MPart selected = (MPart) stack.getSelectedElement();
+
+		context.get(IPresentationEngine.class).createGui(stack.getParent().getParent());
+
+		assertNotNull(selected.getObject());
+	}
+
+	@Test
+	public void testDeferPartCreation_hiddenMembersCreatedWhenSelected() {
+		System.setProperty(DEFER_PART_CREATION, "true");
+		contextRule.createAndRunWorkbench(window);
+		MPartStack stack = createDeferredWindow();
+		MPart selected = (MPart) stack.getSelectedElement();
+		MPart hidden1 = (MPart) stack.getChildren().get(1);
+		MPart hidden2 = (MPart) stack.getChildren().get(2);
+
+		context.get(IPresentationEngine.class).createGui(stack.getParent().getParent());
+
+		// the window is open, but its parts are only created by the event loop
+		assertNull(selected.getObject());
+		contextRule.spinEventLoop();
+		assertNotNull(selected.getObject());
+		assertNull(hidden1.getObject());
+		assertNull(hidden2.getObject());
+
+		stack.setSelectedElement(hidden1);
+		assertNotNull(hidden1.getObject());
+		assertNull(hidden2.getObject());
+	}
+
+	@Test
+	public void testDeferPartCreation_droppedWhenWindowClosed() {
+		System.setProperty(DEFER_PART_CREATION, "true");
+		contextRule.createAndRunWorkbench(window);
+		MPartStack stack = createDeferredWindow();
+		MPart selected = (MPart) stack.getSelectedElement();
+		MWindow window2 = (MWindow) stack.getParent().getParent();
+		IPresentationEngine engine = context.get(IPresentationEngine.class);
+
+		engine.createGui(window2);
+		assertNull(selected.getObject());
+		engine.removeGui(window2);
+		contextRule.spinEventLoop();
+
+		assertNull(selected.getObject());
+		assertNull(selected.getWidget());
+	}
+
+	/**
+	 * Adds a second window, with a stack holding a part and an inactive stack
+	 * holding three parts, the first of them selected.
+	 */
+	private MPartStack createDeferredWindow() {
+		MWindow window2 = ems.createModelElement(MWindow.class);
+		MPartSashContainer sash = ems.createModelElement(MPartSashContainer.class);
+		window2.getChildren().add(sash);
+		MPartStack stack1 = ems.createModelElement(MPartStack.class);
+		stack1.getChildren().add(createSamplePart());
+		sash.getChildren().add(stack1);
+		MPartStack stack2 = ems.createModelElement(MPartStack.class);
+		for (int i = 0; i < 3; i++) {
+			stack2.getChildren().add(createSamplePart());
+		}
+		stack2.setSelectedElement(stack2.getChildren().get(0));
+		sash.getChildren().add(stack2);
+		application.getChildren().add(window2);
+		return stack2;
+	}
+
+	private MPart createSamplePart() {
+		MPart part = ems.createModelElement(MPart.class);
+		part.setContributionURI(SAMPLE_VIEW);
+		return part;
+	}
+
 	// helper functions
 
 	/*
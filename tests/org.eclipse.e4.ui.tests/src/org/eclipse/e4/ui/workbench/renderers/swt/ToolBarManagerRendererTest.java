@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Rolf Theunissen and others.
+ * Copyright (c) 2019, 2026 Rolf Theunissen and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,24 +17,37 @@ package org.eclipse.e4.ui.workbench.renderers.swt;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
 import javax.inject.Inject;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.ui.MElementContainer;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimBar;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.menu.MDirectToolItem;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolBarSeparator;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolItem;
 import org.eclipse.e4.ui.tests.rules.WorkbenchContextRule;
+import org.eclipse.e4.ui.workbench.IPresentationEngine;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.emf.common.util.ECollections;
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.ActionContributionItem;
+import org.eclipse.jface.action.ContributionItem;
 import org.eclipse.jface.action.ToolBarManager;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.ToolBar;
+import org.eclipse.swt.widgets.ToolItem;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -44,6 +57,8 @@ import org.junit.Test;
  */
 public class ToolBarManagerRendererTest {
 
+	private static final String TOOLBAR_POOL_SIZE = "org.eclipse.e4.ui.workbench.toolBarPoolSize";
+
 	@Rule
 	public WorkbenchContextRule contextRule = new WorkbenchContextRule();
 
@@ -68,6 +83,11 @@ public class ToolBarManagerRendererTest {
 		trimBar.getChildren().add(toolBar);
 	}
 
+	@After
+	public void tearDown() {
+		System.clearProperty(TOOLBAR_POOL_SIZE);
+	}
+
 	@Test
 	public void testMToolItem_isVisible() {
 		MToolItem toolItem1 = ems.createModelElement(MDirectToolItem.class);
@@ -97,6 +117,42 @@ public class ToolBarManagerRendererTest {
 		assertFalse(tbm.getItems()[1].isVisible());
 	}
 
+	@Test
+	public void testMToolItem_isVisibleUpdatesOnlyChangedItems() {
+		MToolItem toolItem1 = ems.createModelElement(MDirectToolItem.class);
+		toolBar.getChildren().add(toolItem1);
+
+		MToolItem toolItem2 = ems.createModelElement(MDirectToolItem.class);
+		toolBar.getChildren().add(toolItem2);
+
+		// a trailing separator is never shown
+		MToolBarSeparator separator = ems.createModelElement(MToolBarSeparator.class);
+		toolBar.getChildren().add(separator);
+
+		contextRule.createAndRunWorkbench(window);
+		ToolBarManager tbm = getToolBarManager();
+		CountingContributionItem untouched = new CountingContributionItem();
+		tbm.insert(0, untouched);
+		tbm.update(true);
+		ToolBar control = tbm.getControl();
+		assertEquals(3, control.getItemCount());
+		processEvents(control);
+		untouched.updates = 0;
+
+		toolItem2.setVisible(false);
+
+		assertEquals(2, control.getItemCount());
+		assertEquals("untouched item updated again", 0, untouched.updates);
+		assertTrue("layout not requested for changed items", control.getShell().isLayoutDeferred());
+
+		processEvents(control);
+		separator.setVisible(false);
+
+		assertEquals(2, control.getItemCount());
+		assertEquals("untouched item updated again", 0, untouched.updates);
+		assertFalse("layout requested for unchanged items", control.getShell().isLayoutDeferred());
+	}
+
 	@Test
 	public void testMToolItem_toBeRendered() {
 		MToolItem toolItem1 = ems.createModelElement(MDirectToolItem.class);
@@ -439,6 +495,138 @@ public class ToolBarManagerRendererTest {
 		assertEquals(2, toolBar.getChildren().size());
 	}
 
+	@Test
+	public void testToolBarPool_ReuseHiddenToolBar() {
+		System.setProperty(TOOLBAR_POOL_SIZE, "2");
+		MToolItem toolItem1 = createToolItem("Item1");
+		toolBar.getChildren().add(toolItem1);
+		MToolItem toolItem2 = createToolItem("Item2");
+		toolBar.getChildren().add(toolItem2);
+
+		contextRule.createAndRunWorkbench(window);
+		ToolBarManager tbm = getToolBarManager();
+		ToolBar control = tbm.getControl();
+		Object widget = toolBar.getWidget();
+		assertEquals(2, control.getItemCount());
+
+		toolBar.setToBeRendered(false);
+
+		assertNull(toolBar.getWidget());
+		assertFalse(control.isDisposed());
+
+		toolBar.setToBeRendered(true);
+
+		assertSame(widget, toolBar.getWidget());
+		assertSame(tbm, getToolBarManager());
+		assertSame(control, tbm.getControl());
+		assertEquals(2, control.getItemCount());
+		assertEquals("Item1", tbm.getItems()[0].getId());
+		assertEquals("Item2", tbm.getItems()[1].getId());
+		assertSame(control, ((ToolItem) toolItem1.getWidget()).getParent());
+		assertSame(control, ((ToolItem) toolItem2.getWidget()).getParent());
+	}
+
+	@Test
+	public void testToolBarPool_ReuseSetsUpTrimToolBar() {
+		System.setProperty(TOOLBAR_POOL_SIZE, "2");
+		toolBar.getChildren().add(createToolItem("Item1"));
+
+		contextRule.createAndRunWorkbench(window);
+		Control rendered = (Control) toolBar.getWidget();
+		Composite trim = (Composite) toolBar.getParent().getWidget();
+		assertSame(trim, rendered.getParent());
+		assertTrue(toolBar.getTags().contains(IPresentationEngine.DRAGGABLE));
+
+		toolBar.setToBeRendered(false);
+
+		assertFalse("parked tool bar left in the trim", Arrays.asList(trim.getChildren()).contains(rendered));
+		toolBar.getTags().remove(IPresentationEngine.DRAGGABLE);
+
+		toolBar.setToBeRendered(true);
+
+		assertSame(rendered, toolBar.getWidget());
+		assertSame(trim, rendered.getParent());
+		assertTrue("reused tool bar not draggable", toolBar.getTags().contains(IPresentationEngine.DRAGGABLE));
+	}
+
+	@Test
+	public void testToolBarPool_ItemAddedWhileParked() {
+		System.setProperty(TOOLBAR_POOL_SIZE, "2");
+		toolBar.getChildren().add(createToolItem("Item1"));
+
+		contextRule.createAndRunWorkbench(window);
+		ToolBarManager tbm = getToolBarManager();
+		ToolBar control = tbm.getControl();
+
+		toolBar.setToBeRendered(false);
+		MToolItem toolItem2 = createToolItem("Item2");
+		toolBar.getChildren().add(toolItem2);
+		toolBar.setToBeRendered(true);
+
+		assertSame(control, getToolBarManager().getControl());
+		assertEquals(2, tbm.getSize());
+		assertEquals("Item2", tbm.getItems()[1].getId());
+		assertEquals(2, control.getItemCount());
+		assertSame(control, ((ToolItem) toolItem2.getWidget()).getParent());
+	}
+
+	@Test
+	public void testToolBarPool_RemovedWhileParked() {
+		System.setProperty(TOOLBAR_POOL_SIZE, "2");
+		MToolItem toolItem1 = createToolItem("Item1");
+		toolBar.getChildren().add(toolItem1);
+
+		contextRule.createAndRunWorkbench(window);
+		ToolBarManagerRenderer renderer = getToolBarManagerRenderer();
+		ToolBarManager tbm = renderer.getManager(toolBar);
+		Control widget = (Control) toolBar.getWidget();
+
+		toolBar.setToBeRendered(false);
+		assertFalse(widget.isDisposed());
+
+		MElementContainer<MUIElement> trimBar = toolBar.getParent();
+		trimBar.getChildren().remove(toolBar);
+
+		assertTrue(widget.isDisposed());
+		assertNull(renderer.getManager(toolBar));
+		assertNull(renderer.getToolBarModel(tbm));
+		assertNull(renderer.getContribution(toolItem1));
+	}
+
+	@Test
+	public void testToolBarPool_CapacityEviction() {
+		System.setProperty(TOOLBAR_POOL_SIZE, "1");
+		toolBar.getChildren().add(createToolItem("Item1"));
+		MToolBar toolBar2 = ems.createModelElement(MToolBar.class);
+		toolBar2.getChildren().add(createToolItem("Item2"));
+		toolBar.getParent().getChildren().add(toolBar2);
+
+		contextRule.createAndRunWorkbench(window);
+		Control widget1 = (Control) toolBar.getWidget();
+		Control widget2 = (Control) toolBar2.getWidget();
+
+		toolBar.setToBeRendered(false);
+		toolBar2.setToBeRendered(false);
+
+		// the tool bar parked first was disposed to make room
+		assertTrue(widget1.isDisposed());
+		assertFalse(widget2.isDisposed());
+
+		toolBar.setToBeRendered(true);
+		toolBar2.setToBeRendered(true);
+
+		assertNotSame(widget1, toolBar.getWidget());
+		assertEquals(1, getToolBarManager().getControl().getItemCount());
+		assertSame(widget2, toolBar2.getWidget());
+		assertEquals(1, getToolBarManagerRenderer().getManager(toolBar2).getControl().getItemCount());
+	}
+
+	private MToolItem createToolItem(String id) {
+		MToolItem toolItem = ems.createModelElement(MDirectToolItem.class);
+		toolItem.setElementId(id);
+		return toolItem;
+	}
+
 	private ToolBarManagerRenderer getToolBarManagerRenderer() {
 		Object renderer = toolBar.getRenderer();
 		assertEquals(ToolBarManagerRenderer.class, renderer.getClass());
@@ -449,6 +637,26 @@ public class ToolBarManagerRendererTest {
 		return (getToolBarManagerRenderer()).getManager(toolBar);
 	}
 
+	private static void processEvents(ToolBar control) {
+		while (control.getDisplay().readAndDispatch()) {
+			// runs the deferred layouts
+		}
+	}
+
+	static private class CountingContributionItem extends ContributionItem {
+		private int updates;
+
+		@Override
+		public void fill(ToolBar parent, int index) {
+			new ToolItem(parent, SWT.PUSH, index);
+		}
+
+		@Override
+		public void update() {
+			updates++;
+		}
+	}
+
 
 	static private class TestActionContributionItem extends ActionContributionItem {
 		private boolean disposed = false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Google, Inc. and others.
+ * Copyright (c) 2015, 2026 Google, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,10 +22,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.sideeffect.ISideEffect;
 import org.eclipse.core.databinding.observable.value.ComputedValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.core.internal.databinding.observable.sideeffect.SideEffectScheduler;
 import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
 import org.junit.Before;
 import org.junit.Test;
@@ -422,6 +424,68 @@ public class SideEffectTest extends AbstractDefaultRealmTestCase {
 		assertEquals(2, sideEffectInvocations);
 	}
 
+	@Test
+	public void testDirtySideEffectsAreRunInOneFlush() throws Exception {
+		SideEffectScheduler scheduler = SideEffectScheduler.getScheduler(Realm.getDefault());
+		AtomicInteger runCount = new AtomicInteger();
+		for (int i = 0; i < 50; i++) {
+			ISideEffect.create(() -> {
+				defaultDependency.getValue();
+				runCount.incrementAndGet();
+			});
+		}
+		assertEquals(50, runCount.get());
+		long flushCount = scheduler.getFlushCount();
+
+		defaultDependency.setValue("foo");
+		defaultDependency.setValue("bar");
+		runAsync();
+
+		assertEquals(100, runCount.get());
+		assertEquals(flushCount + 1, scheduler.getFlushCount());
+		assertEquals(50, scheduler.getLastFlushSize());
+	}
+
+	@Test
+	public void testSideEffectsAfterEscapedErrorStillRun() throws Exception {
+		AtomicInteger runCount = new AtomicInteger();
+		AtomicBoolean fail = new AtomicBoolean();
+		for (int i = 0; i < 10; i++) {
+			ISideEffect.create(() -> {
+				defaultDependency.getValue();
+				runCount.incrementAndGet();
+			});
+		}
+		ISideEffect.create(() -> {
+			defaultDependency.getValue();
+			if (fail.getAndSet(false)) {
+				throw new StackOverflowError();
+			}
+		});
+		for (int i = 0; i < 10; i++) {
+			ISideEffect.create(() -> {
+				defaultDependency.getValue();
+				runCount.incrementAndGet();
+			});
+		}
+		assertEquals(20, runCount.get());
+
+		fail.set(true);
+		defaultDependency.setValue("foo");
+		try {
+			runAsync();
+		} catch (StackOverflowError e) {
+			// expected, escapes the flush
+		}
+		runAsync();
+		assertEquals(40, runCount.get());
+
+		// none of them is left marked as scheduled
+		defaultDependency.setValue("bar");
+		runAsync();
+		assertEquals(60, runCount.get());
+	}
+
 	// Doesn't currently work, but this would be a desirable property for
 	// SideEffect to have
 	// public void testInvalidateSelf() throws Exception {
@@ -47,6 +47,27 @@ public class ObservableTrackerTest extends AbstractDefaultRealmTestCase {
 		assertSame(observable, result[0]);
 	}
 
+	@Test
+	public void testRunAndMonitor_ManyObservablesAreUnique() throws Exception {
+		final IObservable[] observables = new IObservable[100];
+		for (int i = 0; i < observables.length; i++) {
+			observables[i] = new ObservableStub();
+		}
+		final IObservable inner = new ObservableStub();
+
+		IObservable[] result = ObservableTracker.runAndMonitor(() -> {
+			for (IObservable observable : observables) {
+				ObservableTracker.getterCalled(observable);
+				ObservableTracker.getterCalled(observable);
+			}
+			ObservableTracker.runAndMonitor(() -> ObservableTracker.getterCalled(inner), null, null);
+			ObservableTracker.getterCalled(observables[0]);
+		}, null, null);
+
+		assertEquals(new IdentitySet<>(Arrays.asList(observables)), new IdentitySet<>(Arrays.asList(result)));
+		assertEquals(observables.length, result.length);
+	}
+
 	@Test
 	public void testGetterCalled_ObservableDisposed() throws Exception {
 		IObservable observable = new ObservableStub();
@@ -54,4 +54,29 @@ public class BeanPropertyHelperTest {
 		assertEquals(IBean.class.getMethod("setValue", String.class), pd.getWriteMethod());
 	}
 
+	@Test
+	public void testReadAndWriteProperty() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value");
+		Bean bean = new Bean();
+		for (int i = 0; i < 3; i++) {
+			BeanPropertyHelper.writeProperty(bean, pd, "value" + i);
+			assertEquals("value" + i, BeanPropertyHelper.readProperty(bean, pd));
+		}
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testWritePropertyWrapsSetterException() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(ThrowingBean.class, "value");
+		BeanPropertyHelper.writeProperty(new ThrowingBean(), pd, "value");
+	}
+
+	public static class ThrowingBean {
+		public String getValue() {
+			return null;
+		}
+
+		public void setValue(String value) {
+			throw new IllegalStateException();
+		}
+	}
 }
@@ -147,6 +147,7 @@ import org.eclipse.jface.tests.databinding.scenarios.BindingScenariosTestSuite;
 import org.eclipse.jface.tests.databinding.swt.WidgetObservableThreadTest;
 import org.eclipse.jface.tests.databinding.swt.WidgetPropertiesTest;
 import org.eclipse.jface.tests.databinding.viewers.ObservableListContentProviderTest;
+import org.eclipse.jface.tests.databinding.viewers.ObservableListLazyContentProviderTest;
 import org.eclipse.jface.tests.databinding.viewers.ObservableListTreeContentProviderTest;
 import org.eclipse.jface.tests.databinding.viewers.ObservableMapLabelProviderTest;
 import org.eclipse.jface.tests.databinding.viewers.ObservableSetContentProviderTest;
@@ -228,6 +229,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		NumberToStringConverterTest.class, NumberToUnboundedNumberValidatorTest.class,
 		ObjectToPrimitiveValidatorTest.class, ObservableCollectionContentProviderTest.class,
 		ObservableCollectionTreeContentProviderTest.class, ObservableListContentProviderTest.class,
+		ObservableListLazyContentProviderTest.class,
 		ObservableListTest.class, ObservableListTreeContentProviderTest.class, ObservableMapLabelProviderTest.class,
 		ObservableMapTest.class, ObservableSetContentProviderTest.class, ObservableSetTreeContentProviderTest.class,
 		ObservablesManagerTest.class, ObservablesTest.class, ObservableTrackerTest.class,
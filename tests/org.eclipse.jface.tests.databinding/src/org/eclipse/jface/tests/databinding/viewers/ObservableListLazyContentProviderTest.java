@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.databinding.viewers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.jface.databinding.viewers.ObservableListLazyContentProvider;
+import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ObservableListLazyContentProviderTest extends AbstractDefaultRealmTestCase {
+	private Shell shell;
+	private TableViewer viewer;
+	private WritableList<String> input;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		shell = new Shell();
+		viewer = new TableViewer(shell, SWT.VIRTUAL);
+		viewer.setContentProvider(new ObservableListLazyContentProvider<String>());
+
+		List<String> elements = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			elements.add("element" + i);
+		}
+		input = new WritableList<>(elements, String.class);
+		viewer.setInput(input);
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		shell.dispose();
+		viewer = null;
+		input = null;
+		super.tearDown();
+	}
+
+	@Test
+	public void testItemCountAfterSetInput() {
+		assertEquals(10000, viewer.getTable().getItemCount());
+	}
+
+	@Test
+	public void testChangesAreAppliedTogether() {
+		input.add(0, "first");
+		input.remove(input.size() - 1);
+		input.add("last");
+		input.add("last2");
+
+		// the item count is only adjusted once the realm runs the update
+		assertEquals(10000, viewer.getTable().getItemCount());
+		runAsync();
+		assertEquals(10002, viewer.getTable().getItemCount());
+
+		assertEquals("first", getItemText(0));
+		assertEquals("element0", getItemText(1));
+		assertEquals("last2", getItemText(10001));
+	}
+
+	@Test
+	public void testReplaceUpdatesRow() {
+		assertEquals("element5", getItemText(5));
+		input.set(5, "changed");
+		runAsync();
+		assertEquals("changed", getItemText(5));
+	}
+
+	@Test
+	public void testClear() {
+		input.clear();
+		runAsync();
+		assertEquals(0, viewer.getTable().getItemCount());
+	}
+
+	private String getItemText(int index) {
+		// getItem materializes the row, which requests its element
+		return viewer.getTable().getItem(index).getText();
+	}
+}
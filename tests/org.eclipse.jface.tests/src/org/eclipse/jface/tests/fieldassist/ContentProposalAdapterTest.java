@@ -17,15 +17,24 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jface.fieldassist.ContentProposal;
 import org.eclipse.jface.fieldassist.ContentProposalAdapter;
+import org.eclipse.jface.fieldassist.IContentProposal;
 import org.eclipse.jface.fieldassist.IContentProposalProvider;
 import org.eclipse.jface.fieldassist.SimpleContentProposalProvider;
 import org.eclipse.jface.fieldassist.TextContentAdapter;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.tests.harness.util.TestRunLogUtil;
 import org.junit.After;
@@ -125,6 +134,91 @@ public class ContentProposalAdapterTest {
 		assertOneShellUp();
 	}
 
+	/**
+	 * Tests that proposals computed in the background are shown as they are
+	 * found, without waiting for the provider to finish.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testComputeProposalsAsync() throws Exception {
+		CountDownLatch firstShown = new CountDownLatch(1);
+		IContentProposalProvider provider = new IContentProposalProvider() {
+			@Override
+			public IContentProposal[] getProposals(String contents, int position) {
+				throw new IllegalStateException("Proposals must be computed in the background");
+			}
+
+			@Override
+			public void computeProposals(String contents, int position, Consumer<IContentProposal[]> consumer,
+					IProgressMonitor monitor) {
+				consumer.accept(new IContentProposal[] { new ContentProposal("one"), new ContentProposal("two") });
+				try {
+					firstShown.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					return;
+				}
+				consumer.accept(new IContentProposal[] { new ContentProposal("three") });
+			}
+		};
+		ContentProposalAdapter adapter = new ContentProposalAdapter(text, new TextContentAdapter(), provider, null,
+				null);
+		adapter.setComputeProposalsAsync(true);
+		assertTrue(adapter.isComputeProposalsAsync());
+
+		sendFocusInToControl();
+		adapter.openProposalPopup();
+		waitForProposalCount(2);
+		assertTrue("Popup should be open with the first proposals", adapter.isProposalPopupOpen());
+
+		firstShown.countDown();
+		waitForProposalCount(3);
+
+		adapter.closeProposalPopup();
+		spinEventLoop();
+		assertOneShellUp();
+	}
+
+	private void waitForProposalCount(int count) {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < timeout) {
+			spinEventLoop();
+			Table table = findProposalTable();
+			if (table != null && table.getItemCount() == count) {
+				return;
+			}
+		}
+		Table table = findProposalTable();
+		assertEquals("Unexpected number of proposals shown", count, table == null ? 0 : table.getItemCount());
+	}
+
+	private Table findProposalTable() {
+		for (Shell shell : getDisplay().getShells()) {
+			if (shell != controlShell && !shell.isDisposed()) {
+				Table table = findTable(shell);
+				if (table != null) {
+					return table;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static Table findTable(Control control) {
+		if (control instanceof Table) {
+			return (Table) control;
+		}
+		if (control instanceof Composite) {
+			for (Control child : ((Composite) control).getChildren()) {
+				Table table = findTable(child);
+				if (table != null) {
+					return table;
+				}
+			}
+		}
+		return null;
+	}
+
 	// most of the following code is copied from AbstractFieldAssistTestCase
 
 	@Before
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.images;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.jface.internal.ImageDataCache;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that image data survives a round trip through the on-disk image data
+ * cache, that outdated entries are dropped and that unused entries are kept
+ * for a number of sessions.
+ */
+public class ImageDataCacheTest {
+
+	private static final long MAX_SIZE = 1024 * 1024;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File cacheFile;
+
+	private int loads;
+
+	private final List<ImageDataCache> caches = new ArrayList<>();
+
+	@Before
+	public void setUp() throws IOException {
+		cacheFile = new File(folder.newFolder("cache"), "imagedata.cache");
+	}
+
+	@After
+	public void tearDown() {
+		// write now rather than in the background after the folder is deleted
+		for (ImageDataCache cache : caches) {
+			cache.flush();
+		}
+	}
+
+	@Test
+	public void testDirectPaletteWithAlpha() throws IOException {
+		ImageData data = new ImageData(4, 3, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		for (int i = 0; i < data.data.length; i++) {
+			data.data[i] = (byte) i;
+		}
+		data.alphaData = new byte[data.width * data.height];
+		for (int i = 0; i < data.alphaData.length; i++) {
+			data.alphaData[i] = (byte) (i * 20);
+		}
+		assertRoundTrip(data);
+	}
+
+	@Test
+	public void testIndexedPaletteWithMask() throws IOException {
+		RGB[] colors = new RGB[256];
+		for (int i = 0; i < colors.length; i++) {
+			colors[i] = new RGB(i, 255 - i, i / 2);
+		}
+		ImageData data = new ImageData(5, 4, 8, new PaletteData(colors));
+		for (int i = 0; i < data.data.length; i++) {
+			data.data[i] = (byte) (i * 7);
+		}
+		data.transparentPixel = 3;
+		data.maskPad = 2;
+		data.maskData = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+		data.delayTime = 10;
+		assertRoundTrip(data);
+	}
+
+	@Test
+	public void testMissingVariant() throws IOException {
+		URL location = newImageFile("missing.png");
+		ImageDataCache cache = newCache(MAX_SIZE);
+		assertNull(cache.lookup(location, 200, loader(null)));
+		assertNull(cache.lookup(location, 200, loader(null)));
+		assertEquals(1, loads);
+		cache.save();
+
+		ImageDataCache reloaded = newCache(MAX_SIZE);
+		assertNull(reloaded.lookup(location, 200, loader(null)));
+		assertEquals("missing variant probed again", 1, loads);
+	}
+
+	@Test
+	public void testStampInvalidation() throws Exception {
+		URL location = newImageFile("changed.png");
+		ImageData data = newImageData(8);
+		ImageDataCache cache = newCache(MAX_SIZE);
+		cache.lookup(location, 100, loader(data));
+		cache.save();
+
+		touch(location);
+		ImageDataCache reloaded = newCache(MAX_SIZE);
+		ImageData changed = newImageData(16);
+		assertEquals(16, reloaded.lookup(location, 100, loader(changed)).width);
+		assertEquals("changed image not loaded again", 2, loads);
+		assertEquals(16, reloaded.lookup(location, 100, loader(changed)).width);
+		assertEquals(2, loads);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEvicted() throws IOException {
+		URL first = newImageFile("first.png");
+		URL second = newImageFile("second.png");
+		URL third = newImageFile("third.png");
+		ImageData data = newImageData(16);
+		// room for two entries only
+		ImageDataCache cache = newCache(2 * data.data.length + 512);
+		cache.lookup(first, 100, loader(data));
+		cache.lookup(second, 100, loader(data));
+		cache.lookup(first, 100, loader(data));
+		cache.lookup(third, 100, loader(data));
+		assertEquals(3, loads);
+
+		cache.lookup(first, 100, loader(data));
+		cache.lookup(third, 100, loader(data));
+		assertEquals(3, loads);
+		cache.lookup(second, 100, loader(data));
+		assertEquals("least recently used entry not evicted", 4, loads);
+	}
+
+	@Test
+	public void testReplacedEntryRespectsLimit() throws Exception {
+		URL first = newImageFile("first.png");
+		URL second = newImageFile("second.png");
+		ImageData small = newImageData(8);
+		// room for the large entry or for both small ones, but not for all
+		ImageDataCache cache = newCache(1000);
+		cache.lookup(first, 100, loader(small));
+		cache.lookup(second, 100, loader(small));
+
+		touch(first);
+		cache.lookup(first, 100, loader(newImageData(16)));
+		assertEquals(3, loads);
+		cache.lookup(second, 100, loader(small));
+		assertEquals("cache grew beyond its limit", 4, loads);
+	}
+
+	@Test
+	public void testUnusedEntriesKept() throws IOException {
+		URL used = newImageFile("used.png");
+		URL unused = newImageFile("unused.png");
+		ImageDataCache cache = newCache(MAX_SIZE);
+		cache.lookup(used, 100, loader(newImageData(8)));
+		cache.lookup(unused, 100, loader(newImageData(8)));
+		cache.save();
+
+		ImageDataCache nextSession = newCache(MAX_SIZE);
+		nextSession.lookup(used, 100, loader(null));
+		// the background write of a session happens before all images are used
+		nextSession.save();
+		nextSession.save();
+		assertEquals(2, loads);
+
+		ImageDataCache lastSession = newCache(MAX_SIZE);
+		assertNotNull(lastSession.lookup(used, 100, loader(null)));
+		assertNotNull(lastSession.lookup(unused, 100, loader(null)));
+		assertEquals("unused entry dropped", 2, loads);
+	}
+
+	@Test
+	public void testEntriesUnusedForManySessionsDropped() throws IOException {
+		URL used = newImageFile("used.png");
+		URL unused = newImageFile("unused.png");
+		ImageDataCache cache = newCache(MAX_SIZE);
+		cache.lookup(used, 100, loader(newImageData(8)));
+		cache.lookup(unused, 100, loader(newImageData(8)));
+		cache.save();
+
+		for (int i = 0; i < ImageDataCache.MAX_IDLE_SESSIONS; i++) {
+			ImageDataCache session = newCache(MAX_SIZE);
+			session.lookup(used, 100, loader(null));
+			session.save();
+		}
+		assertEquals(2, loads);
+
+		ImageDataCache lastSession = newCache(MAX_SIZE);
+		assertNotNull(lastSession.lookup(used, 100, loader(null)));
+		assertEquals(2, loads);
+		assertNotNull(lastSession.lookup(unused, 100, loader(newImageData(8))));
+		assertEquals("entry unused for too many sessions kept", 3, loads);
+	}
+
+	@Test
+	public void testFlushWritesPendingEntries() throws IOException {
+		URL location = newImageFile("image.png");
+		ImageDataCache cache = newCache(MAX_SIZE);
+		cache.flush();
+		assertFalse("cache written without new entries", cacheFile.exists());
+
+		cache.lookup(location, 100, loader(newImageData(8)));
+		// as on shutdown, before the background write happens
+		cache.flush();
+		assertTrue(cacheFile.isFile());
+		assertNotNull(newCache(MAX_SIZE).lookup(location, 100, loader(null)));
+		assertEquals(1, loads);
+	}
+
+	@Test
+	public void testCorruptFileIgnored() throws IOException {
+		Files.write(cacheFile.toPath(), new byte[] { 0x4A, 0x46, 0x49, 0x43, 0, 0, 0, 2, 0, 0, 0, 5, 0x7F });
+		URL location = newImageFile("image.png");
+		ImageDataCache cache = newCache(MAX_SIZE);
+		assertEquals(8, cache.lookup(location, 100, loader(newImageData(8))).width);
+		assertEquals(1, loads);
+		cache.save();
+		assertNotNull(newCache(MAX_SIZE).lookup(location, 100, loader(null)));
+		assertEquals(1, loads);
+	}
+
+	private void assertRoundTrip(ImageData expected) throws IOException {
+		URL location = newImageFile("image.png");
+		ImageDataCache cache = newCache(MAX_SIZE);
+		assertSame(expected, cache.lookup(location, 100, loader(expected)));
+		cache.save();
+		assertTrue(cacheFile.isFile());
+		assertNoTempFiles();
+
+		ImageData actual = newCache(MAX_SIZE).lookup(location, 100, loader(null));
+		assertEquals("image loaded again instead of read from the cache", 1, loads);
+		assertNotNull(actual);
+		assertEquals(expected.width, actual.width);
+		assertEquals(expected.height, actual.height);
+		assertEquals(expected.depth, actual.depth);
+		assertEquals(expected.scanlinePad, actual.scanlinePad);
+		assertEquals(expected.bytesPerLine, actual.bytesPerLine);
+		assertEquals(expected.palette.isDirect, actual.palette.isDirect);
+		if (expected.palette.isDirect) {
+			assertEquals(expected.palette.redMask, actual.palette.redMask);
+			assertEquals(expected.palette.greenMask, actual.palette.greenMask);
+			assertEquals(expected.palette.blueMask, actual.palette.blueMask);
+		} else {
+			assertArrayEquals(expected.palette.getRGBs(), actual.palette.getRGBs());
+		}
+		assertEquals(expected.transparentPixel, actual.transparentPixel);
+		assertEquals(expected.maskPad, actual.maskPad);
+		assertEquals(expected.alpha, actual.alpha);
+		assertEquals(expected.type, actual.type);
+		assertEquals(expected.x, actual.x);
+		assertEquals(expected.y, actual.y);
+		assertEquals(expected.disposalMethod, actual.disposalMethod);
+		assertEquals(expected.delayTime, actual.delayTime);
+		assertArrayEquals(expected.data, actual.data);
+		assertArrayEquals(expected.maskData, actual.maskData);
+		assertArrayEquals(expected.alphaData, actual.alphaData);
+	}
+
+	private void assertNoTempFiles() {
+		String[] names = cacheFile.getParentFile().list();
+		assertNotNull(names);
+		for (String name : names) {
+			assertFalse("temporary file left behind: " + name, name.endsWith(".tmp"));
+		}
+	}
+
+	private URL newImageFile(String name) throws IOException {
+		File file = folder.newFile(name);
+		Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+		return file.toURI().toURL();
+	}
+
+	private ImageDataCache newCache(long maxSize) {
+		ImageDataCache cache = new ImageDataCache(cacheFile, maxSize);
+		caches.add(cache);
+		return cache;
+	}
+
+	private static void touch(URL location) throws Exception {
+		Path image = Paths.get(location.toURI());
+		Files.setLastModifiedTime(image, FileTime.fromMillis(Files.getLastModifiedTime(image).toMillis() - 60_000));
+	}
+
+	private static ImageData newImageData(int size) {
+		return new ImageData(size, size, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+	}
+
+	private Supplier<ImageData> loader(ImageData data) {
+		return () -> {
+			loads++;
+			return data;
+		};
+	}
+}
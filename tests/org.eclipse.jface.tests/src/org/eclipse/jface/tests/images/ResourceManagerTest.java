@@ -314,6 +314,50 @@ public class ResourceManagerTest extends TestCase {
 		globalResourceManager.destroy(descriptor);
 	}
 
+	public void testCreateImageAsync() throws Exception {
+		Display display = Display.getCurrent();
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		Image[] created = new Image[1];
+		globalResourceManager.createImageAsync(descriptor, image -> created[0] = image);
+		long timeout = System.currentTimeMillis() + 10000;
+		while (created[0] == null && System.currentTimeMillis() < timeout) {
+			if (!display.readAndDispatch()) {
+				Thread.sleep(10);
+			}
+		}
+		assertNotNull("Image was not created", created[0]);
+		validateResource(created[0]);
+		assertSame(created[0], globalResourceManager.find(descriptor));
+
+		// an existing image is passed right away and counted like any other
+		Image[] existing = new Image[1];
+		globalResourceManager.createImageAsync(descriptor, image -> existing[0] = image);
+		assertSame(created[0], existing[0]);
+
+		globalResourceManager.destroyImage(descriptor);
+		assertSame(created[0], globalResourceManager.find(descriptor));
+		globalResourceManager.destroyImage(descriptor);
+		assertNull(globalResourceManager.find(descriptor));
+		assertTrue(created[0].isDisposed());
+	}
+
+	public void testCreateImageAsyncAfterDispose() throws Exception {
+		Display display = Display.getCurrent();
+		ImageDescriptor descriptor = getImage("icons/binary_co.gif");
+		LocalResourceManager localManager = new LocalResourceManager(globalResourceManager);
+		boolean[] called = new boolean[1];
+		localManager.createImageAsync(descriptor, image -> called[0] = true);
+		localManager.dispose();
+		long timeout = System.currentTimeMillis() + 1000;
+		while (System.currentTimeMillis() < timeout) {
+			if (!display.readAndDispatch()) {
+				Thread.sleep(10);
+			}
+		}
+		assertFalse("The consumer of a disposed manager must not be called", called[0]);
+		assertNull("No image must be allocated for a disposed manager", globalResourceManager.find(descriptor));
+	}
+
 	/**
 	 * ImageDataProvider to identify identical ImageData by the given ID.
 	 */
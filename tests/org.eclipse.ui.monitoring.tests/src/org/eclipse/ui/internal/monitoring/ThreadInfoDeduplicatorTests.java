@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (C) 2026 Google Inc and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ThreadInfoDeduplicator} class.
+ */
+public class ThreadInfoDeduplicatorTests {
+	private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+	private ThreadInfo[] sample(long threadId) {
+		return new ThreadInfo[] { threadMXBean.getThreadInfo(threadId, Integer.MAX_VALUE) };
+	}
+
+	@Test
+	public void testUnchangedThreadIsReused() throws Exception {
+		CountDownLatch done = new CountDownLatch(1);
+		Thread thread = new Thread(() -> {
+			try {
+				done.await();
+			} catch (InterruptedException e) {
+				// Exit.
+			}
+		});
+		thread.start();
+		try {
+			while (thread.getState() != Thread.State.WAITING) {
+				Thread.sleep(1);
+			}
+			ThreadInfoDeduplicator deduplicator = new ThreadInfoDeduplicator();
+			ThreadInfo first = deduplicator.deduplicate(sample(thread.getId()))[0];
+			ThreadInfo second = deduplicator.deduplicate(sample(thread.getId()))[0];
+
+			assertSame(first, second);
+			assertEquals(2, deduplicator.getSampledCount());
+			assertEquals(1, deduplicator.getReusedCount());
+
+			deduplicator.clear();
+			ThreadInfo third = deduplicator.deduplicate(sample(thread.getId()))[0];
+			assertNotSame(first, third);
+			assertEquals(0, deduplicator.getReusedCount());
+		} finally {
+			done.countDown();
+			thread.join();
+		}
+	}
+
+	@Test
+	public void testChangedStackIsNotReused() {
+		ThreadInfoDeduplicator deduplicator = new ThreadInfoDeduplicator();
+		long threadId = Thread.currentThread().getId();
+		ThreadInfo first = deduplicator.deduplicate(sample(threadId))[0];
+		ThreadInfo second = sampleFromNestedFrame(deduplicator, threadId);
+
+		assertNotSame(first, second);
+		assertEquals(0, deduplicator.getReusedCount());
+	}
+
+	private ThreadInfo sampleFromNestedFrame(ThreadInfoDeduplicator deduplicator, long threadId) {
+		return deduplicator.deduplicate(sample(threadId))[0];
+	}
+}
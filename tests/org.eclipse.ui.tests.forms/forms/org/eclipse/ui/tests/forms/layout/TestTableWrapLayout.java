@@ -16,6 +16,7 @@
 package org.eclipse.ui.tests.forms.layout;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.swt.SWT;
@@ -326,6 +327,27 @@ public class TestTableWrapLayout {
 		assertEquals(new Rectangle(LEFT_MARGIN, bottomEdge(labCenter), 300, 5), labFill.getBounds());
 	}
 
+	/**
+	 * Test that a changed child only flushes the cached sizes of that child.
+	 */
+	@Test
+	public void testChangedChildFlushesOnlyItsCache() {
+		Composite l1 = ControlFactory.create(inner, 10, 100, 80);
+		Composite l2 = ControlFactory.create(inner, 80, 800, 15);
+		inner.layout(true);
+		ControlFactory.TestLayout layout1 = (ControlFactory.TestLayout) l1.getLayout();
+		ControlFactory.TestLayout layout2 = (ControlFactory.TestLayout) l2.getLayout();
+		layout1.wasChanged = false;
+		layout2.wasChanged = false;
+
+		inner.layout(new Control[] { l1 });
+
+		assertTrue(layout1.wasChanged);
+		assertFalse(layout2.wasChanged);
+		assertEquals(new Rectangle(0, 0, 100, 80), l1.getBounds());
+		assertEquals(new Rectangle(0, 80, 100, 120), l2.getBounds());
+	}
+
 	private int leftEdge(Control control) {
 		Rectangle bounds = control.getBounds();
 
@@ -98,6 +98,102 @@ public class FormsPerformanceTest extends PerformanceTestCase {
 		assertPerformance();
 	}
 
+	@Test
+	public void test_setFormText() {
+		tagAsSummary("Set Form Text", Dimension.ELAPSED_PROCESS);
+
+		StringBuilder buf = new StringBuilder();
+		buf.append("<form>");
+		for (int i = 0; i < 200; i++) {
+			buf.append("<p>Paragraph ").append(i).append(" has some <b>bold</b> text, ");
+			buf.append("a <a href=\"link").append(i).append("\">link</a> and ");
+			buf.append("<span font=\"code\">some source</span> text.</p>");
+		}
+		buf.append("</form>");
+		String text = buf.toString();
+
+		Display display = PlatformUI.getWorkbench().getDisplay();
+		FormToolkit toolkit = new FormToolkit(display);
+		Shell shell = new Shell(display);
+		shell.setSize(400, 300);
+		shell.setLayout(new FillLayout());
+		FormText formText = toolkit.createFormText(shell, false);
+		formText.setFont("code", JFaceResources.getTextFont());
+		shell.open();
+
+		// Warm up.
+		for (int i = 0; i < 5; i++) {
+			formText.setText(text, true, false);
+			shell.layout(true);
+		}
+
+		for (int samples = 0; samples < 50; samples++) {
+			startMeasuring();
+			for (int i = 0; i < 10; i++) {
+				formText.setText(text, true, false);
+				shell.layout(true);
+				while (display.readAndDispatch()) {/* empty */}
+			}
+			stopMeasuring();
+		}
+		shell.dispose();
+		toolkit.dispose();
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	@Test
+	public void test_expandSection() {
+		tagAsSummary("Expand Section", Dimension.ELAPSED_PROCESS);
+
+		Display display = PlatformUI.getWorkbench().getDisplay();
+		FormToolkit toolkit = new FormToolkit(display);
+		Shell shell = new Shell(display);
+		shell.setSize(600, 800);
+		shell.setLayout(new FillLayout());
+		ScrolledForm form = toolkit.createScrolledForm(shell);
+		form.getBody().setLayout(new TableWrapLayout());
+		Section[] sections = new Section[100];
+		for (int i = 0; i < sections.length; i++) {
+			Section section = toolkit.createSection(form.getBody(),
+					Section.DESCRIPTION | Section.TWISTIE | Section.EXPANDED);
+			section.setLayoutData(new TableWrapData(TableWrapData.FILL_GRAB));
+			section.setText("Section " + i);
+			section.setDescription("This is the description of section " + i);
+			Composite client = toolkit.createComposite(section);
+			client.setLayout(new TableWrapLayout());
+			toolkit.createLabel(client, "A label which is long enough to wrap when the form gets narrow", SWT.WRAP);
+			toolkit.createText(client, "Text " + i).setLayoutData(new TableWrapData(TableWrapData.FILL_GRAB));
+			toolkit.createButton(client, "A check box", SWT.CHECK);
+			section.setClient(client);
+			sections[i] = section;
+		}
+		shell.open();
+		form.reflow(true);
+		while (display.readAndDispatch()) {/* empty */}
+
+		// Warm up.
+		for (int i = 0; i < 10; i++) {
+			Section section = sections[i * 10];
+			section.setExpanded(!section.isExpanded());
+			while (display.readAndDispatch()) {/* empty */}
+		}
+
+		for (int samples = 0; samples < 50; samples++) {
+			startMeasuring();
+			for (int i = 0; i < 10; i++) {
+				Section section = sections[(samples + i * 10) % sections.length];
+				section.setExpanded(!section.isExpanded());
+				while (display.readAndDispatch()) {/* empty */}
+			}
+			stopMeasuring();
+		}
+		shell.dispose();
+		toolkit.dispose();
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	public void createPartControl(Composite parent, FormToolkit toolkit) {
 		//Label l = new Label(parent, SWT.NULL);
 		//l.setText ("a label");
@@ -41,6 +41,22 @@ public class FormTextModelTest {
 				"   line with        whitespace  Test " + System.lineSeparator(), formTextModel.getAccessibleText());
 	}
 
+	@Test
+	public void testSameTextParsedAgain() {
+		String text = "<form><p>   line with   <b>  whitespace </b> Test </p><li>item</li></form>";
+		FormTextModel formTextModel = new FormTextModel();
+		formTextModel.parseTaggedText(text, false);
+		assertEquals("line with whitespace Test" + System.lineSeparator() + "item" + System.lineSeparator(),
+				formTextModel.getAccessibleText());
+
+		FormTextModel otherModel = new FormTextModel();
+		otherModel.setWhitespaceNormalized(false);
+		otherModel.parseTaggedText(text, false);
+		assertEquals("   line with     whitespace  Test " + System.lineSeparator() + "item" + System.lineSeparator(),
+				otherModel.getAccessibleText());
+		assertEquals(2, otherModel.getParagraphs().length);
+	}
+
 	@Test
 	public void testTextWithAmpersand() {
 		FormTextModel formTextModel = new FormTextModel();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Google, Inc. and others.
+ * Copyright (c) 2018, 2026 Google, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,13 +14,17 @@
 package org.eclipse.ui.tests.forms.widgets;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Layout;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.forms.widgets.ScrolledForm;
+import org.eclipse.ui.forms.widgets.Section;
+import org.eclipse.ui.forms.widgets.TableWrapLayout;
 import org.eclipse.ui.tests.forms.layout.ControlFactory;
 import org.junit.After;
 import org.junit.Before;
@@ -101,6 +105,40 @@ public class ScrolledFormTest {
 				533);
 	}
 
+	@Test
+	public void testSectionExpansionReflowsForm() {
+		shell.setLayout(new FillLayout());
+		shell.setSize(300, 200);
+		ScrolledForm form = new ScrolledForm(shell);
+		form.getBody().setLayout(new TableWrapLayout());
+		Section section = new Section(form.getBody(), Section.TWISTIE);
+		section.setText("Section");
+		section.setClient(ControlFactory.create(section, 100, 500));
+		shell.open();
+		form.reflow(true);
+		dispatchEvents();
+		int collapsedHeight = form.getBody().getSize().y;
+		assertTrue(collapsedHeight < 500);
+
+		section.setExpanded(true);
+		// the form is reflowed once the event loop runs
+		dispatchEvents();
+		int expandedHeight = form.getBody().getSize().y;
+		assertTrue("body not grown by the client: " + expandedHeight, expandedHeight >= collapsedHeight + 500);
+		assertEquals(expandedHeight, form.getMinHeight());
+		assertTrue(form.getVerticalBar().getVisible());
+
+		section.setExpanded(false);
+		dispatchEvents();
+		assertEquals(collapsedHeight, form.getBody().getSize().y);
+		assertEquals(collapsedHeight, form.getMinHeight());
+	}
+
+	private void dispatchEvents() {
+		while (!shell.isDisposed() && display.readAndDispatch()) {
+		}
+	}
+
 	public static Point computeLayout(Shell shell, ScrollTestData testData) {
 		ScrolledForm form = new ScrolledForm(shell);
 		Composite parent = form.getBody();
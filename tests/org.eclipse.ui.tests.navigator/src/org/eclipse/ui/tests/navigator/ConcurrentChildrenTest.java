@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.navigator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.internal.navigator.NavigatorContentService;
+import org.eclipse.ui.internal.navigator.NavigatorContentServiceContentProvider;
+import org.eclipse.ui.internal.navigator.extensions.NavigatorContentExtension;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.tests.navigator.extension.TestConcurrentContentProvider;
+import org.eclipse.ui.tests.navigator.extension.TestConcurrentPipelineProvider;
+import org.eclipse.ui.tests.navigator.extension.TestSimpleChildrenContentProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests querying the content extensions of a viewer with the
+ * <code>org.eclipse.ui.navigator.concurrentChildren</code> property.
+ */
+public class ConcurrentChildrenTest extends NavigatorTestBase {
+
+	private static final String TEST_VIEWER_CONCURRENT = "org.eclipse.ui.tests.navigator.ConcurrentChildrenTestView";
+
+	private static final String TEST_CONCURRENT_A = "org.eclipse.ui.tests.navigator.testConcurrent.a";
+	private static final String TEST_CONCURRENT_B = "org.eclipse.ui.tests.navigator.testConcurrent.b";
+	private static final String TEST_CONCURRENT_C = "org.eclipse.ui.tests.navigator.testConcurrent.c";
+	private static final String TEST_CONCURRENT_FAILING = "org.eclipse.ui.tests.navigator.testConcurrent.failing";
+
+	private NavigatorContentServiceContentProvider contentProvider;
+
+	public ConcurrentChildrenTest() {
+		_navigatorInstanceId = TEST_VIEWER_CONCURRENT;
+	}
+
+	@Override
+	@Before
+	public void setUp() {
+		TestConcurrentContentProvider.resetTest();
+		TestConcurrentPipelineProvider.resetTest();
+		super.setUp();
+		contentProvider = (NavigatorContentServiceContentProvider) _contentService.createCommonContentProvider();
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		TestConcurrentContentProvider.resetTest();
+		super.tearDown();
+	}
+
+	@Test
+	public void testChildrenKeepExtensionOrder() {
+		List<String> order = getExtensionNames();
+		assertEquals(List.of("A", "B", "C", "F"), sorted(order));
+		// the extensions queried first answer last
+		long delay = 300;
+		for (String name : order) {
+			TestConcurrentContentProvider.DELAYS.put(name, Long.valueOf(delay));
+			delay = Math.max(0, delay - 100);
+		}
+
+		Object[] children = contentProvider.getChildren(_p1);
+
+		List<String> expected = new ArrayList<>();
+		for (String name : order) {
+			if (name.equals("F")) {
+				continue;
+			}
+			for (int i = 0; i < TestSimpleChildrenContentProvider.NUM_ITEMS; i++) {
+				expected.add(name + i);
+			}
+			if (name.equals("B")) {
+				expected.add(TestConcurrentPipelineProvider.PIPELINED_CHILD);
+			}
+		}
+		assertEquals(expected, names(children));
+	}
+
+	@Test
+	public void testExtensionsQueriedConcurrently() {
+		Object[] children = contentProvider.getChildren(_p1);
+		assertTrue(children.length > 0);
+
+		Map<String, Thread> threads = TestConcurrentContentProvider.THREADS;
+		List<String> order = getExtensionNames();
+		assertSame("first extension not queried on the calling thread", Thread.currentThread(),
+				threads.get(order.get(0)));
+		for (String name : order.subList(1, order.size())) {
+			if (threads.containsKey(name)) {
+				assertNotSame(name + " queried on the calling thread", Thread.currentThread(), threads.get(name));
+			}
+		}
+	}
+
+	@Test
+	public void testPipelineRunsOnCallingThread() {
+		Object[] children = contentProvider.getChildren(_p1);
+
+		assertTrue("pipelined child missing",
+				names(children).contains(TestConcurrentPipelineProvider.PIPELINED_CHILD));
+		assertSame(Thread.currentThread(), TestConcurrentPipelineProvider.pipelineThread);
+	}
+
+	@Test
+	public void testFailingExtensionKeepsOthers() {
+		Object[] children = contentProvider.getChildren(_p1);
+
+		List<String> names = names(children);
+		for (String name : new String[] { "A", "B", "C" }) {
+			for (int i = 0; i < TestSimpleChildrenContentProvider.NUM_ITEMS; i++) {
+				assertTrue(name + i + " missing", names.contains(name + i));
+			}
+		}
+	}
+
+	@Test
+	public void testExtensionTimings() {
+		TestConcurrentContentProvider.DELAYS.put("C", Long.valueOf(100));
+
+		contentProvider.getChildren(_p1);
+
+		Map<String, Long> timings = contentProvider.getExtensionTimings();
+		for (String id : new String[] { TEST_CONCURRENT_A, TEST_CONCURRENT_B, TEST_CONCURRENT_C,
+				TEST_CONCURRENT_FAILING }) {
+			assertNotNull("no timing for " + id, timings.get(id));
+		}
+		assertTrue(timings.get(TEST_CONCURRENT_C).longValue() >= TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	@Test
+	public void testProviderWaitingForDisplay() {
+		TestConcurrentContentProvider.syncExec = true;
+
+		// would never return if the display thread only waited for the workers
+		Object[] children = contentProvider.getChildren(_p1);
+
+		List<String> names = names(children);
+		for (String name : new String[] { "A", "B", "C" }) {
+			assertTrue(name + "0 missing", names.contains(name + "0"));
+		}
+		// let the abandoned queries finish
+		TestConcurrentContentProvider.syncExec = false;
+		DisplayHelper.waitForCondition(Display.getCurrent(), 1000, () -> false);
+	}
+
+	private List<String> getExtensionNames() {
+		List<String> names = new ArrayList<>();
+		for (NavigatorContentExtension extension : ((NavigatorContentService) _contentService)
+				.findContentExtensionsByTriggerPoint(_p1)) {
+			String id = extension.getId();
+			names.add(id.equals(TEST_CONCURRENT_FAILING) ? "F" : id.substring(id.length() - 1).toUpperCase());
+		}
+		return names;
+	}
+
+	private static List<String> sorted(List<String> names) {
+		List<String> copy = new ArrayList<>(names);
+		copy.sort(null);
+		return copy;
+	}
+
+	private static List<String> names(Object[] children) {
+		List<String> names = new ArrayList<>();
+		for (Object child : children) {
+			names.add(child.toString());
+		}
+		return names;
+	}
+}
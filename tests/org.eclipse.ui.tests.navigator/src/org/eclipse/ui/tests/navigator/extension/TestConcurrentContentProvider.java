@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.navigator.extension;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Provides some children for a given resource after a configurable delay,
+ * recording the thread it was asked on.
+ */
+public class TestConcurrentContentProvider extends TestSimpleChildrenContentProvider {
+
+	/**
+	 * Milliseconds to wait before answering, keyed by provider name.
+	 */
+	public static final Map<String, Long> DELAYS = new ConcurrentHashMap<>();
+
+	/**
+	 * The thread of the last request, keyed by provider name.
+	 */
+	public static final Map<String, Thread> THREADS = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether to wait for the display thread before answering.
+	 */
+	public static volatile boolean syncExec;
+
+	public static void resetTest() {
+		DELAYS.clear();
+		THREADS.clear();
+		syncExec = false;
+	}
+
+	@Override
+	public Object[] getChildren(Object parentElement) {
+		THREADS.put(_name, Thread.currentThread());
+		Long delay = DELAYS.get(_name);
+		if (delay != null) {
+			try {
+				Thread.sleep(delay.longValue());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (syncExec) {
+			Display.getDefault().syncExec(() -> {
+				// only wait for the display thread
+			});
+		}
+		return super.getChildren(parentElement);
+	}
+}
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.navigator.extension;
+
+/**
+ * Fails whenever it is asked for children.
+ */
+public class TestConcurrentFailingContentProvider extends TestSimpleChildrenContentProvider {
+
+	public TestConcurrentFailingContentProvider() {
+		_name = "F";
+	}
+
+	@Override
+	public Object[] getChildren(Object parentElement) {
+		throw new IllegalStateException("Expected failure of " + getClass().getSimpleName());
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.navigator.extension;
+
+import java.util.Set;
+
+import org.eclipse.ui.IMemento;
+import org.eclipse.ui.navigator.ICommonContentExtensionSite;
+import org.eclipse.ui.navigator.IPipelinedTreeContentProvider;
+import org.eclipse.ui.navigator.PipelinedShapeModification;
+import org.eclipse.ui.navigator.PipelinedViewerUpdate;
+
+/**
+ * Adds one child to the children of the extension it overrides, recording the
+ * thread it was asked on.
+ */
+public class TestConcurrentPipelineProvider extends TestSimpleChildrenContentProvider
+		implements IPipelinedTreeContentProvider {
+
+	public static final String PIPELINED_CHILD = "P";
+
+	public static volatile Thread pipelineThread;
+
+	public static void resetTest() {
+		pipelineThread = null;
+	}
+
+	public TestConcurrentPipelineProvider() {
+		_name = PIPELINED_CHILD;
+	}
+
+	@Override
+	public Object[] getChildren(Object parentElement) {
+		return new Object[0];
+	}
+
+	@Override
+	public void getPipelinedChildren(Object aParent, Set theCurrentChildren) {
+		pipelineThread = Thread.currentThread();
+		SimpleChild child = new SimpleChild();
+		child._name = PIPELINED_CHILD;
+		child._parent = aParent;
+		theCurrentChildren.add(child);
+	}
+
+	@Override
+	public void getPipelinedElements(Object anInput, Set theCurrentElements) {
+	}
+
+	@Override
+	public Object getPipelinedParent(Object anObject, Object aSuggestedParent) {
+		return aSuggestedParent;
+	}
+
+	@Override
+	public PipelinedShapeModification interceptAdd(PipelinedShapeModification anAddModification) {
+		return anAddModification;
+	}
+
+	@Override
+	public PipelinedShapeModification interceptRemove(PipelinedShapeModification aRemoveModification) {
+		return aRemoveModification;
+	}
+
+	@Override
+	public boolean interceptRefresh(PipelinedViewerUpdate aRefreshSynchronization) {
+		return false;
+	}
+
+	@Override
+	public boolean interceptUpdate(PipelinedViewerUpdate anUpdateSynchronization) {
+		return false;
+	}
+
+	@Override
+	public void init(ICommonContentExtensionSite aConfig) {
+	}
+
+	@Override
+	public void restoreState(IMemento aMemento) {
+	}
+
+	@Override
+	public void saveState(IMemento aMemento) {
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.e4.ui.workbench.renderers.swt.CTabRendering;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.custom.CTabItem;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.Dimension;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Measures the time to paint a tab folder with 50 tabs using the workbench's
+ * tab renderer, changing the selected tab between two paints.
+ */
+@RunWith(Parameterized.class)
+public class CTabRenderingPaintTest extends BasicPerformanceTest {
+
+	private static final int TAB_COUNT = 50;
+
+	private static final int PAINTS = 20;
+
+	private final int cornerRadius;
+
+	private Shell shell;
+
+	private CTabFolder folder;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] { { 0 }, { 16 } });
+	}
+
+	public CTabRenderingPaintTest(int cornerRadius) {
+		super("CTabRendering paint, corner radius " + cornerRadius);
+		this.cornerRadius = cornerRadius;
+	}
+
+	@Test
+	public void test() throws Throwable {
+		tagIfNecessary("UI - CTabRendering paint", Dimension.ELAPSED_PROCESS);
+
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < PAINTS; i++) {
+				folder.setSelection(i % 5);
+				folder.redraw();
+				folder.update();
+			}
+			processEvents();
+			stopMeasuring();
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+
+		Display display = Display.getCurrent();
+		shell = new Shell(display);
+		shell.setSize(1600, 400);
+		shell.setLayout(new FillLayout());
+
+		folder = new CTabFolder(shell, SWT.BORDER);
+		CTabRendering renderer = new CTabRendering(folder);
+		folder.setRenderer(renderer);
+		renderer.setCornerRadius(cornerRadius);
+		renderer.setSelectedTabFill(
+				new Color[] { display.getSystemColor(SWT.COLOR_WHITE), display.getSystemColor(SWT.COLOR_GRAY) },
+				new int[] { 100 });
+		renderer.setTabOutline(display.getSystemColor(SWT.COLOR_DARK_GRAY));
+		renderer.setOuterKeyline(display.getSystemColor(SWT.COLOR_GRAY));
+		for (int i = 0; i < TAB_COUNT; i++) {
+			CTabItem item = new CTabItem(folder, SWT.CLOSE);
+			item.setText("Tab " + i);
+		}
+		folder.setSelection(0);
+		shell.open();
+		processEvents();
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		shell.dispose();
+		super.doTearDown();
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.DecorationOverlayIcon;
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.ui.ISharedImages;
+import org.eclipse.ui.PlatformUI;
+
+/**
+ * Measures decorating 50000 elements with one of 8 combinations of base image
+ * and overlay, creating a new overlay icon for every element like label
+ * decorators do.
+ */
+public class DecorationOverlayIconTest extends BasicPerformanceTest {
+
+	private static final int ELEMENTS = 50000;
+
+	private ImageDescriptor[] bases;
+
+	private ImageDescriptor[] overlays;
+
+	public DecorationOverlayIconTest(String testName) {
+		super(testName);
+	}
+
+	public void testDecorate() throws Throwable {
+		tagIfNecessary("UI - DecorationOverlayIcon", Dimension.ELAPSED_PROCESS);
+
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < ELEMENTS; i++) {
+				ImageDescriptor base = bases[i % bases.length];
+				ImageDescriptor overlay = overlays[(i / bases.length) % overlays.length];
+				ImageData data = new DecorationOverlayIcon(base, overlay, IDecoration.BOTTOM_LEFT).getImageData(100);
+				assertNotNull(data);
+			}
+			stopMeasuring();
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+
+		ISharedImages images = PlatformUI.getWorkbench().getSharedImages();
+		bases = new ImageDescriptor[] { images.getImageDescriptor(ISharedImages.IMG_OBJ_FILE),
+				images.getImageDescriptor(ISharedImages.IMG_OBJ_FOLDER) };
+		overlays = new ImageDescriptor[] { images.getImageDescriptor(ISharedImages.IMG_DEC_FIELD_ERROR),
+				images.getImageDescriptor(ISharedImages.IMG_DEC_FIELD_WARNING),
+				images.getImageDescriptor(ISharedImages.IMG_OBJS_ERROR_TSK),
+				images.getImageDescriptor(ISharedImages.IMG_OBJS_WARN_TSK) };
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.Command;
+import org.eclipse.core.commands.CommandManager;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.core.commands.NotEnabledException;
+import org.eclipse.core.commands.NotHandledException;
+import org.eclipse.core.commands.common.NotDefinedException;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.commands.ICommandService;
+import org.eclipse.ui.handlers.IHandlerActivation;
+import org.eclipse.ui.handlers.IHandlerService;
+
+/**
+ * Measures executing a handler through the handler service while no Java
+ * Flight Recorder recording runs. Handler execution emits a Flight Recorder
+ * event, which must not add measurable cost unless a recording enables it.
+ */
+public class ExecuteHandlerPerformanceTest extends BasicPerformanceTest {
+
+	private static final String COMMAND_ID = "org.eclipse.ui.tests.performance.executeHandler";
+
+	private static final int CALLS = 10_000;
+
+	private Command command;
+
+	private IHandlerService handlerService;
+
+	private IHandlerActivation activation;
+
+	private int executions;
+
+	public ExecuteHandlerPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	public void testExecuteHandler() throws Throwable {
+		tagIfNecessary("UI - Execute handler without Flight Recorder recording", Dimension.ELAPSED_PROCESS);
+
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 0; i < CALLS; i++) {
+				execute();
+			}
+			stopMeasuring();
+		});
+
+		commitMeasurements();
+		assertPerformance();
+		assertTrue(executions >= CALLS);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		ICommandService commandService = PlatformUI.getWorkbench().getService(ICommandService.class);
+		command = commandService.getCommand(COMMAND_ID);
+		command.define("Execute Handler", null,
+				commandService.getCategory(CommandManager.AUTOGENERATED_CATEGORY_ID));
+		handlerService = PlatformUI.getWorkbench().getService(IHandlerService.class);
+		activation = handlerService.activateHandler(COMMAND_ID, new AbstractHandler() {
+			@Override
+			public Object execute(ExecutionEvent event) {
+				executions++;
+				return null;
+			}
+		});
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		if (activation != null) {
+			handlerService.deactivateHandler(activation);
+			activation = null;
+		}
+		if (command != null) {
+			command.undefine();
+		}
+		super.doTearDown();
+	}
+
+	private void execute() {
+		try {
+			handlerService.executeCommand(COMMAND_ID, null);
+		} catch (ExecutionException | NotDefinedException | NotEnabledException | NotHandledException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
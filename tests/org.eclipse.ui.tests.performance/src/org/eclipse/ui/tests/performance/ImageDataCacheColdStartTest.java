@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jface.internal.ImageDataCache;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Measures getting the image data of all icons of the workbench as on a cold
+ * start, once decoding every icon and once reading them from a freshly opened
+ * image data cache.
+ */
+public class ImageDataCacheColdStartTest extends BasicPerformanceTest {
+
+	private static final long MAX_SIZE = 64L * 1024 * 1024;
+
+	private List<URL> icons;
+
+	private File cacheFile;
+
+	public ImageDataCacheColdStartTest(String testName) {
+		super(testName);
+	}
+
+	public void testWithoutCache() throws Throwable {
+		tagIfNecessary("UI - Icons cold start without image data cache", Dimension.ELAPSED_PROCESS);
+
+		exercise(() -> {
+			startMeasuring();
+			for (URL icon : icons) {
+				assertNotNull(decode(icon));
+			}
+			stopMeasuring();
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testWithCache() throws Throwable {
+		tagIfNecessary("UI - Icons cold start with image data cache", Dimension.ELAPSED_PROCESS);
+
+		exercise(() -> {
+			startMeasuring();
+			// a new instance reads the cache file like on the next start
+			ImageDataCache cache = new ImageDataCache(cacheFile, MAX_SIZE);
+			for (URL icon : icons) {
+				assertNotNull(cache.lookup(icon, 100, () -> decode(icon)));
+			}
+			stopMeasuring();
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+
+		Enumeration<URL> entries = Platform.getBundle("org.eclipse.ui").findEntries("icons", "*.png", true);
+		icons = entries == null ? new ArrayList<>() : Collections.list(entries);
+		assertFalse("no icons found", icons.isEmpty());
+
+		cacheFile = new File(Files.createTempDirectory("imagedata").toFile(), "imagedata.cache");
+		ImageDataCache cache = new ImageDataCache(cacheFile, MAX_SIZE);
+		for (URL icon : icons) {
+			cache.lookup(icon, 100, () -> decode(icon));
+		}
+		cache.save();
+		assertTrue("cache not written", cacheFile.isFile());
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		if (cacheFile != null) {
+			File directory = cacheFile.getParentFile();
+			File[] files = directory.listFiles();
+			if (files != null) {
+				for (File file : files) {
+					file.delete();
+				}
+			}
+			directory.delete();
+		}
+		super.doTearDown();
+	}
+
+	private static ImageData decode(URL icon) {
+		try (InputStream in = icon.openStream()) {
+			return new ImageData(in);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
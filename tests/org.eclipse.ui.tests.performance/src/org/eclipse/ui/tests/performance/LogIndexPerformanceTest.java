@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.ui.internal.views.log.LogIndex;
+import org.eclipse.ui.internal.views.log.RangesInputStream;
+
+/**
+ * Measures the record index of the Error Log on a synthetic log file of 1 GB:
+ * indexing the whole file, indexing appended entries and finding and reading
+ * the entries of a plug-in in a time range.
+ */
+public class LogIndexPerformanceTest extends BasicPerformanceTest {
+
+	private static final long LOG_SIZE = 1024L * 1024 * 1024;
+
+	private static final String[] PLUGINS = { "org.eclipse.ui", "org.eclipse.core.resources", "org.eclipse.jdt.core",
+			"org.eclipse.team.core", "org.eclipse.osgi" };
+
+	private static final int[] SEVERITIES = { 4, 2, 1, 4, 0 };
+
+	private static final int ENTRIES_PER_SECOND = 100;
+
+	private static final int ENTRIES_PER_SESSION = 100_000;
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	private File logFile;
+
+	private int entryCount;
+
+	private long written;
+
+	public LogIndexPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	public void testIndexWholeLog() throws Throwable {
+		tagIfNecessary("UI - Error Log index of a 1 GB log", Dimension.ELAPSED_PROCESS);
+
+		exercise(() -> {
+			startMeasuring();
+			LogIndex.Snapshot snapshot = update(new LogIndex(logFile));
+			stopMeasuring();
+			assertEquals(entryCount + (entryCount - 1) / ENTRIES_PER_SESSION + 1, snapshot.size());
+		}, 3, 5, 60_000);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testIndexAppendedEntries() throws Throwable {
+		tagIfNecessary("UI - Error Log index of entries appended to a 1 GB log", Dimension.ELAPSED_PROCESS);
+		LogIndex index = new LogIndex(logFile);
+		update(index);
+
+		exercise(() -> {
+			append(100);
+			startMeasuring();
+			LogIndex.Snapshot snapshot = update(index);
+			stopMeasuring();
+			assertEquals(logFile.length(), snapshot.getLength());
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testFindEntriesOfPluginInTimeRange() throws Throwable {
+		tagIfNecessary("UI - Error Log search by plug-in and time in a 1 GB log", Dimension.ELAPSED_PROCESS);
+		LogIndex.Snapshot snapshot = update(new LogIndex(logFile));
+		// ten minutes in the middle of the log
+		long from = START.plusSeconds(entryCount / ENTRIES_PER_SECOND / 2).atZone(ZoneId.systemDefault()).toInstant()
+				.toEpochMilli();
+		long to = from + 10 * 60 * 1000;
+		byte[] buffer = new byte[64 * 1024];
+
+		exercise(() -> {
+			startMeasuring();
+			int[] records = snapshot.findEntries(PLUGINS[1], from, to);
+			try (InputStream in = new RangesInputStream(logFile, snapshot.getRanges(records))) {
+				while (in.read(buffer) >= 0) {
+					// read the entries like the Error Log does
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			stopMeasuring();
+			assertTrue("no entries found", records.length > 0);
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		logFile = File.createTempFile("performance", ".log");
+		entryCount = 0;
+		written = 0;
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(logFile.toPath()), 1024 * 1024)) {
+			while (written < LOG_SIZE) {
+				writeEntry(out);
+			}
+		}
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		if (logFile != null) {
+			logFile.delete();
+		}
+		super.doTearDown();
+	}
+
+	private void writeEntry(OutputStream out) throws IOException {
+		StringBuilder builder = new StringBuilder(1024);
+		String date = START.plusSeconds(entryCount / ENTRIES_PER_SECOND).format(DATE_FORMAT);
+		if (entryCount % ENTRIES_PER_SESSION == 0) {
+			builder.append("!SESSION ").append(date).append(" -----------------------------------------------\n");
+			builder.append("eclipse.buildId=unknown\njava.version=17\n\n");
+		}
+		int kind = entryCount % PLUGINS.length;
+		builder.append("!ENTRY ").append(PLUGINS[kind]).append(' ');
+		if (kind < PLUGINS.length - 1) {
+			builder.append(SEVERITIES[kind]).append(" 0 ");
+		}
+		builder.append(date).append('\n');
+		builder.append("!MESSAGE Synthetic entry ").append(entryCount).append('\n');
+		builder.append("!STACK 0\njava.lang.IllegalStateException: entry ").append(entryCount).append('\n');
+		for (int i = 0; i < 15; i++) {
+			builder.append("\tat org.eclipse.ui.tests.performance.Synthetic.method").append(i)
+					.append("(Synthetic.java:").append(i + 1).append(")\n");
+		}
+		builder.append('\n');
+		byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+		out.write(bytes);
+		written += bytes.length;
+		entryCount++;
+	}
+
+	private void append(int entries) {
+		try (OutputStream out = new BufferedOutputStream(
+				Files.newOutputStream(logFile.toPath(), StandardOpenOption.APPEND))) {
+			for (int i = 0; i < entries; i++) {
+				writeEntry(out);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static LogIndex.Snapshot update(LogIndex index) {
+		try {
+			return index.update();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
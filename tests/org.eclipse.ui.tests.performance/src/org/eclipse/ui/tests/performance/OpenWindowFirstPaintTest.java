@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Measures the time from opening a workbench window until it first paints,
+ * with and without deferring the creation of the parts of inactive stacks.
+ * The window is closed outside of the measurement, see
+ * {@link OpenCloseWindowTest} for opening and closing together.
+ */
+@RunWith(Parameterized.class)
+public class OpenWindowFirstPaintTest extends BasicPerformanceTest {
+
+	private static final String DEFER_PART_CREATION = "org.eclipse.e4.ui.workbench.deferPartCreation"; //$NON-NLS-1$
+
+	private static final long PAINT_TIMEOUT_MILLIS = 30000;
+
+	private final String id;
+
+	private final boolean defer;
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		return Arrays.asList(new Object[][] { { UIPerformanceTestSetup.PERSPECTIVE1, false },
+				{ UIPerformanceTestSetup.PERSPECTIVE1, true }, { "org.eclipse.ui.resourcePerspective", false },
+				{ "org.eclipse.ui.resourcePerspective", true }, { "org.eclipse.jdt.ui.JavaPerspective", false },
+				{ "org.eclipse.jdt.ui.JavaPerspective", true } });
+	}
+
+	public OpenWindowFirstPaintTest(String id, boolean defer) {
+		super("testOpenWindowFirstPaint:" + id + (defer ? ":deferred" : ""), BasicPerformanceTest.NONE);
+		this.id = id;
+		this.defer = defer;
+	}
+
+	@Test
+	public void test() throws Throwable {
+		tagIfNecessary("UI - Open Window First Paint", Dimension.ELAPSED_PROCESS);
+
+		exercise(() -> {
+			processEvents();
+			EditorTestHelper.calmDown(500, 30000, 500);
+
+			Display display = Display.getCurrent();
+			List<Shell> existing = Arrays.asList(display.getShells());
+			boolean[] painted = new boolean[1];
+			Listener paintFilter = event -> {
+				if (event.widget instanceof Control && !existing.contains(((Control) event.widget).getShell())) {
+					painted[0] = true;
+				}
+			};
+			display.addFilter(SWT.Paint, paintFilter);
+			IWorkbenchWindow window;
+			try {
+				startMeasuring();
+				window = openTestWindow(id);
+				long deadline = System.currentTimeMillis() + PAINT_TIMEOUT_MILLIS;
+				while (!painted[0] && System.currentTimeMillis() < deadline) {
+					if (!display.readAndDispatch()) {
+						// wake up again in case no paint is pending
+						display.timerExec(10, () -> {
+						});
+						display.sleep();
+					}
+				}
+				stopMeasuring();
+			} finally {
+				display.removeFilter(SWT.Paint, paintFilter);
+			}
+			assertTrue("Window not painted", painted[0]);
+
+			processEvents();
+			window.close();
+			processEvents();
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		if (defer) {
+			System.setProperty(DEFER_PART_CREATION, Boolean.TRUE.toString());
+		}
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		System.clearProperty(DEFER_PART_CREATION);
+		super.doTearDown();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,13 +38,19 @@ public class UIPerformanceTestSuite extends FilteredTestSuite {
 		addTest(new JUnit4TestAdapter(OpenClosePerspectiveTest.class));
 		addTest(new JUnit4TestAdapter(PerspectiveSwitchTest.class));
 		addTest(new JUnit4TestAdapter(OpenCloseWindowTest.class));
+		addTest(new JUnit4TestAdapter(OpenWindowFirstPaintTest.class));
 		addTest(new ViewPerformanceSuite());
 		addTest(new JUnit4TestAdapter(OpenCloseEditorTest.class));
 		addTest(new JUnit4TestAdapter(OpenMultipleEditorTest.class));
 		addTest(new JUnit4TestAdapter(EditorSwitchTest.class));
 		addTestSuite(CommandsPerformanceTest.class);
+		addTestSuite(ExecuteHandlerPerformanceTest.class);
 		addTest(new JUnit4TestAdapter(LabelProviderTest.class));
 		addTestSuite(ProgressReportingTest.class);
 		addTestSuite(OpenProjectExplorerFolderTest.class);
+		addTest(new JUnit4TestAdapter(CTabRenderingPaintTest.class));
+		addTestSuite(DecorationOverlayIconTest.class);
+		addTestSuite(ImageDataCacheColdStartTest.class);
+		addTestSuite(LogIndexPerformanceTest.class);
 	}
 }
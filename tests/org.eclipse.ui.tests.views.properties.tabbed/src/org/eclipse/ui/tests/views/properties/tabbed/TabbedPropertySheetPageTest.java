@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,15 @@
 package org.eclipse.ui.tests.views.properties.tabbed;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeNode;
@@ -27,14 +32,18 @@ import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.views.properties.tabbed.view.TabbedPropertyComposite;
+import org.eclipse.ui.internal.views.properties.tabbed.view.TabbedPropertyRegistryClassSectionFilter;
 import org.eclipse.ui.tests.views.properties.tabbed.sections.InformationTwoSection;
 import org.eclipse.ui.tests.views.properties.tabbed.sections.NameSection;
 import org.eclipse.ui.tests.views.properties.tabbed.views.TestsPerspective;
 import org.eclipse.ui.tests.views.properties.tabbed.views.TestsView;
 import org.eclipse.ui.tests.views.properties.tabbed.views.TestsViewContentProvider;
+import org.eclipse.ui.views.properties.tabbed.AbstractSectionDescriptor;
 import org.eclipse.ui.views.properties.tabbed.ISection;
+import org.eclipse.ui.views.properties.tabbed.ISectionDescriptor;
 import org.eclipse.ui.views.properties.tabbed.ITabDescriptor;
 import org.eclipse.ui.views.properties.tabbed.TabContents;
+import org.eclipse.ui.views.properties.tabbed.TabbedPropertySheetPage;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -190,6 +199,66 @@ public class TabbedPropertySheetPageTest
 		assertEquals(InformationTwoSection.class, sections[1].getClass());
 	}
 
+	/**
+	 * When Information Nodes of the same type are selected one after the other,
+	 * the filter of the InformationTwoSection is still evaluated for each
+	 * node.
+	 */
+	@Test
+	public void test_sectionFilterForSameTypes() {
+		setSelection(new TreeNode[] {treeNodes[1]});
+		assertEquals(2, testsView.getTabbedPropertySheetPage().getCurrentTab().getSections().length);
+
+		setSelection(new TreeNode[] {treeNodes[0]});
+		ITabDescriptor[] tabDescriptors = testsView.getTabbedPropertySheetPage().getActiveTabs();
+		assertEquals("Name", tabDescriptors[0].getLabel());//$NON-NLS-1$
+		assertEquals(3, tabDescriptors.length);
+		assertEquals(1, testsView.getTabbedPropertySheetPage().getCurrentTab().getSections().length);
+
+		setSelection(new TreeNode[] {treeNodes[1]});
+		assertEquals(2, testsView.getTabbedPropertySheetPage().getCurrentTab().getSections().length);
+	}
+
+	/**
+	 * The class types of a subclass of the class section filter decide which
+	 * sections apply.
+	 */
+	@Test
+	public void test_classTypesOverride() {
+		ISectionDescriptor descriptor = new AbstractSectionDescriptor() {
+			@Override
+			public String getId() {
+				return "test.section"; //$NON-NLS-1$
+			}
+
+			@Override
+			public List<String> getInputTypes() {
+				return List.of("test.Type"); //$NON-NLS-1$
+			}
+
+			@Override
+			public ISection getSectionClass() {
+				return null;
+			}
+
+			@Override
+			public String getTargetTab() {
+				return "test.tab"; //$NON-NLS-1$
+			}
+		};
+		TabbedPropertyRegistryClassSectionFilter filter = new TabbedPropertyRegistryClassSectionFilter(null) {
+			@Override
+			protected ArrayList<String> getClassTypes(Class<?> target) {
+				ArrayList<String> types = super.getClassTypes(target);
+				types.add("test.Type"); //$NON-NLS-1$
+				return types;
+			}
+		};
+		StructuredSelection selection = new StructuredSelection(treeNodes[0]);
+		assertTrue(filter.appliesToSelection(descriptor, selection));
+		assertFalse(new TabbedPropertyRegistryClassSectionFilter(null).appliesToSelection(descriptor, selection));
+	}
+
 	/**
 	 * When Information, Error and Warning Nodes are selected, only the Message
 	 * tab displays. Tests input attribute.
@@ -313,6 +382,31 @@ public class TabbedPropertySheetPageTest
 		assertEquals(1, ((TabbedPropertyComposite) testsView.getTabbedPropertySheetPage().getControl()).getList().getWidestLabelIndex());
 	}
 
+	/**
+	 * When tabs are retained, selecting an Information Node again after a File
+	 * Node reuses the tab created for the first Information Node.
+	 */
+	@Test
+	public void test_retainedTabs() {
+		TabbedPropertySheetPage page = testsView.getTabbedPropertySheetPage();
+		page.setRetainedTabCount(10);
+		try {
+			setSelection(new TreeNode[] {treeNodes[0]});
+			TabContents nameTab = page.getCurrentTab();
+			assertEquals("Name", page.getSelectedTab().getLabel());//$NON-NLS-1$
+
+			setSelection(new TreeNode[] {treeNodes[4]});
+			assertEquals("Resource", page.getSelectedTab().getLabel());//$NON-NLS-1$
+
+			setSelection(new TreeNode[] {treeNodes[0]});
+			assertEquals("Name", page.getSelectedTab().getLabel());//$NON-NLS-1$
+			assertSame(nameTab, page.getCurrentTab());
+			assertTrue(nameTab.controlsHaveBeenCreated());
+		} finally {
+			page.setRetainedTabCount(0);
+		}
+	}
+
 	/**
 	 * When File, Folder and Project Nodes are selected, only the Resource tab
 	 * displays. Tests input attribute.
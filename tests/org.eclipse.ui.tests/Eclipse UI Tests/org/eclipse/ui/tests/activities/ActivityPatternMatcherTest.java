@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.activities;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.ui.activities.IActivityPatternBinding;
+import org.eclipse.ui.internal.activities.ActivityPatternBinding;
+import org.eclipse.ui.internal.activities.ActivityPatternMatcher;
+import org.junit.Test;
+
+/**
+ * Tests that the combined matcher finds the same activities as running every
+ * pattern binding.
+ */
+public class ActivityPatternMatcherTest {
+
+	@Test
+	public void testLiteralPrefix() {
+		assertEquals("org.eclipse.jdt.", ActivityPatternMatcher.literalPrefix(Pattern.compile("org\\.eclipse\\.jdt\\..*")));
+		assertEquals("org", ActivityPatternMatcher.literalPrefix(Pattern.compile("org.eclipse.*")));
+		assertEquals("a", ActivityPatternMatcher.literalPrefix(Pattern.compile("ab?c")));
+		assertEquals("abc", ActivityPatternMatcher.literalPrefix(Pattern.compile("abc+d")));
+		assertEquals("", ActivityPatternMatcher.literalPrefix(Pattern.compile("abc|def")));
+		assertEquals("", ActivityPatternMatcher.literalPrefix(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)));
+		assertEquals("", ActivityPatternMatcher.literalPrefix(Pattern.compile("\\Qabc\\E")));
+	}
+
+	@Test
+	public void testMatchesLikeBindings() {
+		Map<String, Set<IActivityPatternBinding>> bindings = new HashMap<>();
+		add(bindings, new ActivityPatternBinding("jdt", "org\\.eclipse\\.jdt\\..*", false));
+		add(bindings, new ActivityPatternBinding("jdt", "org\\.eclipse\\.jdt\\.ui/.*", false));
+		add(bindings, new ActivityPatternBinding("debug", "org\\.eclipse\\.(debug|jdt\\.debug)\\..*", false));
+		add(bindings, new ActivityPatternBinding("any", ".*/view\\..*", false));
+		add(bindings, new ActivityPatternBinding("exact", "org.eclipse.ui/wizard.new", true));
+		add(bindings, new ActivityPatternBinding("exact", "org.eclipse.ui/wizard.*", true));
+
+		ActivityPatternMatcher matcher = new ActivityPatternMatcher(bindings);
+		String[] identifiers = { "org.eclipse.jdt.ui/view.packages", "org.eclipse.jdt.debug.ui/launch",
+				"org.eclipse.debug.ui/view.breakpoints", "org.eclipse.ui/wizard.new", "org.eclipse.ui/wizard.x",
+				"org.eclipse.ui/wizard.*", "org.eclipse", "" };
+		for (String identifier : identifiers) {
+			assertEquals(identifier, matchAll(bindings, identifier), matcher.getMatchingActivityIds(identifier));
+			// again from the cache
+			assertEquals(identifier, matchAll(bindings, identifier), matcher.getMatchingActivityIds(identifier));
+		}
+	}
+
+	private static void add(Map<String, Set<IActivityPatternBinding>> bindings, ActivityPatternBinding binding) {
+		bindings.computeIfAbsent(binding.getActivityId(), id -> new HashSet<>()).add(binding);
+	}
+
+	private static Set<String> matchAll(Map<String, Set<IActivityPatternBinding>> bindings, String identifier) {
+		Set<String> activityIds = new HashSet<>();
+		bindings.forEach((activityId, activityBindings) -> {
+			for (IActivityPatternBinding binding : activityBindings) {
+				if (((ActivityPatternBinding) binding).isMatch(identifier)) {
+					activityIds.add(activityId);
+				}
+			}
+		});
+		return activityIds;
+	}
+}
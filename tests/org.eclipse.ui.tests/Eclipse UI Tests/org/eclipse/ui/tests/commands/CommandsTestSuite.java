@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2019 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ import org.junit.runners.Suite;
 	CommandEnablementTest.class,
 	ActionDelegateProxyTest.class,
 	ToggleStateTest.class,
+	FlightRecorderTest.class,
 	RadioStateTest.class,
 })
 public final class CommandsTestSuite {
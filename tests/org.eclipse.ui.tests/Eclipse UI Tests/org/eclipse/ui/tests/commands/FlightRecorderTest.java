@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.handlers.IHandlerActivation;
+import org.eclipse.ui.handlers.IHandlerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests the Java Flight Recorder event of handler execution. The timing of the
+ * path without a recording is measured in
+ * <code>org.eclipse.ui.tests.performance</code>.
+ */
+public class FlightRecorderTest {
+
+	// you can find this command in org.eclipse.ui.tests/plugin.xml
+	private static final String COMMAND_ID = "tests.commands.CCT.cmd1";
+
+	private static final String EXECUTE_HANDLER = "org.eclipse.e4.core.commands.ExecuteHandler";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private IHandlerService handlerService;
+
+	private IHandlerActivation activation;
+
+	private int executions;
+
+	@Before
+	public void doSetUp() {
+		assumeTrue("jdk.jfr is not available", isFlightRecorderAvailable());
+		handlerService = PlatformUI.getWorkbench().getService(IHandlerService.class);
+		activation = handlerService.activateHandler(COMMAND_ID, new AbstractHandler() {
+			@Override
+			public Object execute(ExecutionEvent event) {
+				executions++;
+				return null;
+			}
+		});
+	}
+
+	@After
+	public void doTearDown() {
+		if (activation != null) {
+			handlerService.deactivateHandler(activation);
+			activation = null;
+		}
+	}
+
+	@Test
+	public void testExecuteHandlerRecorded() throws Exception {
+		Path file = folder.newFile("enabled.jfr").toPath();
+		try (Recording recording = new Recording()) {
+			recording.enable(EXECUTE_HANDLER).withoutThreshold();
+			recording.start();
+			handlerService.executeCommand(COMMAND_ID, null);
+			recording.stop();
+			recording.dump(file);
+		}
+		assertEquals(1, executions);
+
+		List<RecordedEvent> events = readEvents(file);
+		assertEquals(1, events.size());
+		assertEquals(COMMAND_ID, events.get(0).getString("commandId"));
+	}
+
+	@Test
+	public void testExecuteHandlerNotRecordedWhenDisabled() throws Exception {
+		Path file = folder.newFile("disabled.jfr").toPath();
+		try (Recording recording = new Recording()) {
+			recording.disable(EXECUTE_HANDLER);
+			recording.start();
+			handlerService.executeCommand(COMMAND_ID, null);
+			recording.stop();
+			recording.dump(file);
+		}
+		assertEquals(1, executions);
+		assertEquals(0, readEvents(file).size());
+	}
+
+	@Test
+	public void testExecuteHandlerWithoutRecording() throws Exception {
+		handlerService.executeCommand(COMMAND_ID, null);
+		handlerService.executeCommand(COMMAND_ID, null);
+		assertEquals(2, executions);
+	}
+
+	private static List<RecordedEvent> readEvents(Path file) throws IOException {
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		events.removeIf(e -> !e.getEventType().getName().equals(EXECUTE_HANDLER));
+		return events;
+	}
+
+	private static boolean isFlightRecorderAvailable() {
+		try {
+			Class.forName("jdk.jfr.Recording", false, FlightRecorderTest.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2017 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@
 
 package org.eclipse.ui.tests.filteredtree;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.tests.viewers.TestElement;
@@ -133,6 +135,45 @@ public class FilteredTreeTests extends UITestCase {
 		dialog.close();
 	}
 
+	/*
+	 * Tests that the labels are not computed again when highlighting the
+	 * matching elements with the same pattern.
+	 */
+	@Test
+	public void testBoldFontOfMatchingElements() {
+		Dialog dialog = createFilteredTreeDialog();
+		AtomicInteger labelCount = new AtomicInteger();
+		fTreeViewer.getViewer().setLabelProvider(new LabelProvider() {
+			@Override
+			public String getText(Object element) {
+				labelCount.incrementAndGet();
+				return super.getText(element);
+			}
+		});
+		fTreeViewer.getFilterControl().setText("0-0-0-0 name-*");
+		applyPattern("0-0-0-0 name-*");
+
+		int boldCount = countBoldElements(fRootElement);
+		assertTrue("No element is highlighted", boldCount > 0);
+
+		labelCount.set(0);
+		assertEquals(boldCount, countBoldElements(fRootElement));
+		assertEquals("Labels were computed again", 0, labelCount.get());
+
+		dialog.close();
+	}
+
+	private int countBoldElements(TestElement element) {
+		int count = 0;
+		for (TestElement child : element.getChildren()) {
+			if (FilteredTree.getBoldFont(child, fTreeViewer, fTreeViewer.getPatternFilter()) != null) {
+				count++;
+			}
+			count += countBoldElements(child);
+		}
+		return count;
+	}
+
 	private void runFilteredTreeTest(final int treeStyle){
 		Dialog dialog = createFilteredTreeDialog(treeStyle);
 
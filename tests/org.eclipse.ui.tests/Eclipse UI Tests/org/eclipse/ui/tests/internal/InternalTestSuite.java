@@ -65,6 +65,7 @@ import org.junit.runners.Suite;
 	Bug540297WorkbenchPageFindViewTest.class,
 	Bug549139Test.class,
 	LargeFileLimitsPreferenceHandlerTest.class,
+	LogIndexTest.class,
 	WorkbookEditorsHandlerTest.class,
 })
 public class InternalTestSuite {}
@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.ui.internal.views.log.LogIndex;
+import org.eclipse.ui.internal.views.log.RangesInputStream;
+import org.eclipse.ui.internal.views.log.TailInputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the record index and the streams the Error Log reads the log file
+ * through.
+ */
+public class LogIndexTest {
+
+	private static final String SESSION = "!SESSION 2026-10-19 10:00:00.000 ----------------------\n"
+			+ "eclipse.buildId=unknown\n";
+
+	private static final String ERROR = "!ENTRY org.eclipse.ui 4 0 2026-10-19 10:00:01.000\n"
+			+ "!MESSAGE An error\n" + "!STACK 0\n" + "java.lang.Exception\n" + "\tat Foo.bar(Foo.java:1)\n";
+
+	private static final String WARNING = "!ENTRY org.eclipse.ui 2 0 2026-10-19 10:00:02.000\n"
+			+ "!MESSAGE A warning\n";
+
+	private static final String MULTI = "!ENTRY org.eclipse.ui 4 0 2026-10-19 10:00:03.000\n"
+			+ "!MESSAGE Several problems\n" + "!SUBENTRY 1 org.eclipse.ui 4 0 2026-10-19 10:00:03.000\n"
+			+ "!MESSAGE A child problem\n";
+
+	private static final String FRAMEWORK = "!ENTRY org.eclipse.osgi 2026-10-19 10:00:04.000\n"
+			+ "!MESSAGE A framework event\n";
+
+	private static final String OTHER = "!ENTRY org.eclipse.core.resources 4 0 2026-10-19 11:00:00.000\r\n"
+			+ "!MESSAGE An error in another plug-in\r\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = folder.newFile(".log");
+	}
+
+	@Test
+	public void testRecordBoundaries() throws IOException {
+		String content = SESSION + ERROR + WARNING + MULTI + FRAMEWORK;
+		write(content);
+		LogIndex.Snapshot index = new LogIndex(file).update();
+
+		assertEquals(5, index.size());
+		assertEquals(content.length(), index.getLength());
+		assertRecord(index, 0, content.indexOf("!SESSION"), LogIndex.SESSION, LogIndex.NO_SEVERITY);
+		assertRecord(index, 1, SESSION.length(), LogIndex.ENTRY, (byte) IStatus.ERROR);
+		assertRecord(index, 2, (SESSION + ERROR).length(), LogIndex.ENTRY, (byte) IStatus.WARNING);
+		// sub entries are part of their entry
+		assertRecord(index, 3, (SESSION + ERROR + WARNING).length(), LogIndex.ENTRY, (byte) IStatus.ERROR);
+		assertRecord(index, 4, (SESSION + ERROR + WARNING + MULTI).length(), LogIndex.ENTRY,
+				LogIndex.NO_SEVERITY);
+		assertEquals(content.length(), index.getEnd(4));
+		assertEquals(3, index.findRecord(SESSION.length() + ERROR.length() + 1));
+	}
+
+	@Test
+	public void testPluginAndTime() throws IOException {
+		write(SESSION + ERROR + FRAMEWORK + OTHER + "!ENTRY org.eclipse.ui 4 0 no date\n");
+		LogIndex.Snapshot index = new LogIndex(file).update();
+
+		assertEquals(5, index.size());
+		assertNull(index.getPluginId(0));
+		assertEquals(time("2026-10-19T10:00:00.000"), index.getTime(0));
+		assertEquals("org.eclipse.ui", index.getPluginId(1));
+		assertEquals(time("2026-10-19T10:00:01.000"), index.getTime(1));
+		assertEquals("org.eclipse.osgi", index.getPluginId(2));
+		assertEquals(time("2026-10-19T10:00:04.000"), index.getTime(2));
+		assertEquals("org.eclipse.core.resources", index.getPluginId(3));
+		assertEquals((byte) IStatus.ERROR, index.getSeverity(3));
+		assertEquals(time("2026-10-19T11:00:00.000"), index.getTime(3));
+		assertEquals(LogIndex.NO_TIME, index.getTime(4));
+	}
+
+	@Test
+	public void testFindEntries() throws IOException {
+		write(SESSION + ERROR + WARNING + OTHER + FRAMEWORK + SESSION + WARNING + OTHER);
+		LogIndex.Snapshot index = new LogIndex(file).update();
+
+		assertArrayEquals(new int[] { 1, 2, 3, 4, 6, 7 }, index.findEntries(null, Long.MIN_VALUE, Long.MAX_VALUE));
+		assertArrayEquals(new int[] { 1, 2, 6 }, index.findEntries("org.eclipse.ui", Long.MIN_VALUE, Long.MAX_VALUE));
+		assertArrayEquals(new int[] { 3, 7 },
+				index.findEntries("org.eclipse.core.resources", Long.MIN_VALUE, Long.MAX_VALUE));
+		assertArrayEquals(new int[0], index.findEntries("org.eclipse.unknown", Long.MIN_VALUE, Long.MAX_VALUE));
+		assertArrayEquals(new int[] { 2, 4, 6 },
+				index.findEntries(null, time("2026-10-19T10:00:02.000"), time("2026-10-19T10:30:00.000")));
+		assertArrayEquals(new int[] { 2, 6 }, index.findEntries("org.eclipse.ui", time("2026-10-19T10:00:02.000"),
+				time("2026-10-19T11:00:00.000")));
+	}
+
+	@Test
+	public void testSeverityFiltering() throws IOException {
+		write(SESSION + ERROR + WARNING + WARNING + MULTI + WARNING);
+		LogIndex.Snapshot index = new LogIndex(file).update();
+
+		int[] records = new int[index.size()];
+		int count = 0;
+		for (int i = 0; i < index.size(); i++) {
+			if (index.getSeverity(i) != IStatus.WARNING) {
+				records[count++] = i;
+			}
+		}
+		long[] ranges = index.getRanges(Arrays.copyOf(records, count));
+		assertEquals(4, ranges.length);
+		assertEquals(SESSION + ERROR + MULTI, read(new RangesInputStream(file, ranges)));
+		assertEquals("", read(new RangesInputStream(file, new long[0])));
+	}
+
+	@Test
+	public void testAppendedTail() throws IOException {
+		write(SESSION + ERROR);
+		LogIndex index = new LogIndex(file);
+		assertEquals(2, index.update().size());
+
+		// an incomplete line is indexed once it is complete
+		String partial = "!ENTRY org.eclipse.ui 2 0";
+		append(partial);
+		assertEquals(2, index.update().size());
+
+		append(WARNING.substring(partial.length()) + MULTI);
+		LogIndex.Snapshot snapshot = index.update();
+		assertEquals(4, snapshot.size());
+		assertEquals(0, snapshot.getOffset(0));
+		assertEquals(SESSION.length(), snapshot.getOffset(1));
+		assertRecord(snapshot, 2, (SESSION + ERROR).length(), LogIndex.ENTRY, (byte) IStatus.WARNING);
+		assertRecord(snapshot, 3, (SESSION + ERROR + WARNING).length(), LogIndex.ENTRY, (byte) IStatus.ERROR);
+	}
+
+	@Test
+	public void testWholeFileIndexed() throws IOException {
+		// more records than fit into the initial arrays and more bytes than the buffer
+		StringBuilder content = new StringBuilder(SESSION);
+		for (int i = 0; i < 1000; i++) {
+			content.append(i % 2 == 0 ? ERROR : OTHER);
+		}
+		write(content.toString());
+		LogIndex.Snapshot index = new LogIndex(file).update();
+
+		assertEquals(1001, index.size());
+		assertRecord(index, 0, 0, LogIndex.SESSION, LogIndex.NO_SEVERITY);
+		assertRecord(index, 1000, content.length() - OTHER.length(), LogIndex.ENTRY, (byte) IStatus.ERROR);
+		assertEquals(500, index.findEntries("org.eclipse.core.resources", Long.MIN_VALUE, Long.MAX_VALUE).length);
+	}
+
+	@Test
+	public void testSnapshotUnchangedByUpdate() throws IOException {
+		write(SESSION + ERROR);
+		LogIndex index = new LogIndex(file);
+		LogIndex.Snapshot first = index.update();
+		assertSame(first, index.update());
+
+		append(WARNING);
+		LogIndex.Snapshot appended = index.update();
+		assertEquals(3, appended.size());
+		assertEquals(2, first.size());
+		assertEquals((SESSION + ERROR).length(), first.getLength());
+		assertEquals((SESSION + ERROR).length(), first.getEnd(1));
+
+		// a rebuilt index does not touch the records of older snapshots
+		write(OTHER);
+		LogIndex.Snapshot replaced = index.update();
+		assertEquals(1, replaced.size());
+		assertEquals("org.eclipse.core.resources", replaced.getPluginId(0));
+		assertRecord(appended, 2, (SESSION + ERROR).length(), LogIndex.ENTRY, (byte) IStatus.WARNING);
+		assertEquals("org.eclipse.ui", appended.getPluginId(2));
+	}
+
+	@Test
+	public void testTruncation() throws IOException {
+		write(SESSION + ERROR + WARNING + MULTI);
+		LogIndex index = new LogIndex(file);
+		assertEquals(4, index.update().size());
+
+		write(WARNING);
+		LogIndex.Snapshot snapshot = index.update();
+		assertEquals(1, snapshot.size());
+		assertRecord(snapshot, 0, 0, LogIndex.ENTRY, (byte) IStatus.WARNING);
+
+		write("");
+		assertEquals(0, index.update().size());
+	}
+
+	@Test
+	public void testReplacedWithSameLength() throws IOException {
+		write(ERROR + WARNING);
+		LogIndex index = new LogIndex(file);
+		index.update();
+		FileTime modified = Files.getLastModifiedTime(file.toPath());
+
+		write(WARNING + ERROR);
+		Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(modified.toMillis() + 10_000));
+		LogIndex.Snapshot snapshot = index.update();
+		assertEquals(2, snapshot.size());
+		assertRecord(snapshot, 0, 0, LogIndex.ENTRY, (byte) IStatus.WARNING);
+		assertRecord(snapshot, 1, WARNING.length(), LogIndex.ENTRY, (byte) IStatus.ERROR);
+	}
+
+	@Test
+	public void testReplacedByLongerFile() throws IOException {
+		write(ERROR);
+		LogIndex index = new LogIndex(file);
+		index.update();
+
+		// the indexed part no longer ends with a line end
+		String text = "x".repeat(ERROR.length() + 5) + "\n";
+		write(text + WARNING);
+		LogIndex.Snapshot snapshot = index.update();
+		assertEquals(1, snapshot.size());
+		assertRecord(snapshot, 0, text.length(), LogIndex.ENTRY, (byte) IStatus.WARNING);
+	}
+
+	@Test
+	public void testTailInputStreamReadsUnsignedBytes() throws IOException {
+		byte[] bytes = "\u00e9\n".getBytes(StandardCharsets.UTF_8);
+		Files.write(file.toPath(), bytes);
+		try (InputStream in = new TailInputStream(file, bytes.length)) {
+			for (byte b : bytes) {
+				int read = in.read();
+				assertTrue(read >= 0);
+				assertEquals(b & 0xff, read);
+			}
+			assertEquals(-1, in.read());
+		}
+	}
+
+	private static void assertRecord(LogIndex.Snapshot index, int record, long offset, byte kind, byte severity) {
+		assertEquals("offset of record " + record, offset, index.getOffset(record));
+		assertEquals("kind of record " + record, kind, index.getKind(record));
+		assertEquals("severity of record " + record, severity, index.getSeverity(record));
+	}
+
+	private static long time(String localTime) {
+		return LocalDateTime.parse(localTime).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private void write(String content) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void append(String content) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+	}
+
+	private static String read(InputStream in) throws IOException {
+		try (InputStream stream = in) {
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.ui.tests.progress;
 
 import static org.junit.Assert.assertArrayEquals;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,11 +26,17 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.ScrolledComposite;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.internal.progress.DetailedProgressViewer;
 import org.eclipse.ui.internal.progress.FinishedJobs;
 import org.eclipse.ui.internal.progress.JobInfo;
 import org.eclipse.ui.internal.progress.JobTreeElement;
 import org.eclipse.ui.internal.progress.ProgressInfoItem;
+import org.eclipse.ui.internal.progress.ProgressManager;
 import org.eclipse.ui.internal.progress.TaskInfo;
 import org.eclipse.ui.progress.IProgressConstants;
 import org.eclipse.ui.tests.TestPlugin;
@@ -198,6 +205,90 @@ public class ProgressViewTests extends ProgressTestCase {
 		}
 	}
 
+	@Test
+	public void testShortLivedJobsAreNotShown() throws Exception {
+		openProgressView();
+		ProgressManager progressManager = ProgressManager.getInstance();
+		long suppressedBefore = progressManager.getSuppressedJobCount();
+		// the UI thread blocks in join() below and cannot send the updates
+		// before all jobs are done, so any of them is short lived enough
+		progressManager.setVisibilityThreshold(Duration.ofHours(1));
+		try {
+			ArrayList<Job> jobs = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				Job job = Job.create("Short lived job " + i, monitor -> Status.OK_STATUS);
+				jobs.add(job);
+				job.schedule();
+			}
+			for (Job job : jobs) {
+				job.join();
+			}
+			progressManager.notifyListeners();
+			processEvents();
+
+			for (Job job : jobs) {
+				assertEquals(0, countJobs(job));
+			}
+			assertTrue("Short lived jobs should not reach the listeners",
+					progressManager.getSuppressedJobCount() - suppressedBefore >= jobs.size());
+
+			// jobs which are kept must still show up in the view
+			Job keptJob = runDummyJob();
+			processEventsUntil(() -> countJobs(keptJob) == 1, 1000);
+			assertEquals(1, countJobs(keptJob));
+		} finally {
+			progressManager.setVisibilityThreshold(Duration.ofMillis(100));
+		}
+	}
+
+	@Test
+	public void testItemControlsStayBoundedWhileScrolling() throws Exception {
+		Shell shell = new Shell(window.getShell().getDisplay());
+		try {
+			shell.setLayout(new FillLayout());
+			DetailedProgressViewer viewer = new DetailedProgressViewer(shell, SWT.NONE);
+			viewer.setMaxDisplayed(1000);
+			shell.setSize(400, 300);
+			shell.open();
+			processEvents();
+
+			ArrayList<JobInfo> infos = new ArrayList<>();
+			int maxControls = 0;
+			for (int i = 0; i < 500; i++) {
+				JobInfo info = new ExtendedJobInfo(Job.create("Job " + i, monitor -> Status.OK_STATUS));
+				infos.add(info);
+				viewer.add(info);
+				maxControls = Math.max(maxControls, viewer.getProgressInfoItems().length);
+			}
+			processEvents();
+			assertTrue("Too many controls: " + maxControls, maxControls < 100);
+			assertSame(infos.get(0), viewer.getProgressInfoItems()[0].getInfo());
+
+			ScrolledComposite scrolled = (ScrolledComposite) viewer.getControl();
+			int clientHeight = scrolled.getClientArea().height;
+			int contentHeight = scrolled.getContent().getSize().y;
+			for (int y = 0; y <= contentHeight; y += clientHeight / 2) {
+				scrolled.setOrigin(0, y);
+				processEvents();
+				maxControls = Math.max(maxControls, viewer.getProgressInfoItems().length);
+			}
+			assertTrue("Too many controls: " + maxControls, maxControls < 100);
+
+			ProgressInfoItem[] items = viewer.getProgressInfoItems();
+			assertSame(infos.get(infos.size() - 1), items[items.length - 1].getInfo());
+			for (ProgressInfoItem item : items) {
+				assertNotSame("Element above the visible area has a control", infos.get(0), item.getInfo());
+			}
+
+			scrolled.setOrigin(0, 0);
+			processEvents();
+			assertSame(infos.get(0), viewer.getProgressInfoItems()[0].getInfo());
+			assertTrue(viewer.getProgressInfoItems().length < 100);
+		} finally {
+			shell.dispose();
+		}
+	}
+
 	private int countJobs(Job job) {
 		int count = 0;
 		ProgressInfoItem[] progressInfoItems = progressView.getViewer().getProgressInfoItems();